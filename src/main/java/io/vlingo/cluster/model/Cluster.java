@@ -8,12 +8,15 @@
 package io.vlingo.cluster.model;
 
 import io.vlingo.actors.World;
+import io.vlingo.cluster.model.node.Registry;
 
 public class Cluster {
   
   private static final World world = World.start("vlingo-cluster");
   
   private static ClusterSnapshotControl control = null;
+
+  private static volatile Registry registry = null;
   
   public static final synchronized ClusterSnapshotControl controlFor(final String name) throws Exception {
     if (control != null) {
@@ -25,11 +28,26 @@ public class Cluster {
     return control;
   }
 
+  // wait-free; the view may be read from any thread without involving the actors
+  public static ClusterView currentView() {
+    final Registry current = registry;
+    return current == null ? ClusterView.Empty : current.view();
+  }
+
+  public static boolean hasViewChangedSince(final long version) {
+    return currentView().hasChangedSince(version);
+  }
+
   public static boolean isRunning() {
     return control != null;
   }
 
   protected static final synchronized void reset() {
     control = null;
+    registry = null;
+  }
+
+  static void viewsOf(final Registry registry) {
+    Cluster.registry = registry;
   }
 }
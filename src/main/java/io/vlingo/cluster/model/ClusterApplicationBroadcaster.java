@@ -15,6 +15,9 @@ import java.util.function.Consumer;
 import io.vlingo.cluster.model.application.ClusterApplication;
 import io.vlingo.cluster.model.application.ClusterApplicationOutboundStream;
 import io.vlingo.cluster.model.attribute.AttributesClient;
+import io.vlingo.cluster.model.inbound.PooledRawMessage;
+import io.vlingo.cluster.model.node.AddressType;
+import io.vlingo.cluster.model.node.CircuitState;
 import io.vlingo.cluster.model.node.Id;
 import io.vlingo.common.message.RawMessage;
 
@@ -83,6 +86,11 @@ class ClusterApplicationBroadcaster implements ClusterApplication {
     broadcast((app) -> app.informQuorumLost());
   }
 
+  @Override
+  public void informOutboundCircuitState(final Id nodeId, final AddressType type, final CircuitState state) {
+    broadcast((app) -> app.informOutboundCircuitState(nodeId, type, state));
+  }
+
   @Override
   public void informAttributesClient(final AttributesClient client) {
     broadcast((app) -> app.informAttributesClient(client));
@@ -124,6 +132,15 @@ class ClusterApplicationBroadcaster implements ClusterApplication {
   @Override
   public void handleApplicationMessage(final RawMessage message, final ClusterApplicationOutboundStream responder) {
   }
+
+  @Override
+  public void handleApplicationMessages(final List<RawMessage> messages, final ClusterApplicationOutboundStream responder) {
+  }
+
+  @Override
+  public void handlePooledApplicationMessage(final PooledRawMessage message, final ClusterApplicationOutboundStream responder) {
+    message.release();
+  }
   
   private void broadcast(final Consumer<ClusterApplication> inform) {
     for (final ClusterApplication app : clusterApplications) {
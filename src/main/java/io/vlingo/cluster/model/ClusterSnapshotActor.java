@@ -7,7 +7,11 @@
 
 package io.vlingo.cluster.model;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
 
@@ -15,9 +19,14 @@ import io.vlingo.actors.Actor;
 import io.vlingo.cluster.model.application.ClusterApplication;
 import io.vlingo.cluster.model.attribute.AttributesAgent;
 import io.vlingo.cluster.model.inbound.InboundResponder;
+import io.vlingo.cluster.model.inbound.InboundStreamDrain;
 import io.vlingo.cluster.model.inbound.InboundStreamInterest;
+import io.vlingo.cluster.model.inbound.PooledRawMessage;
+import io.vlingo.cluster.model.inbound.PrioritizedInboundStreamInterest;
 import io.vlingo.cluster.model.message.OperationalMessage;
+import io.vlingo.cluster.model.message.OperationalMessageView;
 import io.vlingo.cluster.model.node.AddressType;
+import io.vlingo.cluster.model.node.CircuitState;
 import io.vlingo.cluster.model.node.Id;
 import io.vlingo.cluster.model.node.LocalLiveNode;
 import io.vlingo.cluster.model.node.MergeResult;
@@ -27,20 +36,33 @@ import io.vlingo.common.message.RawMessage;
 
 public class ClusterSnapshotActor
   extends Actor
-  implements ClusterSnapshot, ClusterSnapshotControl, InboundStreamInterest, RegistryInterest {
+  implements ClusterSnapshot, ClusterSnapshotControl, InboundStreamDrain, InboundStreamInterest, RegistryInterest {
   
   private final AttributesAgent attributesAgent;
   private final ClusterApplication clusterApplication;
   private final ClusterApplicationBroadcaster broadcaster;
+  private final Map<Id, Integer> codecVersions;
   private final CommunicationsHub communicationsHub;
   private final LocalLiveNode localLiveNode;
   private final Node localNode;
+  private final OperationalMessageView operationalView;
+  private final PrioritizedInboundStreamInterest prioritizedInterest;
   private boolean stopping;
 
   public ClusterSnapshotActor(final ClusterSnapshotInitializer initializer, final ClusterApplication clusterApplication) throws Exception {
     this.broadcaster = new ClusterApplicationBroadcaster();
+    this.codecVersions = new HashMap<>();
+    this.operationalView = new OperationalMessageView();
     this.communicationsHub = initializer.communicationsHub();
-    this.communicationsHub.open(stage(), initializer.localNode(), selfAs(InboundStreamInterest.class), initializer.configuration());
+    this.prioritizedInterest = Properties.instance.inboundPrioritized() ?
+            new PrioritizedInboundStreamInterest(selfAs(InboundStreamDrain.class), Properties.instance.inboundDrainLimit()) :
+            null;
+    this.communicationsHub.open(
+            stage(),
+            initializer.localNode(),
+            prioritizedInterest != null ? prioritizedInterest : selfAs(InboundStreamInterest.class),
+            selfAs(RegistryInterest.class),
+            initializer.configuration());
     this.localNode = initializer.localNode();
     this.clusterApplication = clusterApplication;
     this.broadcaster.registerClusterApplication(clusterApplication);
@@ -124,12 +146,11 @@ public class ClusterSnapshotActor
     }
     
     if (addressType.isOperational()) {
-      final String textMessage = message.asTextMessage();
-      final OperationalMessage typedMessage = OperationalMessage.messageFrom(textMessage);
-      if (typedMessage.isApp()) {
+      final OperationalMessageView view = operationalViewOf(message);
+      if (view.isApp()) {
         attributesAgent.handleInboundStreamMessage(addressType, message, responder);
       } else {
-        localLiveNode.handle(typedMessage);
+        localLiveNode.handle(view.message());
       }
     } else if (addressType.isApplication()) {
       clusterApplication.handleApplicationMessage(message, communicationsHub.clusterApplicationOutboundStream()); // TODO
@@ -142,6 +163,69 @@ public class ClusterSnapshotActor
     }
   }
 
+  @Override
+  public void handleInboundStreamMessages(final AddressType addressType, final List<RawMessage> messages, final InboundResponder responder) {
+    if (isStopped()) {
+      return;
+    }
+    
+    if (addressType.isOperational()) {
+      List<RawMessage> appMessages = null;
+      for (final RawMessage message : messages) {
+        final OperationalMessageView view = operationalViewOf(message);
+        if (view.isApp()) {
+          if (appMessages == null) appMessages = new ArrayList<>(messages.size());
+          appMessages.add(message);
+        } else {
+          localLiveNode.handle(view.message());
+        }
+      }
+      if (appMessages != null) {
+        attributesAgent.handleInboundStreamMessages(addressType, appMessages, responder);
+      }
+    } else if (addressType.isApplication()) {
+      clusterApplication.handleApplicationMessages(messages, communicationsHub.clusterApplicationOutboundStream());
+    } else {
+      for (final RawMessage message : messages) {
+        handleInboundStreamMessage(addressType, message, responder);
+      }
+    }
+  }
+
+  @Override
+  public void handlePooledInboundStreamMessage(final AddressType addressType, final PooledRawMessage message, final InboundResponder responder) {
+    if (isStopped()) {
+      message.release();
+      return;
+    }
+    
+    if (addressType.isOperational()) {
+      final OperationalMessageView view = operationalViewOf(message.message());
+      if (view.isApp()) {
+        attributesAgent.handlePooledInboundStreamMessage(addressType, message, responder);
+      } else {
+        // the view may still refer to the pooled bytes until decoded
+        final OperationalMessage decoded = view.message();
+        message.release();
+        localLiveNode.handle(decoded);
+      }
+    } else if (addressType.isApplication()) {
+      clusterApplication.handlePooledApplicationMessage(message, communicationsHub.clusterApplicationOutboundStream());
+    } else {
+      handleInboundStreamMessage(addressType, message.message(), responder);
+      message.release();
+    }
+  }
+
+
+  //=========================================
+  // InboundStreamDrain
+  //=========================================
+
+  @Override
+  public void drainInboundStream() {
+    prioritizedInterest.drainTo(this);
+  }
 
   //=========================================
   // RegistryInterest
@@ -174,6 +258,7 @@ public class ClusterSnapshotActor
 
     for (final MergeResult mergeResult : mergeResults) {
       if (mergeResult.left()) {
+        forgetCodecVersion(mergeResult.node().id());
         broadcaster.informNodeLeftCluster(mergeResult.node().id(), isHealthyCluster);
       } else if (mergeResult.joined()) {
         broadcaster.informNodeJoinedCluster(mergeResult.node().id(), isHealthyCluster);
@@ -198,11 +283,48 @@ public class ClusterSnapshotActor
 
   @Override
   public void informNodeLeftCluster(final Node node, final boolean isHealthyCluster) {
+    forgetCodecVersion(node.id());
     broadcaster.informNodeLeftCluster(node.id(), isHealthyCluster);
   }
 
   @Override
   public void informNodeTimedOut(final Node node, final boolean isHealthyCluster) {
+    forgetCodecVersion(node.id());
     broadcaster.informNodeLeftCluster(node.id(), isHealthyCluster);
   }
+
+  @Override
+  public void informOutboundCircuitState(final Node node, final AddressType type, final CircuitState state) {
+    broadcaster.informOutboundCircuitState(node.id(), type, state);
+  }
+
+  //=========================================
+  // internal implementation
+  //=========================================
+
+  // a node that returns may decode only text, so until it advertises
+  // otherwise it is sent text
+  private void forgetCodecVersion(final Id id) {
+    if (codecVersions.remove(id) != null) {
+      communicationsHub.operationalOutboundStream().codecVersion(id, 0);
+    }
+  }
+
+  // APP messages are sent in binary only to peers already known to decode it,
+  // and in text without v=, so only the others tell what the sender decodes
+  private OperationalMessageView operationalViewOf(final RawMessage message) {
+    final OperationalMessageView view = operationalView.over(message);
+
+    if (view.kind() != null && !view.isApp()) {
+      final int codecVersion = view.codecVersion();
+      final Id sender = view.sender();
+      final Integer known = codecVersions.get(sender);
+      if (known == null || known != codecVersion) {
+        codecVersions.put(sender, codecVersion);
+        communicationsHub.operationalOutboundStream().codecVersion(sender, codecVersion);
+      }
+    }
+
+    return view;
+  }
 }
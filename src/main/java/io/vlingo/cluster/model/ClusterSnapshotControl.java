@@ -14,6 +14,8 @@ import io.vlingo.cluster.model.application.ClusterApplication;
 public interface ClusterSnapshotControl {
   public static ClusterSnapshotControl instance(final World world, final String name) {
     final ClusterSnapshotInitializer initializer = new ClusterSnapshotInitializer(name, Properties.instance);
+
+    Cluster.viewsOf(initializer.registry());
     
     final ClusterApplication application = ClusterApplication.instance(world, initializer.localNode());
     
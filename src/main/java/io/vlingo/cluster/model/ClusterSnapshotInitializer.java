@@ -26,7 +26,7 @@ class ClusterSnapshotInitializer {
     
     this.localNode = configuration.configuredNodeMatching(localNodeId);
     
-    this.communicationsHub = new NetworkCommunicationsHub();
+    this.communicationsHub = communicationsHubFor(properties.transport());
     
     this.registry = new LocalRegistry(this.localNode, this.configuration);
   }
@@ -50,4 +50,13 @@ class ClusterSnapshotInitializer {
   protected Registry registry() {
     return registry;
   }
+
+  private CommunicationsHub communicationsHubFor(final String transport) {
+    if (transport.equalsIgnoreCase(LoopbackCommunicationsHub.TRANSPORT)) {
+      return new LoopbackCommunicationsHub();
+    } else if (transport.equalsIgnoreCase(SharedMemoryCommunicationsHub.TRANSPORT)) {
+      return new SharedMemoryCommunicationsHub();
+    }
+    return new NetworkCommunicationsHub();
+  }
 }
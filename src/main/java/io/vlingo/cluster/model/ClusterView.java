@@ -0,0 +1,92 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+
+package io.vlingo.cluster.model;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import io.vlingo.cluster.model.node.Id;
+import io.vlingo.cluster.model.node.Node;
+
+// An immutable snapshot of the cluster's membership as known to the local
+// registry, which publishes a new one with a greater version after every
+// change. Any thread may read the latest with Cluster.currentView(), and
+// hold on to it for as long as it needs a consistent membership.
+public final class ClusterView {
+  public static final ClusterView Empty = new ClusterView(0L, Collections.<Node>emptySet(), Node.NO_NODE, false);
+
+  private final boolean hasQuorum;
+  private final Node leader;
+  private final Set<Node> liveNodes;
+  private final Map<Id, Node> liveNodesById;
+  private final long version;
+
+  public static ClusterView of(final long version, final Set<Node> liveNodes, final Node leader, final boolean hasQuorum) {
+    return new ClusterView(version, Collections.unmodifiableSet(liveNodes), leader, hasQuorum);
+  }
+
+  public boolean hasChangedSince(final long version) {
+    return this.version != version;
+  }
+
+  public boolean hasLeader() {
+    return !leader.id().hasNoId();
+  }
+
+  public boolean hasQuorum() {
+    return hasQuorum;
+  }
+
+  public boolean isHealthy() {
+    return hasQuorum && hasLeader();
+  }
+
+  public boolean isLeader(final Id id) {
+    return leader.id().equals(id);
+  }
+
+  public boolean isLive(final Id id) {
+    return liveNodesById.containsKey(id);
+  }
+
+  public Node leader() {
+    return leader;
+  }
+
+  public Set<Node> liveNodes() {
+    return liveNodes;
+  }
+
+  // answers the live node with the id, or null if it isn't live
+  public Node nodeOf(final Id id) {
+    return liveNodesById.get(id);
+  }
+
+  public long version() {
+    return version;
+  }
+
+  @Override
+  public String toString() {
+    return "ClusterView[version=" + version + " leader=" + leader.id() + " quorum=" + hasQuorum + " live=" + liveNodes + "]";
+  }
+
+  private ClusterView(final long version, final Set<Node> liveNodes, final Node leader, final boolean hasQuorum) {
+    this.version = version;
+    this.liveNodes = liveNodes;
+    this.liveNodesById = new HashMap<>(liveNodes.size() * 2);
+    for (final Node node : liveNodes) {
+      this.liveNodesById.put(node.id(), node);
+    }
+    this.leader = leader;
+    this.hasQuorum = hasQuorum;
+  }
+}
@@ -12,11 +12,12 @@ import io.vlingo.cluster.model.application.ClusterApplicationOutboundStream;
 import io.vlingo.cluster.model.inbound.InboundStream;
 import io.vlingo.cluster.model.inbound.InboundStreamInterest;
 import io.vlingo.cluster.model.node.Node;
+import io.vlingo.cluster.model.node.RegistryInterest;
 import io.vlingo.cluster.model.outbound.OperationalOutboundStream;
 
 public interface CommunicationsHub {
   void close();
-  void open(final Stage stage, final Node node, final InboundStreamInterest interest, final Configuration configuration) throws Exception;
+  void open(final Stage stage, final Node node, final InboundStreamInterest interest, final RegistryInterest registryInterest, final Configuration configuration) throws Exception;
   InboundStream applicationInboundStream();
   ClusterApplicationOutboundStream clusterApplicationOutboundStream();
   InboundStream operationalInboundStream();
@@ -0,0 +1,112 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.cluster.model;
+
+import io.vlingo.actors.Stage;
+import io.vlingo.cluster.model.application.ClusterApplicationOutboundStream;
+import io.vlingo.cluster.model.inbound.InboundStream;
+import io.vlingo.cluster.model.inbound.InboundStreamInterest;
+import io.vlingo.cluster.model.inbound.LoopbackInboundReader;
+import io.vlingo.cluster.model.node.AddressType;
+import io.vlingo.cluster.model.node.Node;
+import io.vlingo.cluster.model.node.RegistryInterest;
+import io.vlingo.cluster.model.outbound.LoopbackManagedOutboundChannel;
+import io.vlingo.cluster.model.outbound.ManagedOutboundSocketChannelProvider;
+import io.vlingo.cluster.model.outbound.OperationalOutboundStream;
+import io.vlingo.common.message.ByteBufferPool;
+
+// Connects the nodes of one JVM without sockets: each node's inbound
+// streams are bound to its configured addresses in-process, and its
+// outbound channels offer messages straight to the peers' readers.
+class LoopbackCommunicationsHub implements CommunicationsHub {
+  static final String TRANSPORT = "loopback";
+
+  private InboundStream applicationInboundStream;
+  private ClusterApplicationOutboundStream applicationOutboundStream;
+  private InboundStream operationalInboundStream;
+  private OperationalOutboundStream operationalOutboundStream;
+
+  LoopbackCommunicationsHub() { }
+
+  @Override
+  public void close() {
+    operationalInboundStream.stop();
+    operationalOutboundStream.stop();
+    applicationInboundStream.stop();
+    applicationOutboundStream.stop();
+  }
+
+  @Override
+  public void open(
+          final Stage stage,
+          final Node node,
+          final InboundStreamInterest interest,
+          final RegistryInterest registryInterest,
+          final Configuration configuration)
+  throws Exception {
+
+    final int queueSize = Properties.instance.loopbackQueueSize();
+
+    this.operationalInboundStream =
+            InboundStream.instance(
+                    stage,
+                    interest,
+                    AddressType.OP,
+                    new LoopbackInboundReader(node.operationalAddress(), NetworkCommunicationsHub.OP_NAME, queueSize));
+
+    this.operationalOutboundStream =
+            OperationalOutboundStream.instance(
+                    stage,
+                    node,
+                    new ManagedOutboundSocketChannelProvider(node, AddressType.OP, configuration, LoopbackManagedOutboundChannel::new),
+                    new ByteBufferPool(
+                            Properties.instance.operationalOutgoingPooledBuffers(),
+                            Properties.instance.operationalBufferSize()));
+
+    this.applicationInboundStream =
+            InboundStream.instance(
+                    stage,
+                    interest,
+                    AddressType.APP,
+                    new LoopbackInboundReader(node.applicationAddress(), NetworkCommunicationsHub.APP_NAME, queueSize));
+
+    this.applicationOutboundStream =
+            ClusterApplicationOutboundStream.instance(
+                    stage,
+                    new ManagedOutboundSocketChannelProvider(node, AddressType.APP, configuration, LoopbackManagedOutboundChannel::new),
+                    new ByteBufferPool(
+                            Properties.instance.applicationOutgoingPooledBuffers(),
+                            Properties.instance.applicationBufferSize()));
+  }
+
+  @Override
+  public InboundStream applicationInboundStream() {
+    return applicationInboundStream;
+  }
+
+  @Override
+  public ClusterApplicationOutboundStream clusterApplicationOutboundStream() {
+    return applicationOutboundStream;
+  }
+
+  @Override
+  public InboundStream operationalInboundStream() {
+    return operationalInboundStream;
+  }
+
+  @Override
+  public OperationalOutboundStream operationalOutboundStream() {
+    return operationalOutboundStream;
+  }
+
+  @Override
+  public void start() {
+    operationalInboundStream.start();
+    applicationInboundStream.start();
+  }
+}
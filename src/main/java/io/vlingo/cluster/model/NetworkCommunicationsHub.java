@@ -7,24 +7,49 @@
 
 package io.vlingo.cluster.model;
 
+import java.net.InetSocketAddress;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
 import io.vlingo.actors.Stage;
 import io.vlingo.cluster.model.application.ClusterApplicationOutboundStream;
+import io.vlingo.cluster.model.inbound.DatagramInboundReader;
+import io.vlingo.cluster.model.inbound.InboundReader;
 import io.vlingo.cluster.model.inbound.InboundStream;
 import io.vlingo.cluster.model.inbound.InboundStreamInterest;
+import io.vlingo.cluster.model.node.Address;
 import io.vlingo.cluster.model.node.AddressType;
+import io.vlingo.cluster.model.node.Id;
 import io.vlingo.cluster.model.node.Node;
+import io.vlingo.cluster.model.node.RegistryInterest;
+import io.vlingo.cluster.model.outbound.CoalescingManagedOutboundChannel;
+import io.vlingo.cluster.model.outbound.DatagramHeartbeatChannel;
+import io.vlingo.cluster.model.outbound.ManagedOutboundChannel;
+import io.vlingo.cluster.model.outbound.ManagedOutboundChannelFactory;
+import io.vlingo.cluster.model.outbound.ManagedOutboundChannelProvider;
+import io.vlingo.cluster.model.outbound.ManagedOutboundSocketChannel;
 import io.vlingo.cluster.model.outbound.ManagedOutboundSocketChannelProvider;
+import io.vlingo.cluster.model.outbound.NonBlockingManagedOutboundSocketChannel;
+import io.vlingo.cluster.model.outbound.NonBlockingManagedOutboundSocketChannel.OverflowPolicy;
 import io.vlingo.cluster.model.outbound.OperationalOutboundStream;
+import io.vlingo.cluster.model.outbound.OutboundCircuitBreaker;
+import io.vlingo.cluster.model.outbound.OutboundSelector;
+import io.vlingo.cluster.model.outbound.StripedManagedOutboundChannel;
 import io.vlingo.common.message.ByteBufferPool;
 
 class NetworkCommunicationsHub implements CommunicationsHub {
   protected static final String APP_NAME = "APP";
+  protected static final String HEARTBEAT_NAME = "HB";
   protected static final String OP_NAME = "OP";
   
   private InboundStream applicationInboundStream;
   private ClusterApplicationOutboundStream applicationOutboundStream;
+  private InboundStream heartbeatInboundStream;
   private InboundStream operationalInboundStream;
   private OperationalOutboundStream operationalOutboundStream;
+  private OutboundSelector outboundSelector;
 
   NetworkCommunicationsHub() { }
 
@@ -33,6 +58,14 @@ class NetworkCommunicationsHub implements CommunicationsHub {
     operationalOutboundStream.stop();
     applicationInboundStream.stop();
     applicationOutboundStream.stop();
+
+    if (heartbeatInboundStream != null) {
+      heartbeatInboundStream.stop();
+    }
+
+    if (outboundSelector != null) {
+      outboundSelector.close();
+    }
   }
 
   @Override
@@ -40,40 +73,56 @@ class NetworkCommunicationsHub implements CommunicationsHub {
           final Stage stage,
           final Node node,
           final InboundStreamInterest interest,
+          final RegistryInterest registryInterest,
           final Configuration configuration)
   throws Exception {
-    
+
+    if (Properties.instance.outboundNonBlocking()) {
+      this.outboundSelector = new OutboundSelector(node.name().value());
+    }
+
     this.operationalInboundStream =
             InboundStream.instance(
                     stage,
                     interest,
-                    node.operationalAddress().port(),
                     AddressType.OP,
-                    OP_NAME,
-                    Properties.instance.operationalBufferSize());
+                    inboundReaderFor(node, AddressType.OP, OP_NAME, Properties.instance.operationalBufferSize(), configuration));
     
+    final DatagramHeartbeatChannel heartbeats = heartbeatChannelFor(node, configuration);
+
+    if (heartbeats != null) {
+      this.heartbeatInboundStream =
+              InboundStream.instance(
+                      stage,
+                      interest,
+                      AddressType.OP,
+                      new DatagramInboundReader(
+                              Properties.instance.heartbeatPort(node.name().value()),
+                              HEARTBEAT_NAME,
+                              Properties.instance.operationalBufferSize()));
+    }
+
     this.operationalOutboundStream =
             OperationalOutboundStream.instance(
                     stage,
                     node,
-                    new ManagedOutboundSocketChannelProvider(node, AddressType.OP, configuration),
+                    outboundProviderFor(node, AddressType.OP, registryInterest, configuration),
                     new ByteBufferPool(
                             Properties.instance.operationalOutgoingPooledBuffers(),
-                            Properties.instance.operationalBufferSize()));
+                            Properties.instance.operationalBufferSize()),
+                    heartbeats);
     
     this.applicationInboundStream =
             InboundStream.instance(
                     stage,
                     interest,
-                    node.applicationAddress().port(),
                     AddressType.APP,
-                    APP_NAME,
-                    Properties.instance.applicationBufferSize());
+                    inboundReaderFor(node, AddressType.APP, APP_NAME, Properties.instance.applicationBufferSize(), configuration));
     
     this.applicationOutboundStream =
             ClusterApplicationOutboundStream.instance(
                     stage,
-                    new ManagedOutboundSocketChannelProvider(node, AddressType.APP, configuration),
+                    outboundProviderFor(node, AddressType.APP, registryInterest, configuration),
                     new ByteBufferPool(
                             Properties.instance.applicationOutgoingPooledBuffers(),
                             Properties.instance.applicationBufferSize()));
@@ -103,5 +152,138 @@ class NetworkCommunicationsHub implements CommunicationsHub {
   public void start() {
     operationalInboundStream.start();
     applicationInboundStream.start();
+
+    if (heartbeatInboundStream != null) {
+      heartbeatInboundStream.start();
+    }
+  }
+
+  //=========================================
+  // transport extension
+  //=========================================
+
+  protected static Address addressOf(final Node node, final AddressType type) {
+    return type == AddressType.OP ? node.operationalAddress() : node.applicationAddress();
+  }
+
+  protected InboundReader inboundReaderFor(
+          final Node node,
+          final AddressType type,
+          final String inboundName,
+          final int maxMessageSize,
+          final Configuration configuration)
+  throws Exception {
+
+    return InboundStream.readerFor(addressOf(node, type).port(), type, inboundName, maxMessageSize);
+  }
+
+  protected ManagedOutboundChannelFactory outboundFactoryFor(
+          final Node node,
+          final AddressType type,
+          final RegistryInterest registryInterest,
+          final Configuration configuration) {
+
+    return stripingFactoryFor(type, coalescingFactoryFor(type, channelFactoryFor(type, registryInterest)));
+  }
+
+  //=========================================
+  // internal implementation
+  //=========================================
+
+  // the stripes to a peer, and its channels once reopened, share the one
+  // breaker of the peer and address type, so its state is reported once
+  private ManagedOutboundChannelFactory channelFactoryFor(final AddressType type, final RegistryInterest registryInterest) {
+    final Map<Id, OutboundCircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+    final Function<Node, OutboundCircuitBreaker> breakerOf =
+            peer -> breakers.computeIfAbsent(peer.id(), id -> OutboundCircuitBreaker.of(peer, type, registryInterest));
+
+    if (outboundSelector == null) {
+      return (peer, address) -> new ManagedOutboundSocketChannel(peer, address, breakerOf.apply(peer));
+    }
+
+    final int queueSize = type == AddressType.OP ?
+            Properties.instance.operationalOutboundQueueSize() :
+            Properties.instance.applicationOutboundQueueSize();
+
+    final OverflowPolicy overflowPolicy = OverflowPolicy.from(type == AddressType.OP ?
+            Properties.instance.operationalOutboundQueueOverflow() :
+            Properties.instance.applicationOutboundQueueOverflow());
+
+    return (peer, address) -> new NonBlockingManagedOutboundSocketChannel(peer, address, outboundSelector, queueSize, overflowPolicy,
+            breakerOf.apply(peer));
+  }
+
+  // heartbeats are sent to every node by datagram, or to none
+  private DatagramHeartbeatChannel heartbeatChannelFor(final Node node, final Configuration configuration) throws Exception {
+    if (!Properties.instance.heartbeatDatagram()) {
+      return null;
+    }
+
+    final Map<Id, InetSocketAddress> peers = new HashMap<>();
+
+    for (final Node peer : configuration.allConfiguredNodes()) {
+      final int port = Properties.instance.heartbeatPort(peer.name().value());
+
+      if (port == 0) {
+        System.out.println("vlingo/cluster: No heartbeat.port for node '" + peer.name().value() + "'; heartbeats use the operational sockets.");
+        // TODO: log
+        return null;
+      }
+
+      if (!peer.id().equals(node.id())) {
+        peers.put(peer.id(), new InetSocketAddress(peer.operationalAddress().host(), port));
+      }
+    }
+
+    return new DatagramHeartbeatChannel(peers, Properties.instance.operationalBufferSize());
+  }
+
+  private ManagedOutboundChannelFactory coalescingFactoryFor(final AddressType type, final ManagedOutboundChannelFactory factory) {
+    final boolean operational = type == AddressType.OP;
+
+    final int coalesceCount = operational ?
+            Properties.instance.operationalOutboundCoalesceCount() :
+            Properties.instance.applicationOutboundCoalesceCount();
+
+    if (coalesceCount == 0) {
+      return factory;
+    }
+
+    final int coalesceBytes = operational ?
+            Properties.instance.operationalOutboundCoalesceBytes() :
+            Properties.instance.applicationOutboundCoalesceBytes();
+
+    return (peer, address) -> {
+      final ManagedOutboundChannel channel = factory.unopenedChannelFor(peer, address);
+      return new CoalescingManagedOutboundChannel(channel, coalesceCount, coalesceBytes);
+    };
+  }
+
+  private ManagedOutboundChannelProvider outboundProviderFor(
+          final Node node,
+          final AddressType type,
+          final RegistryInterest registryInterest,
+          final Configuration configuration) {
+
+    final ManagedOutboundChannelFactory factory = outboundFactoryFor(node, type, registryInterest, configuration);
+
+    return new ManagedOutboundSocketChannelProvider(node, type, configuration, factory);
+  }
+
+  private ManagedOutboundChannelFactory stripingFactoryFor(final AddressType type, final ManagedOutboundChannelFactory factory) {
+    final int stripes = type == AddressType.APP ? Properties.instance.applicationOutboundStripes() : 1;
+
+    if (stripes == 1) {
+      return factory;
+    }
+
+    return (peer, address) -> {
+      final ManagedOutboundChannel[] channels = new ManagedOutboundChannel[stripes];
+      for (int idx = 0; idx < stripes; ++idx) {
+        channels[idx] = factory.unopenedChannelFor(peer, address);
+      }
+      return new StripedManagedOutboundChannel(channels);
+    };
   }
 }
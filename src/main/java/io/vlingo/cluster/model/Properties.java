@@ -45,6 +45,30 @@ public final class Properties {
     return size;
   }
 
+  public boolean applicationInboundBatched() {
+    return getBoolean("cluster.app.inbound.batched", false);
+  }
+
+  public int applicationInboundHighWatermark() {
+    final int watermark = getInteger("cluster.app.inbound.high.watermark", 0);
+    return watermark;
+  }
+
+  public int applicationInboundLowWatermark() {
+    final int watermark = getInteger("cluster.app.inbound.low.watermark", 0);
+    return watermark;
+  }
+
+  public int applicationInboundPooledMessages() {
+    final int pooledMessages = getInteger("cluster.app.inbound.pooled.messages", 0);
+    return pooledMessages;
+  }
+
+  public int applicationInboundWorkers() {
+    final int workers = getInteger("cluster.app.inbound.workers", 0);
+    return workers;
+  }
+
   public int applicationOutgoingPooledBuffers() {
     final int pooledBuffers = getInteger("cluster.app.outgoing.pooled.buffers", 50);
 
@@ -55,6 +79,44 @@ public final class Properties {
     return pooledBuffers;
   }
 
+  public int applicationOutboundCoalesceBytes() {
+    final int bytes = getInteger("cluster.app.outbound.coalesce.bytes", 0);
+    return bytes;
+  }
+
+  public int applicationOutboundCoalesceCount() {
+    final int count = getInteger("cluster.app.outbound.coalesce.count", 0);
+    return count;
+  }
+
+  public long applicationOutboundCoalesceDelay() {
+    final long delay = getInteger("cluster.app.outbound.coalesce.delay", 0);
+    return delay;
+  }
+
+  public boolean applicationOutboundPeerWriters() {
+    return getBoolean("cluster.app.outbound.peer.writers", false);
+  }
+
+  public String applicationOutboundQueueOverflow() {
+    return getString("cluster.app.outbound.queue.overflow", "DropOldest");
+  }
+
+  public int applicationOutboundQueueSize() {
+    final int size = getInteger("cluster.app.outbound.queue.size", 1000);
+    return size;
+  }
+
+  public int applicationOutboundStripes() {
+    final int stripes = getInteger("cluster.app.outbound.stripes", 1);
+
+    if (stripes < 1) {
+      throw new IllegalStateException("Must assign at least one application (app) outbound stripe in properties file.");
+    }
+
+    return stripes;
+  }
+
   public int applicationPort(String nodeName) {
     final int port = getInteger(nodeName, "app.port", 0);
 
@@ -97,6 +159,11 @@ public final class Properties {
     return interval;
   }
   
+  public long clusterHealthyNotificationInterval() {
+    final int interval = getInteger("cluster.healthy.notification.interval", 2000);
+    return interval;
+  }
+
   public long clusterHeartbeatInterval() {
     final int interval = getInteger("cluster.heartbeat.interval", 7000);
     return interval;
@@ -112,6 +179,15 @@ public final class Properties {
     return timeout;
   }
 
+  public boolean heartbeatDatagram() {
+    return getBoolean("cluster.heartbeat.datagram", false);
+  }
+
+  public int heartbeatPort(String nodeName) {
+    final int port = getInteger(nodeName, "heartbeat.port", 0);
+    return port;
+  }
+
   public final String host(String nodeName) {
     final String host = getString(nodeName, "host", "");
 
@@ -145,11 +221,51 @@ public final class Properties {
     return name;
   }
 
+  public int inboundDrainLimit() {
+    final int limit = getInteger("cluster.inbound.drain.limit", 100);
+    return limit;
+  }
+
+  public boolean inboundPrioritized() {
+    return getBoolean("cluster.inbound.prioritized", false);
+  }
+
+  public boolean inboundReactor() {
+    return getBoolean("cluster.inbound.reactor", false);
+  }
+
+  public String inboundWorkerAssignment() {
+    return getString("cluster.inbound.worker.assignment", "RoundRobin");
+  }
+
+  public int loopbackQueueSize() {
+    final int size = getInteger("cluster.loopback.queue.size", 1024);
+    return size;
+  }
+
   public int operationalBufferSize() {
     final int size = getInteger("cluster.op.buffer.size", 4096);
     return size;
   }
 
+  public boolean operationalInboundBatched() {
+    return getBoolean("cluster.op.inbound.batched", false);
+  }
+
+  public boolean operationalCodecBinary() {
+    return getString("cluster.op.codec", "binary").equalsIgnoreCase("binary");
+  }
+
+  public int operationalInboundPooledMessages() {
+    final int pooledMessages = getInteger("cluster.op.inbound.pooled.messages", 0);
+    return pooledMessages;
+  }
+
+  public int operationalInboundWorkers() {
+    final int workers = getInteger("cluster.op.inbound.workers", 0);
+    return workers;
+  }
+
   public int operationalOutgoingPooledBuffers() {
     final int pooledBuffers = getInteger("cluster.op.outgoing.pooled.buffers", 20);
 
@@ -160,6 +276,38 @@ public final class Properties {
     return pooledBuffers;
   }
   
+  public String operationalMailboxName() {
+    return getString("cluster.op.mailbox", null);
+  }
+
+  public int operationalOutboundCoalesceBytes() {
+    final int bytes = getInteger("cluster.op.outbound.coalesce.bytes", 0);
+    return bytes;
+  }
+
+  public int operationalOutboundCoalesceCount() {
+    final int count = getInteger("cluster.op.outbound.coalesce.count", 0);
+    return count;
+  }
+
+  public long operationalOutboundCoalesceDelay() {
+    final long delay = getInteger("cluster.op.outbound.coalesce.delay", 0);
+    return delay;
+  }
+
+  public boolean operationalOutboundPeerWriters() {
+    return getBoolean("cluster.op.outbound.peer.writers", false);
+  }
+
+  public String operationalOutboundQueueOverflow() {
+    return getString("cluster.op.outbound.queue.overflow", "DropOldest");
+  }
+
+  public int operationalOutboundQueueSize() {
+    final int size = getInteger("cluster.op.outbound.queue.size", 100);
+    return size;
+  }
+
   public int operationalPort(String nodeName) {
     final int port = getInteger(nodeName, "op.port", 0);
 
@@ -171,6 +319,25 @@ public final class Properties {
     return port;
   }
 
+  public long outboundConnectTimeout() {
+    final long timeout = getInteger("cluster.outbound.connect.timeout", 5000);
+    return timeout;
+  }
+
+  public long outboundInitialBackoff() {
+    final long backoff = getInteger("cluster.outbound.backoff.initial", 100);
+    return backoff;
+  }
+
+  public long outboundMaximumBackoff() {
+    final long backoff = getInteger("cluster.outbound.backoff.maximum", 10000);
+    return backoff;
+  }
+
+  public boolean outboundNonBlocking() {
+    return getBoolean("cluster.outbound.nonblocking", false);
+  }
+
   public final List<String> seedNodes() {
     final List<String> seedNodes = new ArrayList<String>();
 
@@ -187,6 +354,24 @@ public final class Properties {
     return seedNodes;
   }
 
+  public String sharedMemoryDirectory() {
+    return getString("cluster.shm.directory", "/dev/shm");
+  }
+
+  public long sharedMemoryIdleMicros() {
+    final long micros = getInteger("cluster.shm.idle.micros", 20);
+    return micros;
+  }
+
+  public int sharedMemoryRingSize() {
+    final int size = getInteger("cluster.shm.ring.size", 1048576);
+    return size;
+  }
+
+  public String transport() {
+    return getString("cluster.transport", "network");
+  }
+
   public boolean useSSL() {
     return getBoolean("cluster.ssl", false);
   }
@@ -0,0 +1,85 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.cluster.model;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.vlingo.cluster.model.inbound.InboundReader;
+import io.vlingo.cluster.model.inbound.SharedMemoryInboundReader;
+import io.vlingo.cluster.model.node.AddressType;
+import io.vlingo.cluster.model.node.Id;
+import io.vlingo.cluster.model.node.Node;
+import io.vlingo.cluster.model.node.RegistryInterest;
+import io.vlingo.cluster.model.outbound.ManagedOutboundChannelFactory;
+import io.vlingo.cluster.model.outbound.SharedMemoryManagedOutboundChannel;
+
+// Connects the nodes configured on the same host through memory-mapped
+// SharedMemoryRings, one per sending node and address, and all others
+// through the sockets of the network hub. Hosts are compared as
+// configured, so nodes on one host must name it identically.
+class SharedMemoryCommunicationsHub extends NetworkCommunicationsHub {
+  static final String TRANSPORT = "shm";
+
+  SharedMemoryCommunicationsHub() { }
+
+  @Override
+  protected InboundReader inboundReaderFor(
+          final Node node,
+          final AddressType type,
+          final String inboundName,
+          final int maxMessageSize,
+          final Configuration configuration)
+  throws Exception {
+
+    final InboundReader fallback = super.inboundReaderFor(node, type, inboundName, maxMessageSize, configuration);
+
+    final List<Id> peers = new ArrayList<>();
+
+    for (final Node peer : configuration.allOtherConfiguredNodes(node.id())) {
+      if (isSameHost(node, peer, type)) {
+        peers.add(peer.id());
+      }
+    }
+
+    return new SharedMemoryInboundReader(
+            fallback,
+            addressOf(node, type),
+            peers,
+            directory(),
+            Properties.instance.sharedMemoryRingSize(),
+            TimeUnit.MICROSECONDS.toNanos(Properties.instance.sharedMemoryIdleMicros()));
+  }
+
+  @Override
+  protected ManagedOutboundChannelFactory outboundFactoryFor(
+          final Node node,
+          final AddressType type,
+          final RegistryInterest registryInterest,
+          final Configuration configuration) {
+
+    final ManagedOutboundChannelFactory fallback = super.outboundFactoryFor(node, type, registryInterest, configuration);
+
+    final File directory = directory();
+    final int ringSize = Properties.instance.sharedMemoryRingSize();
+
+    return (peer, address) -> isSameHost(node, peer, type) ?
+            new SharedMemoryManagedOutboundChannel(node.id(), peer, address, directory, ringSize) :
+            fallback.unopenedChannelFor(peer, address);
+  }
+
+  private File directory() {
+    return new File(Properties.instance.sharedMemoryDirectory());
+  }
+
+  private boolean isSameHost(final Node node, final Node peer, final AddressType type) {
+    return addressOf(node, type).host().equals(addressOf(peer, type).host());
+  }
+}
@@ -8,6 +8,7 @@
 package io.vlingo.cluster.model.application;
 
 import java.util.Collection;
+import java.util.List;
 
 import io.vlingo.actors.Actor;
 import io.vlingo.actors.Definition;
@@ -16,6 +17,9 @@ import io.vlingo.actors.Stoppable;
 import io.vlingo.actors.World;
 import io.vlingo.cluster.model.Properties;
 import io.vlingo.cluster.model.attribute.AttributesClient;
+import io.vlingo.cluster.model.inbound.PooledRawMessage;
+import io.vlingo.cluster.model.node.AddressType;
+import io.vlingo.cluster.model.node.CircuitState;
 import io.vlingo.cluster.model.node.Id;
 import io.vlingo.cluster.model.node.Node;
 import io.vlingo.common.message.RawMessage;
@@ -31,6 +35,22 @@ public interface ClusterApplication extends Startable, Stoppable {
   }
 
   void handleApplicationMessage(final RawMessage message, final ClusterApplicationOutboundStream responder);
+
+  default void handleApplicationMessages(final List<RawMessage> messages, final ClusterApplicationOutboundStream responder) {
+    for (final RawMessage message : messages) {
+      handleApplicationMessage(message, responder);
+    }
+  }
+
+  // the message content is valid only until it is released, so
+  // override only to retain() the message beyond this method
+  default void handlePooledApplicationMessage(final PooledRawMessage message, final ClusterApplicationOutboundStream responder) {
+    try {
+      handleApplicationMessage(message.message(), responder);
+    } finally {
+      message.release();
+    }
+  }
   
   void informAllLiveNodes(final Collection<Id> liveNodes, final boolean isHealthyCluster);
   void informLeaderElected(final Id leaderId, final boolean isHealthyCluster, final boolean isLocalNodeLeading);
@@ -43,6 +63,11 @@ public interface ClusterApplication extends Startable, Stoppable {
   void informQuorumAchieved();
   void informQuorumLost();
 
+  // the circuit to a peer opens after a failed connect, half-opens to
+  // try again once backed off, and closes when the connect succeeds
+  default void informOutboundCircuitState(final Id nodeId, final AddressType type, final CircuitState state) {
+  }
+
   void informAttributesClient(final AttributesClient client);
   void informAttributeSetCreated(final String attributeSetName);
   void informAttributeAdded(final String attributeSetName, final String attributeName);
@@ -35,5 +35,9 @@ public interface ClusterApplicationOutboundStream extends Stoppable {
   }
   
   void broadcast(final RawMessage message);
+  void broadcast(final RawMessage message, final int orderKey);
+  void broadcastUnordered(final RawMessage message);
   void sendTo(final RawMessage message, final Id targetId);
+  void sendTo(final RawMessage message, final Id targetId, final int orderKey);
+  void sendToUnordered(final RawMessage message, final Id targetId);
 }
@@ -11,6 +11,8 @@ import java.util.Collection;
 
 import io.vlingo.cluster.model.attribute.Attribute;
 import io.vlingo.cluster.model.attribute.AttributesClient;
+import io.vlingo.cluster.model.node.AddressType;
+import io.vlingo.cluster.model.node.CircuitState;
 import io.vlingo.cluster.model.node.Id;
 import io.vlingo.cluster.model.node.Node;
 import io.vlingo.common.message.RawMessage;
@@ -96,6 +98,11 @@ public class FakeClusterApplicationActor extends ClusterApplicationAdapter {
     printHealthy(false);
   }
 
+  @Override
+  public void informOutboundCircuitState(final Id nodeId, final AddressType type, final CircuitState state) {
+    System.out.println("APP: Outbound " + type + " circuit to " + nodeId + " is " + state);
+  }
+
   @Override
   public void informAttributesClient(final AttributesClient client) {
     System.out.println("APP: Attributes Client received.");
@@ -15,6 +15,7 @@ import io.vlingo.cluster.model.application.ClusterApplication;
 import io.vlingo.cluster.model.attribute.message.ApplicationMessageType;
 import io.vlingo.cluster.model.attribute.message.ReceivedAttributeMessage;
 import io.vlingo.cluster.model.inbound.InboundResponder;
+import io.vlingo.cluster.model.message.DuplicateSaysDetector;
 import io.vlingo.cluster.model.node.AddressType;
 import io.vlingo.cluster.model.node.Node;
 import io.vlingo.cluster.model.outbound.OperationalOutboundStream;
@@ -23,6 +24,7 @@ import io.vlingo.common.message.RawMessage;
 public class AttributesAgentActor extends Actor implements AttributesAgent {
   private final ConfirmationInterest confirmationInterest;
   private final ConfirmingDistributor confirmingDistributor;
+  private final DuplicateSaysDetector duplicates;
   private final RemoteAttributeRequestHandler remoteRequestHandler;
   private final AttributeSetRepository repository;
   
@@ -43,6 +45,7 @@ public class AttributesAgentActor extends Actor implements AttributesAgent {
     
     this.confirmationInterest = confirmationInterest;
     this.confirmingDistributor = new ConfirmingDistributor(application, node, outbound, configuration);
+    this.duplicates = new DuplicateSaysDetector();
     this.repository = new AttributeSetRepository();
     this.remoteRequestHandler = new RemoteAttributeRequestHandler(confirmingDistributor, repository);
     
@@ -134,6 +137,11 @@ public class AttributesAgentActor extends Actor implements AttributesAgent {
   public void handleInboundStreamMessage(final AddressType addressType, final RawMessage message, final InboundResponder responder) {
     if (addressType.isOperational()) {
       final ReceivedAttributeMessage request = new ReceivedAttributeMessage(message);
+
+      if (duplicates.isDuplicate(request.sourceNodeId(), request.saysSequence())) {
+        return;
+      }
+
       final ApplicationMessageType type = request.type();
       
       switch (type) {
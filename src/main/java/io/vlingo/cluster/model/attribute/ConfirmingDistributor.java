@@ -54,7 +54,7 @@ public final class ConfirmingDistributor {
   protected void distributeTo(final AttributeSet set, final Collection<Node> nodes) {
     final CreateAttributeSet create = new CreateAttributeSet(node, set);
     final Confirmable confirmable = confirmables.unconfirmedFor(create, nodes);
-    outbound.application(ApplicationSays.from(node.id(), node.name(), create.toPayload()), confirmable.unconfirmedNodes());
+    outbound.application(ApplicationSays.from(node.id(), node.name(), create), confirmable.unconfirmedNodes());
     application.informAttributeSetCreated(set.name);
     
     for (final TrackedAttribute tracked : set.all()) {
@@ -71,19 +71,19 @@ public final class ConfirmingDistributor {
     case AddAttribute:
       final AddAttribute add = AddAttribute.from(node, set, tracked);
       final Confirmable addConfirmable = confirmables.unconfirmedFor(add, nodes);
-      outbound.application(ApplicationSays.from(node.id(), node.name(), add.toPayload()), addConfirmable.unconfirmedNodes());
+      outbound.application(ApplicationSays.from(node.id(), node.name(), add), addConfirmable.unconfirmedNodes());
       application.informAttributeAdded(set.name, tracked.attribute.name);
       break;
     case RemoveAttribute:
       final RemoveAttribute remove = RemoveAttribute.from(node, set, tracked);
       final Confirmable removeConfirmable = confirmables.unconfirmedFor(remove, nodes);
-      outbound.application(ApplicationSays.from(node.id(), node.name(), remove.toPayload()), removeConfirmable.unconfirmedNodes());
+      outbound.application(ApplicationSays.from(node.id(), node.name(), remove), removeConfirmable.unconfirmedNodes());
       application.informAttributeRemoved(set.name, tracked.attribute.name);
       break;
     case ReplaceAttribute:
       final ReplaceAttribute replace = ReplaceAttribute.from(node, set, tracked);
       final Confirmable replaceConfirmable = confirmables.unconfirmedFor(replace, nodes);
-      outbound.application(ApplicationSays.from(node.id(), node.name(), replace.toPayload()), replaceConfirmable.unconfirmedNodes());
+      outbound.application(ApplicationSays.from(node.id(), node.name(), replace), replaceConfirmable.unconfirmedNodes());
       application.informAttributeReplaced(set.name, tracked.attribute.name);
       break;
     default:
@@ -97,7 +97,7 @@ public final class ConfirmingDistributor {
           final Node toOriginalSource) {
     
     final ConfirmAttributeSet confirm = new ConfirmAttributeSet(correlatingMessageId, node, set);
-    outbound.application(ApplicationSays.from(node.id(), node.name(), confirm.toPayload()), toOriginalSource.collected());
+    outbound.application(ApplicationSays.from(node.id(), node.name(), confirm), toOriginalSource.collected());
     application.informAttributeSetCreated(set.name);
   }
   
@@ -111,17 +111,17 @@ public final class ConfirmingDistributor {
     switch (type) {
     case AddAttribute:
       final ConfirmAttribute confirmAdd = ConfirmAttribute.from(correlatingMessageId, toOriginalSource, set, tracked, ApplicationMessageType.ConfirmAddAttribute);
-      outbound.application(ApplicationSays.from(node.id(), node.name(), confirmAdd.toPayload()), toOriginalSource.collected());
+      outbound.application(ApplicationSays.from(node.id(), node.name(), confirmAdd), toOriginalSource.collected());
       application.informAttributeAdded(set.name, tracked.attribute.name);
       break;
     case RemoveAttribute:
       final ConfirmAttribute confirmRemove = ConfirmAttribute.from(correlatingMessageId, toOriginalSource, set, tracked, ApplicationMessageType.ConfirmRemoveAttribute);
-      outbound.application(ApplicationSays.from(node.id(), node.name(), confirmRemove.toPayload()), toOriginalSource.collected());
+      outbound.application(ApplicationSays.from(node.id(), node.name(), confirmRemove), toOriginalSource.collected());
       application.informAttributeRemoved(set.name, tracked.attribute.name);
       break;
     case ReplaceAttribute:
       final ConfirmAttribute confirmReplace = ConfirmAttribute.from(correlatingMessageId, toOriginalSource, set, tracked, ApplicationMessageType.ConfirmReplaceAttribute);
-      outbound.application(ApplicationSays.from(node.id(), node.name(), confirmReplace.toPayload()), toOriginalSource.collected());
+      outbound.application(ApplicationSays.from(node.id(), node.name(), confirmReplace), toOriginalSource.collected());
       application.informAttributeReplaced(set.name, tracked.attribute.name);
       break;
     default:
@@ -134,7 +134,7 @@ public final class ConfirmingDistributor {
       System.out.println("REDIST: " + confirmable);
       outbound.application(ApplicationSays.from(
               node.id(), node.name(),
-              confirmable.message().toPayload()),
+              confirmable.message()),
               confirmable.unconfirmedNodes());
     }
   }
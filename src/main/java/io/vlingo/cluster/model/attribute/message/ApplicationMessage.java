@@ -7,9 +7,17 @@
 
 package io.vlingo.cluster.model.attribute.message;
 
+import java.nio.ByteBuffer;
+
+import io.vlingo.cluster.model.message.ApplicationPayload;
+import io.vlingo.cluster.model.message.BinaryMessageConverters;
 import io.vlingo.cluster.model.node.Node;
 
-public abstract class ApplicationMessage {
+// The binary payload is the ordinal of the type followed by the correlating
+// message id, the tracking id and the attribute set name, to which attribute
+// messages add the attribute name, the ordinal of its type and its value in
+// the native encoding of the type. ReceivedAttributeMessage reads it in place.
+public abstract class ApplicationMessage implements ApplicationPayload {
   public static final String NoCorrelatingMessageId = "-";
   
   public final String correlatingMessageId;
@@ -26,5 +34,16 @@ public abstract class ApplicationMessage {
     this.type = type;
   }
   
+  @Override
   public abstract String toPayload();
+
+  @Override
+  public abstract void toBytes(final ByteBuffer buffer);
+
+  protected void headerToBytes(final String attributeSetName, final ByteBuffer buffer) {
+    buffer.put((byte) type.ordinal());
+    BinaryMessageConverters.putString(correlatingMessageId, buffer);
+    BinaryMessageConverters.putString(trackingId, buffer);
+    BinaryMessageConverters.putString(attributeSetName, buffer);
+  }
 }
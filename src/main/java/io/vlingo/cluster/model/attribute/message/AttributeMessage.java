@@ -7,19 +7,22 @@
 
 package io.vlingo.cluster.model.attribute.message;
 
+import java.nio.ByteBuffer;
+
+import io.vlingo.cluster.model.attribute.Attribute;
 import io.vlingo.cluster.model.attribute.AttributeSet;
 import io.vlingo.cluster.model.attribute.TrackedAttribute;
+import io.vlingo.cluster.model.message.BinaryMessageConverters;
 import io.vlingo.cluster.model.node.Node;
 
 public abstract class AttributeMessage extends ApplicationMessage {
   public final String attributeSetName;
   public final String attributeName;
-  public final String attributeType;
-  public final String attributeValue;
+  public final Attribute<?> attribute;
   
   @Override
   public String toPayload() {
-    final StringBuffer buffer = new StringBuffer();
+    final StringBuilder buffer = new StringBuilder();
     
     buffer
       .append(getClass().getSimpleName())
@@ -34,13 +37,64 @@ public abstract class AttributeMessage extends ApplicationMessage {
       .append("\n")
       .append(attributeName)
       .append("\n")
-      .append(attributeType)
+      .append(attribute.type.name())
       .append("\n")
-      .append(attributeValue);
+      .append(attribute.value);
     
     return buffer.toString();
   }
 
+  // the former attributeType field; use attribute.type
+  @Deprecated
+  public String attributeType() {
+    return attribute.type.toString();
+  }
+
+  // the former attributeValue field; use attribute.value
+  @Deprecated
+  public String attributeValue() {
+    return "" + attribute.value;
+  }
+
+  @Override
+  public void toBytes(final ByteBuffer buffer) {
+    headerToBytes(attributeSetName, buffer);
+    BinaryMessageConverters.putString(attributeName, buffer);
+    buffer.put((byte) attribute.type.ordinal());
+
+    final Object value = attribute.value;
+
+    switch (attribute.type) {
+    case Byte:
+      buffer.put((Byte) value);
+      break;
+    case Short:
+      buffer.putShort((Short) value);
+      break;
+    case Integer:
+      buffer.putInt((Integer) value);
+      break;
+    case Long:
+      buffer.putLong((Long) value);
+      break;
+    case Character:
+      buffer.putChar((Character) value);
+      break;
+    case Float:
+      buffer.putFloat((Float) value);
+      break;
+    case Double:
+      buffer.putDouble((Double) value);
+      break;
+    case Boolean:
+      buffer.put((byte) ((Boolean) value ? 1 : 0));
+      break;
+    case String:
+      BinaryMessageConverters.putString((String) value, buffer);
+      break;
+    }
+  }
+
   protected AttributeMessage(final Node node, final AttributeSet set, final TrackedAttribute tracked, final ApplicationMessageType type) {
     this(NoCorrelatingMessageId, node, set, tracked, type);
   }
@@ -50,7 +104,6 @@ public abstract class AttributeMessage extends ApplicationMessage {
     
     this.attributeSetName = set.name;
     this.attributeName = tracked.attribute.name;
-    this.attributeType = tracked.attribute.type.toString();
-    this.attributeValue = "" + tracked.attribute.value;
+    this.attribute = tracked.attribute;
   }
 }
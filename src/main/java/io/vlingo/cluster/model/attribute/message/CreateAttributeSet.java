@@ -7,6 +7,8 @@
 
 package io.vlingo.cluster.model.attribute.message;
 
+import java.nio.ByteBuffer;
+
 import io.vlingo.cluster.model.attribute.AttributeSet;
 import io.vlingo.cluster.model.node.Node;
 
@@ -25,7 +27,7 @@ public final class CreateAttributeSet extends ApplicationMessage {
   
   @Override
   public String toPayload() {
-    final StringBuffer buffer = new StringBuffer();
+    final StringBuilder buffer = new StringBuilder();
     
     buffer
       .append(getClass().getSimpleName())
@@ -38,4 +40,9 @@ public final class CreateAttributeSet extends ApplicationMessage {
     
     return buffer.toString();
   }
+
+  @Override
+  public void toBytes(final ByteBuffer buffer) {
+    headerToBytes(attributeSetName, buffer);
+  }
 }
@@ -5,37 +5,73 @@
 // was not distributed with this file, You can obtain
 // one at https://mozilla.org/MPL/2.0/.
 
+
 package io.vlingo.cluster.model.attribute.message;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.nio.ByteBuffer;
 
 import io.vlingo.cluster.model.attribute.Attribute;
 import io.vlingo.cluster.model.message.ApplicationSays;
+import io.vlingo.cluster.model.message.BinaryMessageConverters;
 import io.vlingo.cluster.model.node.Id;
 import io.vlingo.cluster.model.node.Name;
 import io.vlingo.cluster.model.node.Node;
 import io.vlingo.common.message.RawMessage;
 
+// Reads a binary message in place over the bytes of the RawMessage, which
+// must not be reused until it is handled. The id, says sequence and type
+// are read when received, the strings and the attribute when first asked
+// for. A text message is parsed once into the same fields.
 public final class ReceivedAttributeMessage {
-  private static final String SourceNodeIdKey = "sourceNodeIdKey";
-  private static final String SourceNodeNameKey = "sourceNodeNameKey";
-  
-  private static final String ClassOfMessageKey = "classOfMessage";
-  private static final String CorrelatingMessageIdKey = "correlatingMessageId";
-  private static final String MessageTypeKey = "type";
-  private static final String TrackingIdKey = "trackingId";
-  
-  private static final String AttributeSetNameKey = "attributeSetName";
-  
-  private static final String AttributeNameKey = "attributeName";
-  private static final String AttributeTypeKey = "attributeType";
-  private static final String AttributeValueKey = "attributeValue";
+  private static final Attribute.Type[] AttributeTypes = Attribute.Type.values();
+  private static final ApplicationMessageType[] MessageTypes = ApplicationMessageType.values();
+  private static final int Absent = -1;
+
+  private final ByteBuffer bytes;
+  private final long saysSequence;
+  private final Id sourceNodeId;
+  private final ApplicationMessageType type;
+
+  private Attribute<?> attribute;
+  private String attributeName;
+  private int attributeNameAt = Absent;
+  private String attributeSetName;
+  private int attributeSetNameAt = Absent;
+  private String attributeType;
+  private String attributeValue;
+  private String correlatingMessageId;
+  private int correlatingMessageIdAt = Absent;
+  private Name sourceNodeName;
+  private String trackingId;
+  private int trackingIdAt = Absent;
 
-  private final Map<String,String> payloadMap;
-  
   public ReceivedAttributeMessage(final RawMessage message) {
-    this.payloadMap = parsePayload(message);
+    final ByteBuffer buffer = message.asByteBuffer();
+
+    if (BinaryMessageConverters.isBinary(buffer)) {
+      this.bytes = buffer;
+      this.sourceNodeId = BinaryMessageConverters.appIdOf(buffer);
+      this.saysSequence = BinaryMessageConverters.appSaysSequenceOf(buffer);
+
+      final int payloadAt = BinaryMessageConverters.appPayloadIndexOf(buffer);
+
+      this.type = MessageTypes[buffer.get(payloadAt)];
+      this.correlatingMessageIdAt = payloadAt + 1;
+      this.trackingIdAt = BinaryMessageConverters.skipStringAt(buffer, correlatingMessageIdAt);
+      this.attributeSetNameAt = BinaryMessageConverters.skipStringAt(buffer, trackingIdAt);
+
+      if (hasAttribute(type)) {
+        this.attributeNameAt = BinaryMessageConverters.skipStringAt(buffer, attributeSetNameAt);
+      }
+    } else {
+      final ApplicationSays says = ApplicationSays.from(message.asTextMessage());
+
+      this.bytes = null;
+      this.sourceNodeId = says.id();
+      this.sourceNodeName = says.name();
+      this.saysSequence = says.saysSequence();
+      this.type = parsePayload(says.payload());
+    }
   }
 
   public final Node sourceNode() {
@@ -43,94 +79,169 @@ public final class ReceivedAttributeMessage {
   }
 
   public final Id sourceNodeId() {
-    return Id.of(Integer.parseInt(payloadMap.get(SourceNodeIdKey)));
+    return sourceNodeId;
   }
 
   public final Name sourceNodeName() {
-    return Name.of(payloadMap.get(SourceNodeNameKey));
+    if (sourceNodeName == null) {
+      sourceNodeName = BinaryMessageConverters.appNameOf(bytes);
+    }
+    return sourceNodeName;
+  }
+
+  public final long saysSequence() {
+    return saysSequence;
   }
 
   public final String classOfMessage() {
-    return payloadMap.get(ClassOfMessageKey);
+    switch (type) {
+    case ConfirmCreateAttributeSet:
+      return ConfirmAttributeSet.class.getSimpleName();
+    case ConfirmAddAttribute:
+    case ConfirmReplaceAttribute:
+    case ConfirmRemoveAttribute:
+      return ConfirmAttribute.class.getSimpleName();
+    default:
+      return type.name();
+    }
   }
 
   public final String correlatingMessageId() {
-    return payloadMap.get(CorrelatingMessageIdKey);
+    if (correlatingMessageId == null) {
+      correlatingMessageId = stringAt(correlatingMessageIdAt);
+    }
+    return correlatingMessageId;
   }
 
   public final String trackingId() {
-    return payloadMap.get(TrackingIdKey);
+    if (trackingId == null) {
+      trackingId = stringAt(trackingIdAt);
+    }
+    return trackingId;
   }
   
   public final ApplicationMessageType type() {
-    return ApplicationMessageType.valueOf(payloadMap.get(MessageTypeKey));
+    return type;
   }
   
   public final Attribute<?> attribute() {
-    final Attribute.Type type = Attribute.Type.valueOf(Attribute.Type.class, attributeType());
-    return Attribute.from(attributeName(), type, attributeValue());
+    if (attribute == null) {
+      if (bytes == null) {
+        if (attributeType == null) {
+          return null;
+        }
+        attribute = Attribute.from(attributeName, Attribute.Type.valueOf(attributeType), attributeValue);
+      } else if (attributeNameAt != Absent) {
+        attribute = attributeFrom(BinaryMessageConverters.skipStringAt(bytes, attributeNameAt));
+      }
+    }
+    return attribute;
   }
   
   public final String attributeSetName() {
-    return payloadMap.get(AttributeSetNameKey);
+    if (attributeSetName == null) {
+      attributeSetName = stringAt(attributeSetNameAt);
+    }
+    return attributeSetName;
   }
   
   public final String attributeName() {
-    return payloadMap.get(AttributeNameKey);
+    if (attributeName == null) {
+      attributeName = stringAt(attributeNameAt);
+    }
+    return attributeName;
   }
   
   public final String attributeType() {
-    return payloadMap.get(AttributeTypeKey);
+    if (attributeType == null && attribute() != null) {
+      attributeType = attribute().type.name();
+    }
+    return attributeType;
   }
   
   public final String attributeValue() {
-    return payloadMap.get(AttributeValueKey);
+    if (attributeValue == null && attribute() != null) {
+      attributeValue = String.valueOf(attribute().value);
+    }
+    return attributeValue;
   }
-  
-  private Map<String,String> parsePayload(final RawMessage message) {
-    final Map<String,String> map = new HashMap<>();
-    
-    final ApplicationSays says = ApplicationSays.from(message.asTextMessage());
-    
-    map.put(SourceNodeIdKey, says.id().valueString());
-    map.put(SourceNodeNameKey, says.name().value());
-    
-    final String[] parsed = says.payload().split("\n");
-    
-    map.put(ClassOfMessageKey, parsed[0]);
+
+  //=========================================
+  // internal implementation
+  //=========================================
+
+  private static boolean hasAttribute(final ApplicationMessageType type) {
+    return type != ApplicationMessageType.CreateAttributeSet && type != ApplicationMessageType.ConfirmCreateAttributeSet;
+  }
+
+  private Attribute<?> attributeFrom(final int typeAt) {
+    final Attribute.Type attributeType = AttributeTypes[bytes.get(typeAt)];
+    final int valueAt = typeAt + 1;
+
+    switch (attributeType) {
+    case Byte:
+      return new Attribute<>(attributeName(), bytes.get(valueAt), attributeType);
+    case Short:
+      return new Attribute<>(attributeName(), bytes.getShort(valueAt), attributeType);
+    case Integer:
+      return new Attribute<>(attributeName(), bytes.getInt(valueAt), attributeType);
+    case Long:
+      return new Attribute<>(attributeName(), bytes.getLong(valueAt), attributeType);
+    case Character:
+      return new Attribute<>(attributeName(), bytes.getChar(valueAt), attributeType);
+    case Float:
+      return new Attribute<>(attributeName(), bytes.getFloat(valueAt), attributeType);
+    case Double:
+      return new Attribute<>(attributeName(), bytes.getDouble(valueAt), attributeType);
+    case Boolean:
+      return new Attribute<>(attributeName(), bytes.get(valueAt) != 0, attributeType);
+    case String:
+      return new Attribute<>(attributeName(), BinaryMessageConverters.stringAt(bytes, valueAt), attributeType);
+    }
+
+    throw new IllegalArgumentException("vlingo/cluster: Unknown attribute type: " + attributeType);
+  }
+
+  private ApplicationMessageType parsePayload(final String payload) {
+    final String[] parsed = payload.split("\n");
     
     switch (parsed[0]) {
     case "ConfirmAttributeSet":
-      map.put(CorrelatingMessageIdKey, parsed[1]);
-      map.put(TrackingIdKey, parsed[2]);
-      map.put(MessageTypeKey, parsed[3]);
-      map.put(AttributeSetNameKey, parsed[4]);
-      break;
+      correlatingMessageId = parsed[1];
+      trackingId = parsed[2];
+      attributeSetName = parsed[4];
+      return ApplicationMessageType.valueOf(parsed[3]);
     case "ConfirmAttribute":
-      map.put(CorrelatingMessageIdKey, parsed[1]);
-      map.put(TrackingIdKey, parsed[2]);
-      map.put(MessageTypeKey, parsed[3]);
-      map.put(AttributeSetNameKey, parsed[4]);
-      map.put(AttributeNameKey, parsed[5]);
-      break;
+      correlatingMessageId = parsed[1];
+      trackingId = parsed[2];
+      attributeSetName = parsed[4];
+      attributeName = parsed[5];
+      if (parsed.length > 7) {
+        attributeType = parsed[6];
+        attributeValue = parsed[7];
+      }
+      return ApplicationMessageType.valueOf(parsed[3]);
     case "CreateAttributeSet":
-      map.put(TrackingIdKey, parsed[1]);
-      map.put(MessageTypeKey, parsed[2]);
-      map.put(AttributeSetNameKey, parsed[3]);
-      break;
+      correlatingMessageId = ApplicationMessage.NoCorrelatingMessageId;
+      trackingId = parsed[1];
+      attributeSetName = parsed[3];
+      return ApplicationMessageType.valueOf(parsed[2]);
     case "AddAttribute":
     case "RemoveAttribute":
     case "ReplaceAttribute":
-      map.put(CorrelatingMessageIdKey, parsed[1]);
-      map.put(TrackingIdKey, parsed[2]);
-      map.put(MessageTypeKey, parsed[3]);
-      map.put(AttributeSetNameKey, parsed[4]);
-      map.put(AttributeNameKey, parsed[5]);
-      map.put(AttributeTypeKey, parsed[6]);
-      map.put(AttributeValueKey, parsed[7]);
-      break;
+      correlatingMessageId = parsed[1];
+      trackingId = parsed[2];
+      attributeSetName = parsed[4];
+      attributeName = parsed[5];
+      attributeType = parsed[6];
+      attributeValue = parsed[7];
+      return ApplicationMessageType.valueOf(parsed[3]);
     }
-    
-    return map;
+
+    return null;
+  }
+
+  private String stringAt(final int index) {
+    return bytes == null || index == Absent ? null : BinaryMessageConverters.stringAt(bytes, index);
   }
 }
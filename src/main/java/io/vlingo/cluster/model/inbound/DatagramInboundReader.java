@@ -0,0 +1,125 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.cluster.model.inbound;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.DatagramChannel;
+
+import io.vlingo.common.message.RawMessage;
+
+// Receives loss-tolerant operational messages, such as heartbeats, each of
+// which is a whole RawMessage in one datagram. Blocks in receive() on a
+// dedicated thread, so it needs no probing. A datagram that doesn't hold a
+// whole message is dropped, as is any response written back.
+public class DatagramInboundReader implements InboundReader, Runnable {
+  private final DatagramChannel channel;
+  private volatile boolean closed;
+  private InboundReaderConsumer consumer;
+  private final String inboundName;
+  private final int maxMessageSize;
+  private final int port;
+  private final Thread reactor;
+
+  public DatagramInboundReader(final int port, final String inboundName, final int maxMessageSize) throws IOException {
+    this.port = port;
+    this.inboundName = inboundName;
+    this.maxMessageSize = maxMessageSize;
+    this.channel = DatagramChannel.open();
+    this.reactor = new Thread(this, "cluster-" + inboundName + "-inbound-datagram");
+    this.reactor.setDaemon(true);
+  }
+
+  //=========================================
+  // InboundReader
+  //=========================================
+
+  @Override
+  public void close() {
+    if (closed) return;
+
+    closed = true;
+
+    try {
+      channel.close();
+    } catch (Exception e) {
+      // TODO: log
+    }
+  }
+
+  @Override
+  public String inboundName() {
+    return inboundName;
+  }
+
+  @Override
+  public boolean isReactive() {
+    return true;
+  }
+
+  @Override
+  public void openFor(final InboundReaderConsumer consumer) throws IOException {
+    if (closed) return;
+
+    this.consumer = consumer;
+
+    channel.bind(new InetSocketAddress(port));
+
+    reactor.start();
+  }
+
+  @Override
+  public void probeChannel() {
+    // the reactor thread exclusively owns the channel
+  }
+
+  //=========================================
+  // Runnable
+  //=========================================
+
+  @Override
+  public void run() {
+    final ByteBuffer buffer = ByteBuffer.allocate(maxMessageSize);
+
+    while (!closed) {
+      try {
+        buffer.clear();
+        channel.receive(buffer);
+        buffer.flip();
+        consume(buffer);
+      } catch (ClosedChannelException e) {
+        break; // closed while blocked in receive()
+      } catch (IOException e) {
+        // TODO: log
+        e.printStackTrace(System.err);
+      }
+    }
+
+    System.out.println("vlingo/cluster: Inbound datagram reader stopped: for '" + inboundName + "'");
+  }
+
+  //=========================================
+  // internal implementation
+  //=========================================
+
+  private void consume(final ByteBuffer buffer) {
+    final RawMessage message;
+
+    try {
+      message = RawMessage.from(buffer);
+    } catch (Exception e) {
+      System.out.println("vlingo/cluster: Dropped malformed datagram for '" + inboundName + "' because: " + e.getMessage());
+      // TODO: log
+      return;
+    }
+
+    consumer.consume(message, DiscardingInboundClientChannel.instance);
+  }
+}
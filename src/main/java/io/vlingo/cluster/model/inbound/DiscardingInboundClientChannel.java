@@ -0,0 +1,22 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.cluster.model.inbound;
+
+import java.nio.ByteBuffer;
+
+// Outbound channels that are not sockets never read, so as with sockets
+// any response written back to them is unseen.
+final class DiscardingInboundClientChannel implements InboundClientChannel {
+  static final InboundClientChannel instance = new DiscardingInboundClientChannel();
+
+  private DiscardingInboundClientChannel() { }
+
+  @Override
+  public void writeBackResponse(final ByteBuffer buffer) {
+  }
+}
@@ -7,16 +7,100 @@
 
 package io.vlingo.cluster.model.inbound;
 
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.SelectionKey;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import io.vlingo.common.message.RawMessageBuilder;
 
 public class InboundChannelInfo {
   private final RawMessageBuilder builder;
+  private final InboundClientChannel clientChannel;
+  private final int highWatermark;
+  private SelectionKey key;
+  private final int lowWatermark;
+  private final AtomicInteger outstanding;
+  private volatile boolean paused;
+
+  protected InboundChannelInfo(final RawMessageBuilder builder, final InboundClientChannel clientChannel) {
+    this(builder, clientChannel, 0, 0);
+  }
 
-  protected InboundChannelInfo(final RawMessageBuilder builder) {
+  protected InboundChannelInfo(
+          final RawMessageBuilder builder,
+          final InboundClientChannel clientChannel,
+          final int highWatermark,
+          final int lowWatermark) {
     this.builder = builder;
+    this.clientChannel = clientChannel;
+    this.highWatermark = highWatermark;
+    this.lowWatermark = lowWatermark;
+    this.outstanding = new AtomicInteger(0);
   }
 
   protected RawMessageBuilder builder() {
     return builder;
   }
+
+  protected InboundClientChannel clientChannel() {
+    return clientChannel;
+  }
+
+  protected boolean isPaused() {
+    return paused;
+  }
+
+  protected int outstanding() {
+    return outstanding.get();
+  }
+
+  //=========================================
+  // backpressure
+  //=========================================
+
+  // called by the reader thread before any message is lent
+  void key(final SelectionKey key) {
+    this.key = key;
+  }
+
+  // called by the reader thread for each message lent to the consumer
+  void lent() {
+    if (outstanding.incrementAndGet() >= highWatermark && highWatermark > 0) {
+      pause();
+    }
+  }
+
+  // called by any thread as each lent message is released
+  void released() {
+    if (outstanding.decrementAndGet() <= lowWatermark && paused) {
+      resume();
+    }
+  }
+
+  private synchronized void pause() {
+    if (!paused && outstanding.get() >= highWatermark) {
+      try {
+        key.interestOps(0);
+        paused = true;
+      } catch (CancelledKeyException e) {
+        // connection closed
+        return;
+      }
+      // released() reads paused without the lock, so releases that drained
+      // the connection before it was set would otherwise never resume it
+      resume();
+    }
+  }
+
+  private synchronized void resume() {
+    if (paused && outstanding.get() <= lowWatermark) {
+      paused = false;
+      try {
+        key.interestOps(SelectionKey.OP_READ);
+        key.selector().wakeup();
+      } catch (CancelledKeyException e) {
+        // connection closed
+      }
+    }
+  }
 }
@@ -12,6 +12,7 @@ import java.io.IOException;
 public interface InboundReader {
   void close();
   String inboundName();
+  boolean isReactive();
   void openFor(final InboundReaderConsumer consumer) throws IOException;
   void probeChannel();
 }
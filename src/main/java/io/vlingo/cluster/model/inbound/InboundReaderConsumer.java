@@ -7,8 +7,24 @@
 
 package io.vlingo.cluster.model.inbound;
 
+import java.util.List;
+
 import io.vlingo.common.message.RawMessage;
 
 public interface InboundReaderConsumer {
   void consume(final RawMessage message, final InboundClientChannel clientChannel);
+
+  default void consume(final PooledRawMessage message, final InboundClientChannel clientChannel) {
+    try {
+      consume(message.message(), clientChannel);
+    } finally {
+      message.release();
+    }
+  }
+
+  default void consume(final List<RawMessage> messages, final InboundClientChannel clientChannel) {
+    for (final RawMessage message : messages) {
+      consume(message, clientChannel);
+    }
+  }
 }
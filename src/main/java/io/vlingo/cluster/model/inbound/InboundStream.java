@@ -13,6 +13,7 @@ import io.vlingo.actors.Definition;
 import io.vlingo.actors.Stage;
 import io.vlingo.actors.Startable;
 import io.vlingo.actors.Stoppable;
+import io.vlingo.cluster.model.Properties;
 import io.vlingo.cluster.model.node.AddressType;
 
 public interface InboundStream extends Startable, Stoppable {
@@ -25,19 +26,80 @@ public interface InboundStream extends Startable, Stoppable {
           final int maxMessageSize)
   throws Exception {
     
-    final InboundReader reader =
-            new SocketChannelInboundReader(port, inboundName, maxMessageSize);
-    
+    final InboundReader reader = readerFor(port, addressType, inboundName, maxMessageSize);
+
+    return instance(stage, interest, addressType, reader);
+  }
+
+  public static InboundStream instance(
+          final Stage stage,
+          final InboundStreamInterest interest,
+          final AddressType addressType,
+          final InboundReader reader) {
+
     final Definition definition =
             Definition.has(
                     InboundStreamActor.class,
                     Definition.parameters(interest, addressType, reader),
-                    "cluster-" + inboundName + "-inbound");
+                    addressType.isOperational() ? Properties.instance.operationalMailboxName() : null,
+                    "cluster-" + reader.inboundName() + "-inbound");
     
     final InboundStream inboundStream = stage.actorFor(definition, InboundStream.class);
     
     return inboundStream;
   }
 
+  static InboundReader readerFor(
+          final int port,
+          final AddressType addressType,
+          final String inboundName,
+          final int maxMessageSize)
+  throws Exception {
+
+    final RawMessagePool pool = poolFor(addressType, maxMessageSize);
+
+    final boolean batched = addressType.isOperational() ?
+            Properties.instance.operationalInboundBatched() :
+            Properties.instance.applicationInboundBatched();
+
+    if (!Properties.instance.inboundReactor()) {
+      return new SocketChannelInboundReader(port, inboundName, maxMessageSize, pool, batched);
+    }
+
+    final int workers = addressType.isOperational() ?
+            Properties.instance.operationalInboundWorkers() :
+            Properties.instance.applicationInboundWorkers();
+
+    if (workers == 0) {
+      return new SocketChannelInboundReactor(port, inboundName, maxMessageSize, pool, batched);
+    }
+
+    return new SocketChannelInboundMultiReactor(
+            port,
+            inboundName,
+            maxMessageSize,
+            pool,
+            batched,
+            workers,
+            SocketChannelInboundMultiReactor.Assignment.from(Properties.instance.inboundWorkerAssignment()));
+  }
+
+  static RawMessagePool poolFor(final AddressType addressType, final int maxMessageSize) {
+    if (addressType.isOperational()) {
+      final int pooledMessages = Properties.instance.operationalInboundPooledMessages();
+
+      return pooledMessages == 0 ? RawMessagePool.None : new RawMessagePool(pooledMessages, maxMessageSize);
+    }
+
+    final int pooledMessages = Properties.instance.applicationInboundPooledMessages();
+    final int highWatermark = Properties.instance.applicationInboundHighWatermark();
+
+    if (pooledMessages == 0 && highWatermark == 0) {
+      return RawMessagePool.None;
+    }
+
+    return new RawMessagePool(pooledMessages, maxMessageSize, highWatermark, Properties.instance.applicationInboundLowWatermark());
+  }
+
   void respondWith(final InboundClientReference clientReference, final ByteBuffer buffer);
 }
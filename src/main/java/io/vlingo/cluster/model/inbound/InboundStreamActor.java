@@ -8,6 +8,7 @@
 package io.vlingo.cluster.model.inbound;
 
 import java.nio.ByteBuffer;
+import java.util.List;
 
 import io.vlingo.actors.Actor;
 import io.vlingo.actors.Cancellable;
@@ -73,7 +74,9 @@ public class InboundStreamActor extends Actor implements InboundReaderConsumer,
       throw new IllegalStateException(e.getMessage(), e);
     }
     
-    cancellable = this.stage().world().scheduler().schedule(selfAs(Scheduled.class), null, 0, 100L);
+    if (!reader.isReactive()) {
+      cancellable = this.stage().world().scheduler().schedule(selfAs(Scheduled.class), null, 0, 100L);
+    }
   }
 
   //=========================================
@@ -98,8 +101,27 @@ public class InboundStreamActor extends Actor implements InboundReaderConsumer,
   // InboundReaderConsumer
   //=========================================
   
+  // NOTE: a reactive reader calls this on its own thread, so only
+  // the final fields and actor proxies may be used here.
   @Override
   public void consume(final RawMessage message, final InboundClientChannel clientChannel) {
     interest.handleInboundStreamMessage(addressType, RawMessage.copy(message), new InboundClientChannelResponder(self, clientChannel));
   }
+
+  // the messages are already copies owned by the interest
+  @Override
+  public void consume(final List<RawMessage> messages, final InboundClientChannel clientChannel) {
+    final InboundResponder responder = new InboundClientChannelResponder(self, clientChannel);
+
+    if (messages.size() == 1) {
+      interest.handleInboundStreamMessage(addressType, messages.get(0), responder);
+    } else {
+      interest.handleInboundStreamMessages(addressType, messages, responder);
+    }
+  }
+
+  @Override
+  public void consume(final PooledRawMessage message, final InboundClientChannel clientChannel) {
+    interest.handlePooledInboundStreamMessage(addressType, message, new InboundClientChannelResponder(self, clientChannel));
+  }
 }
@@ -7,9 +7,25 @@
 
 package io.vlingo.cluster.model.inbound;
 
+import java.util.List;
+
 import io.vlingo.cluster.model.node.AddressType;
 import io.vlingo.common.message.RawMessage;
 
 public interface InboundStreamInterest {
   void handleInboundStreamMessage(final AddressType addressType, final RawMessage message, final InboundResponder responder);
+
+  default void handleInboundStreamMessages(final AddressType addressType, final List<RawMessage> messages, final InboundResponder responder) {
+    for (final RawMessage message : messages) {
+      handleInboundStreamMessage(addressType, message, responder);
+    }
+  }
+
+  default void handlePooledInboundStreamMessage(final AddressType addressType, final PooledRawMessage message, final InboundResponder responder) {
+    try {
+      handleInboundStreamMessage(addressType, message.message(), responder);
+    } finally {
+      message.release();
+    }
+  }
 }
@@ -0,0 +1,85 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.cluster.model.inbound;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.vlingo.common.message.RawMessage;
+
+// A bounded lock-free single-producer single-consumer ring of messages
+// from one outbound channel to one LoopbackInboundReader. Each side only
+// writes its own index, after the slot itself is written or cleared. The
+// consumer frees slots with an ordered (lazySet) store, but the producer
+// publishes with a volatile store so that its check of whether the reader
+// is parked can't be reordered before it, which would miss the wakeup.
+public final class LoopbackConnection {
+  private volatile boolean closed;
+  private final AtomicLong head;
+  private final int mask;
+  private final LoopbackInboundReader reader;
+  private final RawMessage[] ring;
+  private final AtomicLong tail;
+
+  LoopbackConnection(final LoopbackInboundReader reader, final int capacity) {
+    if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+      throw new IllegalArgumentException("vlingo/cluster: Loopback queue size must be a power of two of at least 2.");
+    }
+
+    this.reader = reader;
+    this.ring = new RawMessage[capacity];
+    this.mask = capacity - 1;
+    this.head = new AtomicLong(0);
+    this.tail = new AtomicLong(0);
+  }
+
+  public void close() {
+    closed = true;
+  }
+
+  public boolean isClosed() {
+    return closed;
+  }
+
+  // producer side only; false when the ring is full or the reader closed
+  public boolean offer(final RawMessage message) {
+    if (closed || reader.isClosed()) return false;
+
+    final long currentTail = tail.get();
+
+    if (currentTail - head.get() == ring.length) {
+      return false;
+    }
+
+    ring[(int) (currentTail & mask)] = message;
+    tail.set(currentTail + 1);
+
+    reader.wake();
+
+    return true;
+  }
+
+  // consumer side only
+  RawMessage poll() {
+    final long currentHead = head.get();
+
+    if (currentHead == tail.get()) {
+      return null;
+    }
+
+    final int index = (int) (currentHead & mask);
+    final RawMessage message = ring[index];
+    ring[index] = null;
+    head.lazySet(currentHead + 1);
+
+    return message;
+  }
+
+  boolean isEmpty() {
+    return head.get() == tail.get();
+  }
+}
@@ -0,0 +1,188 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.cluster.model.inbound;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import io.vlingo.cluster.model.node.Address;
+import io.vlingo.common.message.RawMessage;
+
+// Receives the messages of the outbound channels of nodes in the same JVM
+// through LoopbackConnection rings rather than sockets. A dedicated thread
+// drains the rings and parks when all are empty until a producer wakes it.
+public class LoopbackInboundReader implements InboundReader, Runnable {
+  private static final Map<String, LoopbackInboundReader> readers = new ConcurrentHashMap<>();
+
+  private final String address;
+  private volatile boolean closed;
+  private InboundReaderConsumer consumer;
+  private final List<LoopbackConnection> connections;
+  private final String inboundName;
+  private final int maxBatch;
+  private final int queueSize;
+  private final InboundClientChannel responseDiscarder;
+  private volatile boolean sleeping;
+  private final Thread thread;
+
+  public static LoopbackInboundReader readerAt(final Address address) {
+    return readers.get(keyOf(address.host(), address.port()));
+  }
+
+  public LoopbackInboundReader(final Address address, final String inboundName, final int queueSize) {
+    this.address = keyOf(address.host(), address.port());
+    this.inboundName = inboundName;
+    this.queueSize = queueSize;
+    this.maxBatch = queueSize;
+    this.connections = new CopyOnWriteArrayList<>();
+    this.responseDiscarder = DiscardingInboundClientChannel.instance;
+    this.thread = new Thread(this, "cluster-" + inboundName + "-inbound-loopback");
+    this.thread.setDaemon(true);
+  }
+
+  //=========================================
+  // InboundReader
+  //=========================================
+
+  @Override
+  public void close() {
+    if (closed) return;
+
+    closed = true;
+
+    readers.remove(address, this);
+
+    for (final LoopbackConnection connection : connections) {
+      connection.close();
+    }
+
+    LockSupport.unpark(thread);
+  }
+
+  @Override
+  public String inboundName() {
+    return inboundName;
+  }
+
+  @Override
+  public boolean isReactive() {
+    return true;
+  }
+
+  @Override
+  public void openFor(final InboundReaderConsumer consumer) {
+    if (closed) return;
+
+    this.consumer = consumer;
+
+    if (readers.putIfAbsent(address, this) != null) {
+      throw new IllegalStateException("vlingo/cluster: Loopback address already bound: " + address);
+    }
+
+    thread.start();
+  }
+
+  @Override
+  public void probeChannel() {
+    // the loopback thread delivers as soon as a message is offered
+  }
+
+  //=========================================
+  // Runnable
+  //=========================================
+
+  @Override
+  public void run() {
+    while (!closed) {
+      if (drain() == 0) {
+        sleeping = true;
+        if (allEmpty() && !closed) {
+          LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(100));
+        }
+        sleeping = false;
+      }
+    }
+
+    System.out.println("vlingo/cluster: Loopback reader stopped: for '" + inboundName + "'");
+  }
+
+  //=========================================
+  // connection support
+  //=========================================
+
+  public LoopbackConnection connect() {
+    if (closed) {
+      throw new IllegalStateException("vlingo/cluster: Loopback reader is closed: " + address);
+    }
+
+    final LoopbackConnection connection = new LoopbackConnection(this, queueSize);
+    connections.add(connection);
+    return connection;
+  }
+
+  boolean isClosed() {
+    return closed;
+  }
+
+  void wake() {
+    if (sleeping) {
+      LockSupport.unpark(thread);
+    }
+  }
+
+  //=========================================
+  // internal implementation
+  //=========================================
+
+  private static String keyOf(final String host, final int port) {
+    return host + ":" + port;
+  }
+
+  private boolean allEmpty() {
+    for (final LoopbackConnection connection : connections) {
+      if (!connection.isEmpty()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  // the messages are owned by the consumer, as in a batched socket read
+  private int drain() {
+    int drained = 0;
+
+    for (final LoopbackConnection connection : connections) {
+      RawMessage message = connection.poll();
+
+      if (message == null) {
+        if (connection.isClosed()) {
+          connections.remove(connection);
+        }
+        continue;
+      }
+
+      final List<RawMessage> batch = new ArrayList<>();
+
+      while (message != null && batch.size() < maxBatch) {
+        batch.add(message);
+        message = batch.size() < maxBatch ? connection.poll() : null;
+      }
+
+      drained += batch.size();
+
+      consumer.consume(batch, responseDiscarder);
+    }
+
+    return drained;
+  }
+}
@@ -0,0 +1,68 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.cluster.model.inbound;
+
+import java.lang.reflect.Field;
+import java.nio.Buffer;
+import java.nio.MappedByteBuffer;
+
+import sun.misc.Unsafe;
+
+// The volatile loads and stores, and the ordered stores, that a
+// SharedMemoryRing makes at offsets into its mapped file. Java 8 offers
+// these over mapped memory only through sun.misc.Unsafe, which is used
+// nowhere else, so that this is the one class to move to VarHandles.
+@SuppressWarnings("restriction")
+final class MappedMemory {
+  private static final long AddressOffset;
+  private static final Unsafe unsafe;
+
+  static {
+    try {
+      final Field field = Unsafe.class.getDeclaredField("theUnsafe");
+      field.setAccessible(true);
+      unsafe = (Unsafe) field.get(null);
+      AddressOffset = unsafe.objectFieldOffset(Buffer.class.getDeclaredField("address"));
+    } catch (Exception e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+  private final long address;
+  private final MappedByteBuffer mapped; // the address is valid while mapped
+
+  MappedMemory(final MappedByteBuffer mapped) {
+    this.mapped = mapped;
+    this.address = unsafe.getLong(mapped, AddressOffset);
+  }
+
+  int getIntVolatile(final int offset) {
+    return unsafe.getIntVolatile(null, address + offset);
+  }
+
+  long getLong(final int offset) {
+    return unsafe.getLong(address + offset);
+  }
+
+  long getLongVolatile(final int offset) {
+    return unsafe.getLongVolatile(null, address + offset);
+  }
+
+  void putIntVolatile(final int offset, final int value) {
+    unsafe.putIntVolatile(null, address + offset, value);
+  }
+
+  void putLongVolatile(final int offset, final long value) {
+    unsafe.putLongVolatile(null, address + offset, value);
+  }
+
+  // a release store: the accesses before it are visible before the value
+  void putOrderedLong(final int offset, final long value) {
+    unsafe.putOrderedLong(null, address + offset, value);
+  }
+}
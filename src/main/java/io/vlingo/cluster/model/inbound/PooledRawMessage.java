@@ -0,0 +1,78 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.cluster.model.inbound;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.vlingo.common.message.RawMessage;
+
+// A RawMessage lent by a RawMessagePool, holding a copy of the message as
+// read, so that the reader's buffer may be reused at once. The receiver must
+// release() it once finished, after which the message content must no longer
+// be used; retain() before handing it to each additional receiver.
+public final class PooledRawMessage {
+  private InboundChannelInfo lender;
+  private final RawMessage message;
+  private final RawMessagePool pool;
+  private final AtomicInteger references;
+
+  public RawMessage message() {
+    return message;
+  }
+
+  public int references() {
+    return references.get();
+  }
+
+  public PooledRawMessage retain() {
+    if (references.getAndIncrement() <= 0) {
+      references.decrementAndGet();
+      throw new IllegalStateException("vlingo/cluster: Pooled message already released.");
+    }
+    return this;
+  }
+
+  public void release() {
+    final int remaining = references.decrementAndGet();
+
+    if (remaining == 0) {
+      final InboundChannelInfo lender = this.lender;
+      this.lender = null;
+      if (lender != null) {
+        lender.released();
+      }
+      if (pool != null) {
+        pool.returned(this);
+      }
+    } else if (remaining < 0) {
+      references.incrementAndGet();
+      throw new IllegalStateException("vlingo/cluster: Pooled message already released.");
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "PooledRawMessage[references=" + references.get() + " message=" + message + "]";
+  }
+
+  PooledRawMessage(final RawMessagePool pool, final int maxMessageSize) {
+    this.pool = pool;
+    this.message = new RawMessage(maxMessageSize);
+    this.references = new AtomicInteger(0);
+  }
+
+  // copies the source into this pooled message, which avoids allocating
+  // one per message, but not the copy itself
+  PooledRawMessage lendCopyOf(final RawMessage source, final InboundChannelInfo lender) {
+    message.header(source.header());
+    message.put(source.asByteBuffer(), false);
+    this.lender = lender;
+    references.set(1);
+    return this;
+  }
+}
@@ -0,0 +1,143 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.cluster.model.inbound;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.vlingo.cluster.model.node.AddressType;
+import io.vlingo.common.message.RawMessage;
+
+// Sits in front of the actor interested in both inbound streams. Messages
+// are held in one lane per stream, and the actor is only sent a signal to
+// drain them, which it does operational lane first. A burst of application
+// messages therefore never delays the heartbeats queued behind it.
+public class PrioritizedInboundStreamInterest implements InboundStreamInterest {
+  private final Queue<Delivery> applicationLane;
+  private final InboundStreamDrain drain;
+  private final AtomicBoolean drainSignaled;
+  private final int drainLimit;
+  private final Queue<Delivery> operationalLane;
+
+  public PrioritizedInboundStreamInterest(final InboundStreamDrain drain, final int drainLimit) {
+    if (drainLimit < 1) {
+      throw new IllegalArgumentException("vlingo/cluster: Inbound drain limit must be at least 1.");
+    }
+
+    this.drain = drain;
+    this.drainLimit = drainLimit;
+    this.applicationLane = new ConcurrentLinkedQueue<>();
+    this.operationalLane = new ConcurrentLinkedQueue<>();
+    this.drainSignaled = new AtomicBoolean(false);
+  }
+
+  //=========================================
+  // InboundStreamInterest
+  //=========================================
+
+  @Override
+  public void handleInboundStreamMessage(final AddressType addressType, final RawMessage message, final InboundResponder responder) {
+    deliver(new Delivery(addressType, message, null, null, responder));
+  }
+
+  @Override
+  public void handleInboundStreamMessages(final AddressType addressType, final List<RawMessage> messages, final InboundResponder responder) {
+    deliver(new Delivery(addressType, null, messages, null, responder));
+  }
+
+  @Override
+  public void handlePooledInboundStreamMessage(final AddressType addressType, final PooledRawMessage message, final InboundResponder responder) {
+    deliver(new Delivery(addressType, null, null, message, responder));
+  }
+
+  //=========================================
+  // draining
+  //=========================================
+
+  // must be called only by the drain actor in response to its signal;
+  // drains at most drainLimit deliveries and signals again if more remain
+  public void drainTo(final InboundStreamInterest interest) {
+    drainSignaled.set(false);
+
+    for (int count = 0; count < drainLimit; ++count) {
+      Delivery delivery = operationalLane.poll();
+
+      if (delivery == null) {
+        delivery = applicationLane.poll();
+
+        if (delivery == null) {
+          return;
+        }
+      }
+
+      delivery.deliverTo(interest);
+    }
+
+    if (!operationalLane.isEmpty() || !applicationLane.isEmpty()) {
+      signalDrain();
+    }
+  }
+
+  public int pending(final AddressType addressType) {
+    return addressType.isOperational() ? operationalLane.size() : applicationLane.size();
+  }
+
+  //=========================================
+  // internal implementation
+  //=========================================
+
+  private void deliver(final Delivery delivery) {
+    if (delivery.addressType.isOperational()) {
+      operationalLane.add(delivery);
+    } else {
+      applicationLane.add(delivery);
+    }
+
+    signalDrain();
+  }
+
+  private void signalDrain() {
+    if (drainSignaled.compareAndSet(false, true)) {
+      drain.drainInboundStream();
+    }
+  }
+
+  private static final class Delivery {
+    final AddressType addressType;
+    final RawMessage message;
+    final List<RawMessage> messages;
+    final PooledRawMessage pooledMessage;
+    final InboundResponder responder;
+
+    Delivery(
+            final AddressType addressType,
+            final RawMessage message,
+            final List<RawMessage> messages,
+            final PooledRawMessage pooledMessage,
+            final InboundResponder responder) {
+
+      this.addressType = addressType;
+      this.message = message;
+      this.messages = messages;
+      this.pooledMessage = pooledMessage;
+      this.responder = responder;
+    }
+
+    void deliverTo(final InboundStreamInterest interest) {
+      if (pooledMessage != null) {
+        interest.handlePooledInboundStreamMessage(addressType, pooledMessage, responder);
+      } else if (messages != null) {
+        interest.handleInboundStreamMessages(addressType, messages, responder);
+      } else {
+        interest.handleInboundStreamMessage(addressType, message, responder);
+      }
+    }
+  }
+}
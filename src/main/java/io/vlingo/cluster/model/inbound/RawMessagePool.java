@@ -0,0 +1,95 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.cluster.model.inbound;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import io.vlingo.common.message.RawMessage;
+
+public final class RawMessagePool {
+  public static final RawMessagePool None = new RawMessagePool(0, 0);
+
+  private final Queue<PooledRawMessage> available;
+  private final int capacity;
+  private final int highWatermark;
+  private final int lowWatermark;
+  private final int maxMessageSize;
+
+  public RawMessagePool(final int capacity, final int maxMessageSize) {
+    this(capacity, maxMessageSize, 0, 0);
+  }
+
+  // when highWatermark is greater than 0, reading from a connection pauses
+  // while it has that many messages lent out, and resumes once only
+  // lowWatermark remain; capacity may be 0 just to apply the watermarks
+  public RawMessagePool(final int capacity, final int maxMessageSize, final int highWatermark, final int lowWatermark) {
+    if (highWatermark > 0 && (lowWatermark < 0 || lowWatermark >= highWatermark)) {
+      throw new IllegalArgumentException("vlingo/cluster: Low watermark must be at least 0 and below the high watermark.");
+    }
+
+    this.capacity = capacity;
+    this.maxMessageSize = maxMessageSize;
+    this.highWatermark = highWatermark;
+    this.lowWatermark = lowWatermark;
+    this.available = new ConcurrentLinkedQueue<>();
+
+    for (int idx = 0; idx < capacity; ++idx) {
+      available.add(new PooledRawMessage(this, maxMessageSize));
+    }
+  }
+
+  public int available() {
+    return available.size();
+  }
+
+  public int capacity() {
+    return capacity;
+  }
+
+  public int highWatermark() {
+    return highWatermark;
+  }
+
+  public int lowWatermark() {
+    return lowWatermark;
+  }
+
+  public boolean isNone() {
+    return this == None;
+  }
+
+  // copies the source into a pooled message, or into an unpooled
+  // one when all pooled messages are currently lent out
+  public PooledRawMessage lend(final RawMessage source) {
+    return lend(source, null);
+  }
+
+  @Override
+  public String toString() {
+    return "RawMessagePool[capacity=" + capacity + " available=" + available.size() + "]";
+  }
+
+  PooledRawMessage lend(final RawMessage source, final InboundChannelInfo lender) {
+    final PooledRawMessage pooled = available.poll();
+
+    if (lender != null) {
+      lender.lent();
+    }
+
+    if (pooled == null) {
+      return new PooledRawMessage(null, maxMessageSize).lendCopyOf(source, lender);
+    }
+
+    return pooled.lendCopyOf(source, lender);
+  }
+
+  void returned(final PooledRawMessage message) {
+    available.add(message);
+  }
+}
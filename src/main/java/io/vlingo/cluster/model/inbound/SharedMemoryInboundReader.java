@@ -0,0 +1,159 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.cluster.model.inbound;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.LockSupport;
+
+import io.vlingo.cluster.model.node.Address;
+import io.vlingo.cluster.model.node.Id;
+import io.vlingo.common.message.RawMessage;
+
+// Receives the messages of peers on the same host through one
+// SharedMemoryRing per peer, and those of remote peers through the
+// socket reader that it wraps. A dedicated thread polls the rings,
+// parking briefly when all are empty, since another process can't
+// wake it.
+public class SharedMemoryInboundReader implements InboundReader, Runnable {
+  private static final int MaxBatch = 1024;
+
+  private final Address address;
+  private volatile boolean closed;
+  private InboundReaderConsumer consumer;
+  private final File directory;
+  private final InboundReader fallback;
+  private final long idleNanos;
+  private final Collection<Id> peers;
+  private final List<SharedMemoryRing> rings;
+  private final int ringSize;
+  private final Thread thread;
+
+  public static File ringFileFor(final File directory, final Address address, final Id sender) {
+    return new File(directory, "vlingo-cluster-" + address.port() + "-" + sender.value() + ".ring");
+  }
+
+  public SharedMemoryInboundReader(
+          final InboundReader fallback,
+          final Address address,
+          final Collection<Id> peers,
+          final File directory,
+          final int ringSize,
+          final long idleNanos) {
+
+    this.fallback = fallback;
+    this.address = address;
+    this.peers = peers;
+    this.directory = directory;
+    this.ringSize = ringSize;
+    this.idleNanos = idleNanos;
+    this.rings = new CopyOnWriteArrayList<>();
+    this.thread = new Thread(this, "cluster-" + fallback.inboundName() + "-inbound-shm");
+    this.thread.setDaemon(true);
+  }
+
+  //=========================================
+  // InboundReader
+  //=========================================
+
+  @Override
+  public void close() {
+    if (closed) return;
+
+    closed = true;
+
+    fallback.close();
+
+    for (final SharedMemoryRing ring : rings) {
+      ring.close();
+    }
+
+    LockSupport.unpark(thread);
+  }
+
+  @Override
+  public String inboundName() {
+    return fallback.inboundName();
+  }
+
+  @Override
+  public boolean isReactive() {
+    return fallback.isReactive();
+  }
+
+  @Override
+  public void openFor(final InboundReaderConsumer consumer) throws IOException {
+    if (closed) return;
+
+    this.consumer = consumer;
+
+    fallback.openFor(consumer);
+
+    for (final Id peer : peers) {
+      rings.add(SharedMemoryRing.openToConsume(ringFileFor(directory, address, peer), ringSize));
+    }
+
+    if (!rings.isEmpty()) {
+      thread.start();
+    }
+  }
+
+  @Override
+  public void probeChannel() {
+    fallback.probeChannel();
+  }
+
+  //=========================================
+  // Runnable
+  //=========================================
+
+  @Override
+  public void run() {
+    while (!closed) {
+      if (drain() == 0 && !closed) {
+        LockSupport.parkNanos(this, idleNanos);
+      }
+    }
+
+    System.out.println("vlingo/cluster: Shared memory reader stopped: for '" + inboundName() + "'");
+  }
+
+  //=========================================
+  // internal implementation
+  //=========================================
+
+  // the messages are owned by the consumer, as in a batched socket read
+  private int drain() {
+    int drained = 0;
+
+    for (final SharedMemoryRing ring : rings) {
+      RawMessage message = ring.poll();
+
+      if (message == null) {
+        continue;
+      }
+
+      final List<RawMessage> batch = new ArrayList<>();
+
+      while (message != null) {
+        batch.add(message);
+        message = batch.size() < MaxBatch ? ring.poll() : null;
+      }
+
+      drained += batch.size();
+
+      consumer.consume(batch, DiscardingInboundClientChannel.instance);
+    }
+
+    return drained;
+  }
+}
@@ -0,0 +1,229 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.cluster.model.inbound;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+import io.vlingo.common.message.RawMessage;
+
+// A single-producer, single-consumer ring of length-prefixed RawMessage
+// frames in a memory-mapped file, shared by two processes on one host.
+// The head and tail are monotonic byte positions on separate cache lines;
+// each is written only by its owner with an ordered (release) store after
+// its frame accesses, and read by the other side with a volatile (acquire)
+// load before its frame accesses. The reader sets Closed on close so that
+// the writer re-maps the file of the reader's next incarnation, and resets
+// a ring left Closed by an incarnation that died before deleting the file.
+// A frame is decoded in place, unless it wraps around the end of the ring
+// and is first gathered into a buffer reused for every such frame.
+public final class SharedMemoryRing {
+  private static final int Closed = 1;
+  private static final int Open = 0;
+
+  private static final int HeadOffset = 0;
+  private static final int StateOffset = 8;
+  private static final int TailOffset = 64;
+  private static final int DataOffset = 128;
+  private static final int FrameHeaderSize = 4;
+
+  private final int capacity;
+  private final ByteBuffer data;
+  private final File file;
+  private final ByteBuffer frameHeader;
+  private final int mask;
+  private final int maximumLength;
+  private final MappedMemory memory;
+  private ByteBuffer wrappedFrame;
+
+  public static SharedMemoryRing open(final File file, final int capacity) throws IOException {
+    if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+      throw new IllegalArgumentException("vlingo/cluster: Shared memory ring size must be a power of two: " + capacity);
+    }
+
+    final long length = DataOffset + (long) capacity;
+
+    try (final RandomAccessFile ringFile = new RandomAccessFile(file, "rw")) {
+      if (ringFile.length() == 0) {
+        ringFile.setLength(length);
+      } else if (ringFile.length() != length) {
+        throw new IllegalStateException("vlingo/cluster: Shared memory ring " + file + " has size " + ringFile.length() + " but expected " + length);
+      }
+      // the mapping remains valid after the file is closed
+      return new SharedMemoryRing(file, capacity, ringFile.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, length));
+    }
+  }
+
+  // opened by the reader, which owns the state of the ring
+  public static SharedMemoryRing openToConsume(final File file, final int capacity) throws IOException {
+    final SharedMemoryRing ring = open(file, capacity);
+
+    if (ring.isClosed()) {
+      ring.reset();
+    }
+
+    return ring;
+  }
+
+  private SharedMemoryRing(final File file, final int capacity, final MappedByteBuffer mapped) {
+    this.file = file;
+    this.capacity = capacity;
+    this.mask = capacity - 1;
+    this.maximumLength = capacity - FrameHeaderSize;
+    this.memory = new MappedMemory(mapped);
+    mapped.position(DataOffset);
+    this.data = mapped.slice();
+    mapped.clear();
+    this.frameHeader = ByteBuffer.allocate(FrameHeaderSize);
+  }
+
+  //=========================================
+  // producer
+  //=========================================
+
+  public boolean isClosed() {
+    return memory.getIntVolatile(StateOffset) == Closed;
+  }
+
+  // answers false while the ring is too full for the frame
+  public boolean offer(final ByteBuffer buffer) {
+    final int length = buffer.remaining();
+
+    if (length > maximumLength) {
+      throw new IllegalArgumentException("vlingo/cluster: Message of " + length + " bytes exceeds the " + maximumLength + " bytes a shared memory ring of " + capacity + " can hold.");
+    }
+
+    final int frameSize = FrameHeaderSize + length;
+
+    final long tail = memory.getLong(TailOffset);
+    final long head = memory.getLongVolatile(HeadOffset); // frame space is freed before it is reused
+
+    if (tail + frameSize - head > capacity) {
+      return false;
+    }
+
+    frameHeader.clear();
+    frameHeader.putInt(length);
+    frameHeader.flip();
+    copyIn(tail, frameHeader);
+    copyIn(tail + FrameHeaderSize, buffer);
+
+    memory.putOrderedLong(TailOffset, tail + frameSize); // the frame is complete before the tail moves
+
+    return true;
+  }
+
+  //=========================================
+  // consumer
+  //=========================================
+
+  public void close() {
+    memory.putIntVolatile(StateOffset, Closed);
+    file.delete();
+  }
+
+  public boolean isEmpty() {
+    return memory.getLong(HeadOffset) == memory.getLongVolatile(TailOffset);
+  }
+
+  public RawMessage poll() {
+    final long head = memory.getLong(HeadOffset);
+    final long tail = memory.getLongVolatile(TailOffset); // the frame is read only once complete
+
+    if (head == tail) {
+      return null;
+    }
+
+    frameHeader.clear();
+    copyOut(head, frameHeader);
+    frameHeader.flip();
+
+    final int length = frameHeader.getInt();
+
+    if (length < 0 || length > maximumLength || FrameHeaderSize + length > tail - head) {
+      throw new IllegalStateException("vlingo/cluster: Shared memory ring " + file + " has a corrupt frame length: " + length);
+    }
+
+    final RawMessage message = RawMessage.from(frameAt(head + FrameHeaderSize, length));
+
+    memory.putOrderedLong(HeadOffset, head + FrameHeaderSize + length); // the frame is read before its space is reused
+
+    return message;
+  }
+
+  //=========================================
+  // internal implementation
+  //=========================================
+
+  // no writer offers while the ring is Closed, and one that sees it Open
+  // again reads the reset head and tail after that
+  private void reset() {
+    memory.putLongVolatile(HeadOffset, 0);
+    memory.putLongVolatile(TailOffset, 0);
+    memory.putIntVolatile(StateOffset, Open);
+  }
+
+  private ByteBuffer frameAt(final long position, final int length) {
+    final int index = (int) (position & mask);
+
+    if (index + length <= capacity) {
+      data.clear();
+      data.position(index);
+      data.limit(index + length);
+      return data;
+    }
+
+    if (wrappedFrame == null) {
+      wrappedFrame = ByteBuffer.allocate(maximumLength);
+    }
+
+    wrappedFrame.clear();
+    wrappedFrame.limit(length);
+    copyOut(position, wrappedFrame);
+    wrappedFrame.flip();
+
+    return wrappedFrame;
+  }
+
+  private void copyIn(final long position, final ByteBuffer source) {
+    final int index = (int) (position & mask);
+    final int first = Math.min(source.remaining(), capacity - index);
+    final int limit = source.limit();
+
+    data.clear();
+    data.position(index);
+    source.limit(source.position() + first);
+    data.put(source);
+    source.limit(limit);
+
+    if (source.hasRemaining()) {
+      data.clear();
+      data.put(source);
+    }
+  }
+
+  private void copyOut(final long position, final ByteBuffer target) {
+    final int index = (int) (position & mask);
+    final int first = Math.min(target.remaining(), capacity - index);
+
+    data.clear();
+    data.position(index);
+    data.limit(index + first);
+    target.put(data);
+
+    if (target.hasRemaining()) {
+      data.clear();
+      data.limit(target.remaining());
+      target.put(data);
+    }
+  }
+}
@@ -0,0 +1,192 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.cluster.model.inbound;
+
+import java.io.IOException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// The reactor thread only accepts, and hands each accepted client channel
+// to one of N worker threads, each of which reads and frames the messages
+// of its own connections using its own selector.
+public class SocketChannelInboundMultiReactor extends SocketChannelInboundReactor {
+  public enum Assignment {
+    LeastLoaded, RoundRobin;
+
+    public static Assignment from(final String name) {
+      for (final Assignment assignment : values()) {
+        if (assignment.name().equalsIgnoreCase(name)) {
+          return assignment;
+        }
+      }
+      throw new IllegalArgumentException("vlingo/cluster: Unknown inbound worker assignment: " + name);
+    }
+  }
+
+  private final Assignment assignment;
+  private int nextWorker;
+  private final Worker[] workers;
+
+  public SocketChannelInboundMultiReactor(
+          final int port,
+          final String inboundName,
+          final int maxMessageSize,
+          final RawMessagePool pool,
+          final boolean batched,
+          final int workers,
+          final Assignment assignment)
+  throws Exception {
+    super(port, inboundName, maxMessageSize, pool, batched);
+
+    if (workers < 1) {
+      throw new IllegalArgumentException("vlingo/cluster: Inbound reactor workers must be at least 1.");
+    }
+
+    this.assignment = assignment;
+    this.workers = new Worker[workers];
+
+    for (int idx = 0; idx < workers; ++idx) {
+      this.workers[idx] = new Worker("cluster-" + inboundName + "-inbound-worker-" + idx);
+    }
+  }
+
+  //=========================================
+  // InboundReader
+  //=========================================
+
+  @Override
+  public void close() {
+    super.close();
+
+    for (final Worker worker : workers) {
+      worker.close();
+    }
+  }
+
+  @Override
+  public void openFor(final InboundReaderConsumer consumer) throws IOException {
+    super.openFor(consumer);
+
+    if (!isClosed()) {
+      for (final Worker worker : workers) {
+        worker.start();
+      }
+    }
+  }
+
+  //=========================================
+  // reactor support
+  //=========================================
+
+  @Override
+  protected void closeClient(final SocketChannel clientChannel, final SelectionKey key) throws IOException {
+    super.closeClient(clientChannel, key);
+
+    for (final Worker worker : workers) {
+      if (worker.selector == key.selector()) {
+        worker.connections.decrementAndGet();
+        break;
+      }
+    }
+  }
+
+  @Override
+  protected void register(final SocketChannel clientChannel) throws IOException {
+    nextWorker().assign(clientChannel);
+  }
+
+  //=========================================
+  // internal implementation
+  //=========================================
+
+  private Worker nextWorker() {
+    if (assignment == Assignment.RoundRobin) {
+      final Worker worker = workers[nextWorker];
+      nextWorker = (nextWorker + 1) % workers.length;
+      return worker;
+    }
+
+    Worker leastLoaded = workers[0];
+
+    for (int idx = 1; idx < workers.length; ++idx) {
+      if (workers[idx].connections.get() < leastLoaded.connections.get()) {
+        leastLoaded = workers[idx];
+      }
+    }
+
+    return leastLoaded;
+  }
+
+  private class Worker implements Runnable {
+    private final AtomicInteger connections;
+    private final Queue<SocketChannel> pending;
+    private final Selector selector;
+    private final Thread thread;
+
+    Worker(final String name) throws IOException {
+      this.connections = new AtomicInteger(0);
+      this.pending = new ConcurrentLinkedQueue<>();
+      this.selector = Selector.open();
+      this.thread = new Thread(this, name);
+      this.thread.setDaemon(true);
+    }
+
+    void assign(final SocketChannel clientChannel) {
+      connections.incrementAndGet();
+      pending.add(clientChannel);
+      selector.wakeup();
+    }
+
+    void close() {
+      try {
+        selector.close();
+      } catch (Exception e) {
+        // TODO: log
+      }
+    }
+
+    void start() {
+      thread.start();
+    }
+
+    @Override
+    public void run() {
+      while (!isClosed()) {
+        try {
+          registerPending();
+          probeChannel(selector, 0L);
+        } catch (ClosedSelectorException e) {
+          break; // closed while blocked in select()
+        } catch (IOException e) {
+          // TODO: log
+          e.printStackTrace(System.err);
+        }
+      }
+    }
+
+    private void registerPending() {
+      SocketChannel clientChannel = pending.poll();
+
+      while (clientChannel != null) {
+        try {
+          registerWith(selector, clientChannel);
+        } catch (IOException e) {
+          connections.decrementAndGet();
+          // TODO: log
+          e.printStackTrace(System.err);
+        }
+        clientChannel = pending.poll();
+      }
+    }
+  }
+}
@@ -0,0 +1,77 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.cluster.model.inbound;
+
+import java.io.IOException;
+import java.nio.channels.ClosedSelectorException;
+
+// Blocks in select() on a dedicated thread and hands each complete message
+// to the consumer as soon as it is read, so it needs no probing. The consumer
+// is called on the reactor thread and may only hand messages off to actors.
+public class SocketChannelInboundReactor extends SocketChannelInboundReader implements Runnable {
+  private final Thread reactor;
+
+  public SocketChannelInboundReactor(final int port, final String inboundName, final int maxMessageSize) throws Exception {
+    this(port, inboundName, maxMessageSize, RawMessagePool.None, false);
+  }
+
+  public SocketChannelInboundReactor(
+          final int port,
+          final String inboundName,
+          final int maxMessageSize,
+          final RawMessagePool pool,
+          final boolean batched)
+  throws Exception {
+    super(port, inboundName, maxMessageSize, pool, batched);
+    this.reactor = new Thread(this, "cluster-" + inboundName + "-inbound-reactor");
+    this.reactor.setDaemon(true);
+  }
+
+  //=========================================
+  // InboundReader
+  //=========================================
+
+  @Override
+  public boolean isReactive() {
+    return true;
+  }
+
+  @Override
+  public void openFor(final InboundReaderConsumer consumer) throws IOException {
+    super.openFor(consumer);
+
+    if (!isClosed()) {
+      reactor.start();
+    }
+  }
+
+  @Override
+  public void probeChannel() {
+    // the reactor thread exclusively owns the selector
+  }
+
+  //=========================================
+  // Runnable
+  //=========================================
+
+  @Override
+  public void run() {
+    while (!isClosed()) {
+      try {
+        probeChannel(selector(), 0L);
+      } catch (ClosedSelectorException e) {
+        break; // closed while blocked in select()
+      } catch (IOException e) {
+        // TODO: log
+        e.printStackTrace(System.err);
+      }
+    }
+
+    System.out.println("vlingo/cluster: Inbound reactor stopped: for '" + inboundName() + "'");
+  }
+}
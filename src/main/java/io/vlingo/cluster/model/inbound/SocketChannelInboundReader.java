@@ -14,25 +14,41 @@ import java.nio.channels.SelectionKey;
 import java.nio.channels.Selector;
 import java.nio.channels.ServerSocketChannel;
 import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 
 import io.vlingo.common.message.RawMessage;
 import io.vlingo.common.message.RawMessageBuilder;
 
 public class SocketChannelInboundReader implements InboundReader {
+  private final boolean batched;
   private final ServerSocketChannel channel;
-  private boolean closed;
+  private volatile boolean closed;
   private InboundReaderConsumer consumer;
   private final String inboundName;
   private final int maxMessageSize;
+  private final RawMessagePool pool;
   private final int port;
   private final Selector selector;
 
   public SocketChannelInboundReader(final int port, final String inboundName, final int maxMessageSize) throws Exception {
+    this(port, inboundName, maxMessageSize, RawMessagePool.None, false);
+  }
+
+  public SocketChannelInboundReader(
+          final int port,
+          final String inboundName,
+          final int maxMessageSize,
+          final RawMessagePool pool,
+          final boolean batched)
+  throws Exception {
     this.port = port;
+    this.batched = batched;
     this.inboundName = inboundName;
     this.channel = ServerSocketChannel.open();
     this.maxMessageSize = maxMessageSize;
+    this.pool = pool;
     this.selector = Selector.open();
   }
 
@@ -75,33 +91,74 @@ public class SocketChannelInboundReader implements InboundReader {
     channel.register(selector, SelectionKey.OP_ACCEPT);
   }
 
+  @Override
+  public boolean isReactive() {
+    return false;
+  }
+
   @Override
   public void probeChannel() {
     if (closed) return;
     
     try {
-      if (selector.select(10L) > 0) {
-        final Iterator<SelectionKey> iterator = selector.selectedKeys().iterator();
-
-        while (iterator.hasNext()) {
-          final SelectionKey key = iterator.next();
-          iterator.remove();
-
-          if (key.isValid()) {
-            if (key.isAcceptable()) {
-              accept(key);
-            } else if (key.isReadable()) {
-              read(key);
-            }
-          }
-        }
-      }
+      probeChannel(selector, 10L);
     } catch (IOException e) {
       // TODO: log
       e.printStackTrace(System.err);
     }
   }
 
+  //=========================================
+  // reactor support
+  //=========================================
+
+  protected boolean isClosed() {
+    return closed;
+  }
+
+  protected Selector selector() {
+    return selector;
+  }
+
+  protected void closeClient(final SocketChannel clientChannel, final SelectionKey key) throws IOException {
+    clientChannel.close();
+    key.cancel();
+  }
+
+  protected void probeChannel(final Selector selector, final long timeout) throws IOException {
+    if (selector.select(timeout) > 0) {
+      final Iterator<SelectionKey> iterator = selector.selectedKeys().iterator();
+
+      while (iterator.hasNext()) {
+        final SelectionKey key = iterator.next();
+        iterator.remove();
+
+        if (key.isValid()) {
+          if (key.isAcceptable()) {
+            accept(key);
+          } else if (key.isReadable()) {
+            read(key);
+          }
+        }
+      }
+    }
+  }
+
+  protected void register(final SocketChannel clientChannel) throws IOException {
+    registerWith(selector, clientChannel);
+  }
+
+  protected void registerWith(final Selector selector, final SocketChannel clientChannel) throws IOException {
+    final InboundChannelInfo info =
+            new InboundChannelInfo(
+                    new RawMessageBuilder(maxMessageSize),
+                    new InboundClientSocketChannel(clientChannel),
+                    pool.highWatermark(),
+                    pool.lowWatermark());
+
+    info.key(clientChannel.register(selector, SelectionKey.OP_READ, info));
+  }
+
   //=========================================
   // internal implementation
   //=========================================
@@ -114,9 +171,7 @@ public class SocketChannelInboundReader implements InboundReader {
   
       clientChannel.configureBlocking(false);
   
-      final SelectionKey clientChannelKey = clientChannel.register(selector, SelectionKey.OP_READ);
-  
-      clientChannelKey.attach(new InboundChannelInfo(new RawMessageBuilder(maxMessageSize)));
+      register(clientChannel);
   
       System.out.println(
               "vlingo/cluster: Accepted new connection for '"
@@ -126,22 +181,28 @@ public class SocketChannelInboundReader implements InboundReader {
     }
   }
 
-  private void closeClient(final SocketChannel clientChannel, final SelectionKey key) throws IOException {
-    clientChannel.close();
-    key.cancel();
-  }
+  private void dispatchMessages(final InboundChannelInfo info) {
+    final RawMessageBuilder builder = info.builder();
 
-  private void dispatchMessages(final RawMessageBuilder builder, final SocketChannel clientChannel) {
     if (!builder.hasContent()) {
       return;
     }
 
     builder.prepareContent().sync();
 
+    List<RawMessage> batch = null;
+
     while (builder.isCurrentMessageComplete()) {
       try {
         final RawMessage message = builder.currentRawMessage();
-        consumer.consume(message, new InboundClientSocketChannel(clientChannel));
+        if (batched) {
+          if (batch == null) batch = new ArrayList<>();
+          batch.add(RawMessage.copy(message));
+        } else if (pool.isNone()) {
+          consumer.consume(message, info.clientChannel());
+        } else {
+          consumer.consume(pool.lend(message, info), info.clientChannel());
+        }
       } catch (Exception e) {
         // TODO: deal with this
         // TODO: log
@@ -154,6 +215,15 @@ public class SocketChannelInboundReader implements InboundReader {
         builder.sync();
       }
     }
+
+    if (batch != null) {
+      try {
+        consumer.consume(batch, info.clientChannel());
+      } catch (Exception e) {
+        // TODO: log
+        e.printStackTrace(System.err);
+      }
+    }
   }
 
   private void read(final SelectionKey key) throws IOException {
@@ -163,7 +233,7 @@ public class SocketChannelInboundReader implements InboundReader {
     
     final boolean continueReading = read(clientChannel, builder);
     
-    dispatchMessages(builder, clientChannel);
+    dispatchMessages(info);
     
     if (!continueReading) {
       System.out.println("vlingo/cluster: Inbound client stream closed: for '" + inboundName + "'");
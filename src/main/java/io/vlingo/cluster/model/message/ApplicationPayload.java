@@ -0,0 +1,18 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+
+package io.vlingo.cluster.model.message;
+
+import java.nio.ByteBuffer;
+
+// The payload of an APP message, which answers its text form only when
+// a peer needs it, and is otherwise written directly into the binary one.
+public interface ApplicationPayload {
+  String toPayload();
+  void toBytes(final ByteBuffer buffer);
+}
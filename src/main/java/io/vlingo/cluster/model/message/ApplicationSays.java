@@ -7,15 +7,30 @@
 
 package io.vlingo.cluster.model.message;
 
-import java.util.UUID;
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicLong;
 
 import io.vlingo.cluster.model.node.Id;
 import io.vlingo.cluster.model.node.Name;
 
+// The saysId is the sender's next sequence number in base 36. The sequence
+// is seeded from the time, shifted to leave room for a million messages a
+// millisecond, so it keeps increasing across restarts of the node.
+// Sent from an ApplicationPayload, the text payload is produced only when
+// a text peer needs it. Received in binary, there is only the binary one:
+// payload() then answers null, and the receiver reads it by payloadToBytes().
+// This replaces the former public payload field; says are equal by name and
+// saysId, whichever form their payload is in.
 public final class ApplicationSays extends OperationalMessage {
+  private static final AtomicLong Sequence = new AtomicLong(System.currentTimeMillis() << 20);
+  private static final int SaysIdRadix = 36;
+
   public final Name name;
-  public final String payload;
   public final String saysId;
+  private final ByteBuffer binaryPayload;
+  private String payload;
+  private final long saysSequence;
+  private final ApplicationPayload source;
 
   public static final ApplicationSays from(final String content) {
     final Id id = OperationalMessagePartsBuilder.idFrom(content);
@@ -27,15 +42,35 @@ public final class ApplicationSays extends OperationalMessage {
   }
 
   public static ApplicationSays from(final Id id, final Name name, final String payload) {
-    return new ApplicationSays(id, name, payload);
+    return new ApplicationSays(id, name, payload, (ApplicationPayload) null);
+  }
+
+  public static ApplicationSays from(final Id id, final Name name, final ApplicationPayload payload) {
+    return new ApplicationSays(id, name, null, payload);
+  }
+
+  // answers the sequence of the saysId, or -1 if it has none
+  public static long sequenceOf(final String saysId) {
+    if (saysId == null || saysId.isEmpty()) {
+      return -1;
+    }
+
+    try {
+      return Long.parseLong(saysId, SaysIdRadix);
+    } catch (NumberFormatException e) {
+      return -1; // not sent as a sequence
+    }
   }
 
-  private ApplicationSays(final Id id, final Name name, final String payload) {
+  private ApplicationSays(final Id id, final Name name, final String payload, final ApplicationPayload source) {
     super(id);
     
     this.name = name;
     this.payload = payload;
-    this.saysId = UUID.randomUUID().toString();
+    this.source = source;
+    this.binaryPayload = null;
+    this.saysSequence = Sequence.incrementAndGet();
+    this.saysId = Long.toString(saysSequence, SaysIdRadix);
   }
 
   private ApplicationSays(final Id id, final Name name, final String saysId, final String payload) {
@@ -43,7 +78,20 @@ public final class ApplicationSays extends OperationalMessage {
     
     this.name = name;
     this.saysId = saysId;
+    this.saysSequence = sequenceOf(saysId);
     this.payload = payload;
+    this.source = null;
+    this.binaryPayload = null;
+  }
+
+  ApplicationSays(final Id id, final Name name, final long saysSequence, final ByteBuffer binaryPayload) {
+    super(id);
+
+    this.name = name;
+    this.saysSequence = saysSequence;
+    this.saysId = Long.toString(saysSequence, SaysIdRadix);
+    this.binaryPayload = binaryPayload;
+    this.source = null;
   }
 
   @Override
@@ -51,18 +99,46 @@ public final class ApplicationSays extends OperationalMessage {
     return true;
   }
 
+  @Override
+  public Kind kind() {
+    return Kind.App;
+  }
+
   public final Name name() {
     return name;
   }
 
+  // answers null when received in binary, as the payload may not have a text
+  // form until it is decoded by the application that sent it; see hasBinaryPayload()
   public final String payload() {
+    if (payload == null && source != null) {
+      payload = source.toPayload();
+    }
     return payload;
   }
 
+  public final boolean hasBinaryPayload() {
+    return source != null || binaryPayload != null;
+  }
+
+  public final void payloadToBytes(final ByteBuffer buffer) {
+    if (source != null) {
+      source.toBytes(buffer);
+    } else if (binaryPayload != null) {
+      buffer.put(binaryPayload.duplicate());
+    } else {
+      throw new IllegalStateException("vlingo/cluster: APP has no binary payload: " + this);
+    }
+  }
+
   public final String saysId() {
     return saysId;
   }
 
+  public final long saysSequence() {
+    return saysSequence;
+  }
+
   @Override
   public boolean equals(final Object other) {
     if (other == null || other.getClass() != ApplicationSays.class) {
@@ -71,16 +147,16 @@ public final class ApplicationSays extends OperationalMessage {
     
     final ApplicationSays otherAppSaid = (ApplicationSays) other;
 
-    return this.name.equals(otherAppSaid.name) && this.payload.equals(otherAppSaid.payload);
+    return this.name.equals(otherAppSaid.name) && this.saysId.equals(otherAppSaid.saysId);
   }
 
   @Override
   public int hashCode() {
-    return 31 * name.hashCode() + payload.hashCode();
+    return 31 * name.hashCode() + saysId.hashCode();
   }
 
   @Override
   public String toString() {
-    return "ApplicationSays[" + id() + "," + name + "," + payload + "]";
+    return "ApplicationSays[" + id() + "," + name + "," + (binaryPayload != null ? "binary" : payload()) + "]";
   }
 }
@@ -0,0 +1,345 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.cluster.model.message;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Set;
+
+import io.vlingo.cluster.model.node.Address;
+import io.vlingo.cluster.model.node.AddressType;
+import io.vlingo.cluster.model.node.Id;
+import io.vlingo.cluster.model.node.Name;
+import io.vlingo.cluster.model.node.Node;
+
+// Encodes the operational messages as a version byte with its high bit
+// set, a type tag, the short node id, and the fields of the type, with
+// each string prefixed by its short length. An APP is encoded only when
+// its payload has a binary form, which follows the name and says sequence
+// to the end of the message, and which is read in place by the receiver. No text message
+// can begin with the version byte, so a receiver tells them apart by it.
+// A node advertises the version it decodes as v= in its text messages,
+// and is sent binary only once it has.
+public class BinaryMessageConverters {
+  public static final int Version = 1;
+
+  static final byte Marker = (byte) (0x80 | Version);
+
+  static final byte DirectoryTag = 1;
+  static final byte ElectTag = 2;
+  static final byte JoinTag = 3;
+  static final byte LeaderTag = 4;
+  static final byte LeaveTag = 5;
+  static final byte PingTag = 6;
+  static final byte PulseTag = 7;
+  static final byte SplitTag = 8;
+  static final byte VoteTag = 9;
+  static final byte DeltaTag = 10;
+  static final byte SyncTag = 11;
+  static final byte AppTag = 12;
+
+  static final int AppNameIndex = 4;
+
+  private static final OperationalMessage.Kind[] KindsByTag = {
+    null,
+    OperationalMessage.Kind.Directory,
+    OperationalMessage.Kind.Elect,
+    OperationalMessage.Kind.Join,
+    OperationalMessage.Kind.Leader,
+    OperationalMessage.Kind.Leave,
+    OperationalMessage.Kind.Ping,
+    OperationalMessage.Kind.Pulse,
+    OperationalMessage.Kind.Split,
+    OperationalMessage.Kind.Vote,
+    OperationalMessage.Kind.DirectoryDelta,
+    OperationalMessage.Kind.Sync,
+    OperationalMessage.Kind.App };
+
+  private static final byte[] TagsByKind = new byte[OperationalMessage.Kind.values().length];
+
+  static {
+    for (byte tag = 1; tag < KindsByTag.length; ++tag) {
+      TagsByKind[KindsByTag[tag].ordinal()] = tag;
+    }
+  }
+
+  public static boolean isBinary(final ByteBuffer buffer) {
+    return buffer.hasRemaining() && (buffer.get(buffer.position()) & 0x80) != 0;
+  }
+
+  public static int versionOf(final ByteBuffer buffer) {
+    return buffer.get(buffer.position()) & 0x7f;
+  }
+
+  // answers the kind of the binary message at the buffer's position, or null
+  public static OperationalMessage.Kind kindOf(final ByteBuffer buffer) {
+    final int tag = buffer.get(buffer.position() + 1);
+    return tag > 0 && tag < KindsByTag.length ? KindsByTag[tag] : null;
+  }
+
+  //=========================================
+  // binary APP payloads, read in place
+  //=========================================
+
+  public static Id appIdOf(final ByteBuffer buffer) {
+    return Id.of(buffer.getShort(buffer.position() + 2));
+  }
+
+  public static Name appNameOf(final ByteBuffer buffer) {
+    return new Name(stringAt(buffer, buffer.position() + AppNameIndex));
+  }
+
+  public static int appPayloadIndexOf(final ByteBuffer buffer) {
+    return appSaysSequenceIndexOf(buffer) + 8;
+  }
+
+  public static long appSaysSequenceOf(final ByteBuffer buffer) {
+    return buffer.getLong(appSaysSequenceIndexOf(buffer));
+  }
+
+  // answers the string prefixed by its short length at the index
+  public static String stringAt(final ByteBuffer buffer, final int index) {
+    final int length = buffer.getShort(index);
+
+    if (buffer.hasArray()) {
+      return new String(buffer.array(), buffer.arrayOffset() + index + 2, length, StandardCharsets.UTF_8);
+    }
+
+    final byte[] bytes = new byte[length];
+    for (int offset = 0; offset < length; ++offset) {
+      bytes[offset] = buffer.get(index + 2 + offset);
+    }
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  // answers the index following the string prefixed by its short length at the index
+  public static int skipStringAt(final ByteBuffer buffer, final int index) {
+    return index + 2 + buffer.getShort(index);
+  }
+
+  public static void putString(final String text, final ByteBuffer buffer) {
+    final byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+    buffer.putShort((short) bytes.length);
+    buffer.put(bytes);
+  }
+
+  public static OperationalMessage messageFrom(final ByteBuffer buffer) {
+    final byte marker = buffer.get();
+
+    if (marker != Marker) {
+      throw new IllegalArgumentException("vlingo/cluster: Unsupported binary message version: " + (marker & 0x7f));
+    }
+
+    final byte tag = buffer.get();
+    final Id id = Id.of(buffer.getShort());
+
+    switch (tag) {
+    case AppTag:
+      return appFrom(id, buffer);
+    case DirectoryTag:
+      return directoryFrom(id, buffer);
+    case DeltaTag:
+      return deltaFrom(id, buffer);
+    case ElectTag:
+      return new Elect(id);
+    case JoinTag:
+      return new Join(nodeFrom(buffer));
+    case LeaderTag:
+      return new Leader(id);
+    case LeaveTag:
+      return new Leave(id);
+    case PingTag:
+      return new Ping(id);
+    case PulseTag:
+      return new Pulse(id);
+    case SplitTag:
+      return new Split(id);
+    case SyncTag:
+      return new Sync(id);
+    case VoteTag:
+      return new Vote(id);
+    }
+
+    return null;
+  }
+
+  public static void messageToBytes(final OperationalMessage message, final ByteBuffer buffer) {
+    switch (message.kind()) {
+    case App:
+      if (((ApplicationSays) message).hasBinaryPayload()) {
+        messageToBytes((ApplicationSays) message, buffer);
+        return;
+      }
+      break;
+    case Directory:
+      messageToBytes((Directory) message, buffer);
+      return;
+    case DirectoryDelta:
+      messageToBytes((DirectoryDelta) message, buffer);
+      return;
+    case Join:
+      messageToBytes((Join) message, buffer);
+      return;
+    case Elect:
+    case Leader:
+    case Leave:
+    case Ping:
+    case Pulse:
+    case Split:
+    case Sync:
+    case Vote:
+      basicMessageToBytes(message, TagsByKind[message.kind().ordinal()], buffer);
+      return;
+    default:
+      break;
+    }
+
+    throw new IllegalArgumentException("vlingo/cluster: No binary encoding for: " + message);
+  }
+
+  public static void messageToBytes(final ApplicationSays app, final ByteBuffer buffer) {
+    basicMessageToBytes(app, AppTag, buffer);
+
+    putString(app.name().value(), buffer);
+    buffer.putLong(app.saysSequence());
+    app.payloadToBytes(buffer);
+  }
+
+  public static void messageToBytes(final Directory dir, final ByteBuffer buffer) {
+    basicMessageToBytes(dir, DirectoryTag, buffer);
+
+    putString(dir.name().value(), buffer);
+    buffer.putLong(dir.incarnation());
+    buffer.putLong(dir.epoch());
+    buffer.putInt(dir.transfer());
+    buffer.putShort((short) dir.sequence());
+    buffer.putShort((short) dir.total());
+    buffer.putShort((short) dir.size());
+
+    for (final Node node : dir.nodes()) {
+      putNode(node, buffer);
+    }
+  }
+
+  public static void messageToBytes(final DirectoryDelta delta, final ByteBuffer buffer) {
+    basicMessageToBytes(delta, DeltaTag, buffer);
+
+    putString(delta.name().value(), buffer);
+    buffer.putLong(delta.incarnation());
+    buffer.putLong(delta.epoch());
+    buffer.putShort((short) delta.joined().size());
+
+    for (final Node node : delta.joined()) {
+      putNode(node, buffer);
+    }
+
+    buffer.putShort((short) delta.left().size());
+
+    for (final Id id : delta.left()) {
+      buffer.putShort(id.value());
+    }
+  }
+
+  public static void messageToBytes(final Join join, final ByteBuffer buffer) {
+    basicMessageToBytes(join, JoinTag, buffer);
+
+    putNode(join.node(), buffer);
+  }
+
+  //=========================================
+  // internal implementation
+  //=========================================
+
+  private static void basicMessageToBytes(final OperationalMessage message, final byte tag, final ByteBuffer buffer) {
+    buffer.put(Marker);
+    buffer.put(tag);
+    buffer.putShort(message.id().value());
+  }
+
+  private static ApplicationSays appFrom(final Id id, final ByteBuffer buffer) {
+    final Name name = new Name(stringFrom(buffer));
+    final long saysSequence = buffer.getLong();
+
+    return new ApplicationSays(id, name, saysSequence, buffer.slice().asReadOnlyBuffer());
+  }
+
+  private static int appSaysSequenceIndexOf(final ByteBuffer buffer) {
+    return skipStringAt(buffer, buffer.position() + AppNameIndex);
+  }
+
+  private static Directory directoryFrom(final Id id, final ByteBuffer buffer) {
+    final Name name = new Name(stringFrom(buffer));
+    final long incarnation = buffer.getLong();
+    final long epoch = buffer.getLong();
+    final int transfer = buffer.getInt();
+    final int sequence = buffer.getShort();
+    final int total = buffer.getShort();
+    final int count = buffer.getShort();
+    final Set<Node> nodes = new HashSet<>(count);
+
+    for (int idx = 0; idx < count; ++idx) {
+      nodes.add(nodeFrom(buffer));
+    }
+
+    return new Directory(id, name, incarnation, epoch, nodes, transfer, sequence, total);
+  }
+
+  private static DirectoryDelta deltaFrom(final Id id, final ByteBuffer buffer) {
+    final Name name = new Name(stringFrom(buffer));
+    final long incarnation = buffer.getLong();
+    final long epoch = buffer.getLong();
+    final int joinedCount = buffer.getShort();
+    final Set<Node> joined = new HashSet<>(joinedCount);
+
+    for (int idx = 0; idx < joinedCount; ++idx) {
+      joined.add(nodeFrom(buffer));
+    }
+
+    final int leftCount = buffer.getShort();
+    final Set<Id> left = new HashSet<>(leftCount);
+
+    for (int idx = 0; idx < leftCount; ++idx) {
+      left.add(Id.of(buffer.getShort()));
+    }
+
+    return new DirectoryDelta(id, name, incarnation, epoch, joined, left);
+  }
+
+  private static Node nodeFrom(final ByteBuffer buffer) {
+    final Id id = Id.of(buffer.getShort());
+    final Name name = new Name(stringFrom(buffer));
+    final Address opAddress = Address.from(stringFrom(buffer), buffer.getInt(), AddressType.OP);
+    final Address appAddress = Address.from(stringFrom(buffer), buffer.getInt(), AddressType.APP);
+
+    return new Node(id, name, opAddress, appAddress);
+  }
+
+  private static void putNode(final Node node, final ByteBuffer buffer) {
+    buffer.putShort(node.id().value());
+    putString(node.name().value(), buffer);
+    putString(node.operationalAddress().host(), buffer);
+    buffer.putInt(node.operationalAddress().port());
+    putString(node.applicationAddress().host(), buffer);
+    buffer.putInt(node.applicationAddress().port());
+  }
+
+  private static String stringFrom(final ByteBuffer buffer) {
+    final int length = buffer.getShort();
+
+    if (!buffer.hasArray()) {
+      final byte[] bytes = new byte[length];
+      buffer.get(bytes);
+      return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    final String text = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+    buffer.position(buffer.position() + length);
+    return text;
+  }
+}
@@ -19,6 +19,11 @@ public final class CheckHealth extends OperationalMessage {
     return true;
   }
 
+  @Override
+  public Kind kind() {
+    return Kind.CheckHealth;
+  }
+
   @Override
   public boolean equals(Object other) {
     if (other == null || other.getClass() != CheckHealth.class) {
@@ -16,22 +16,54 @@ import io.vlingo.cluster.model.node.Name;
 import io.vlingo.cluster.model.node.Node;
 
 public final class Directory extends OperationalMessage {
+  private final long epoch;
+  private final long incarnation;
   private final Name name;
   private final Set<Node> nodes;
+  private final int sequence;
+  private final int total;
+  private final int transfer;
 
   public static final Directory from(final String content) {
     final Id id = OperationalMessagePartsBuilder.idFrom(content);
     final Name name = OperationalMessagePartsBuilder.nameFrom(content);
+    final long incarnation = OperationalMessagePartsBuilder.incarnationFrom(content);
+    final long epoch = OperationalMessagePartsBuilder.epochFrom(content);
     final Set<Node> nodes = OperationalMessagePartsBuilder.nodesFrom(content);
+    final int transfer = OperationalMessagePartsBuilder.intFieldFrom(content, "tx=", 0);
+    final int sequence = OperationalMessagePartsBuilder.intFieldFrom(content, "sq=", 1);
+    final int total = OperationalMessagePartsBuilder.intFieldFrom(content, "of=", 1);
 
-    return new Directory(id, name, nodes);
+    return new Directory(id, name, incarnation, epoch, nodes, transfer, sequence, total);
   }
 
   public Directory(final Id id, final Name name, final Set<Node> nodes) {
+    this(id, name, 0, 0, nodes);
+  }
+
+  public Directory(final Id id, final Name name, final long incarnation, final long epoch, final Set<Node> nodes) {
+    this(id, name, incarnation, epoch, nodes, 0, 1, 1);
+  }
+
+  // one of total chunks of the transfer, which together hold the directory
+  public Directory(
+          final Id id,
+          final Name name,
+          final long incarnation,
+          final long epoch,
+          final Set<Node> nodes,
+          final int transfer,
+          final int sequence,
+          final int total) {
     super(id);
 
     this.name = name;
+    this.incarnation = incarnation;
+    this.epoch = epoch;
     this.nodes = sorted(nodes);
+    this.transfer = transfer;
+    this.sequence = sequence;
+    this.total = total;
   }
 
   @Override
@@ -39,6 +71,37 @@ public final class Directory extends OperationalMessage {
     return true;
   }
 
+  @Override
+  public Kind kind() {
+    return Kind.Directory;
+  }
+
+  // the leader's directory epoch, or 0 if it is not numbered
+  public long epoch() {
+    return epoch;
+  }
+
+  // the start time of the leader that numbered the epoch, or 0 if it is not numbered
+  public long incarnation() {
+    return incarnation;
+  }
+
+  public boolean isChunk() {
+    return total > 1;
+  }
+
+  public int sequence() {
+    return sequence;
+  }
+
+  public int total() {
+    return total;
+  }
+
+  public int transfer() {
+    return transfer;
+  }
+
   public boolean isValid() {
     for (final Node node : nodes) {
       if (!node.isValid()) {
@@ -76,7 +139,7 @@ public final class Directory extends OperationalMessage {
 
   @Override
   public String toString() {
-    return "Directory[" + id() + "," + name + "," + nodes + "]";
+    return "Directory[" + id() + "," + name + ",ep=" + epoch + ",inc=" + incarnation + (isChunk() ? ",tx=" + transfer + ",sq=" + sequence + ",of=" + total : "") + "," + nodes + "]";
   }
 
   private final Set<Node> sorted(Set<Node> nodes) {
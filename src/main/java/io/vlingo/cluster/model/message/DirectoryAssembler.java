@@ -0,0 +1,82 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.cluster.model.message;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import io.vlingo.cluster.model.node.Id;
+import io.vlingo.cluster.model.node.Node;
+
+// Reassembles the chunks of each sender's directory transfer, which
+// arrive in sequence over its single connection. A chunk out of sequence
+// abandons the transfer, and a directory sent whole replaces it.
+public class DirectoryAssembler {
+  private final Map<Id, Transfer> transfers;
+
+  public DirectoryAssembler() {
+    this.transfers = new HashMap<>();
+  }
+
+  // answer the complete directory, or null while chunks are missing
+  public Directory assemble(final Directory dir) {
+    if (!dir.isChunk()) {
+      transfers.remove(dir.id());
+      return dir;
+    }
+
+    Transfer transfer = transfers.get(dir.id());
+
+    if (dir.sequence() == 1) {
+      transfer = new Transfer(dir.transfer(), dir.total());
+      transfers.put(dir.id(), transfer);
+    } else if (transfer == null || !transfer.isNext(dir)) {
+      System.out.println("vlingo/cluster: Directory chunk out of sequence from: " + dir.id() + " " + dir.sequence() + " of " + dir.total());
+      transfers.remove(dir.id());
+      return null;
+    }
+
+    transfer.add(dir);
+
+    if (!transfer.isComplete()) {
+      return null;
+    }
+
+    transfers.remove(dir.id());
+
+    return new Directory(dir.id(), dir.name(), dir.incarnation(), dir.epoch(), transfer.nodes);
+  }
+
+  private static final class Transfer {
+    final int id;
+    int received;
+    final Set<Node> nodes;
+    final int total;
+
+    Transfer(final int id, final int total) {
+      this.id = id;
+      this.total = total;
+      this.nodes = new TreeSet<>();
+    }
+
+    void add(final Directory chunk) {
+      nodes.addAll(chunk.nodes());
+      ++received;
+    }
+
+    boolean isComplete() {
+      return received == total;
+    }
+
+    boolean isNext(final Directory chunk) {
+      return chunk.transfer() == id && chunk.total() == total && chunk.sequence() == received + 1;
+    }
+  }
+}
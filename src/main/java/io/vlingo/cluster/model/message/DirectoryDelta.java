@@ -0,0 +1,102 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.cluster.model.message;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
+
+import io.vlingo.cluster.model.node.Id;
+import io.vlingo.cluster.model.node.Name;
+import io.vlingo.cluster.model.node.Node;
+
+// The change to the leader's directory since the epoch before this one,
+// which is of the same incarnation of the leader only.
+public final class DirectoryDelta extends OperationalMessage {
+  private final long epoch;
+  private final long incarnation;
+  private final Set<Node> joined;
+  private final Set<Id> left;
+  private final Name name;
+
+  public static final DirectoryDelta from(final String content) {
+    final Id id = OperationalMessagePartsBuilder.idFrom(content);
+    final Name name = OperationalMessagePartsBuilder.nameFrom(content);
+    final long incarnation = OperationalMessagePartsBuilder.incarnationFrom(content);
+    final long epoch = OperationalMessagePartsBuilder.epochFrom(content);
+    final Set<Node> joined = OperationalMessagePartsBuilder.joinedNodesFrom(content);
+    final Set<Id> left = OperationalMessagePartsBuilder.leftIdsFrom(content);
+
+    return new DirectoryDelta(id, name, incarnation, epoch, joined, left);
+  }
+
+  public DirectoryDelta(final Id id, final Name name, final long incarnation, final long epoch, final Set<Node> joined, final Set<Id> left) {
+    super(id);
+
+    this.name = name;
+    this.incarnation = incarnation;
+    this.epoch = epoch;
+    this.joined = new TreeSet<Node>(joined);
+    this.left = new TreeSet<Id>(left);
+  }
+
+  @Override
+  public boolean isDirectoryDelta() {
+    return true;
+  }
+
+  @Override
+  public Kind kind() {
+    return Kind.DirectoryDelta;
+  }
+
+  public long epoch() {
+    return epoch;
+  }
+
+  public long incarnation() {
+    return incarnation;
+  }
+
+  public final Set<Node> joined() {
+    return Collections.unmodifiableSet(joined);
+  }
+
+  public final Set<Id> left() {
+    return Collections.unmodifiableSet(left);
+  }
+
+  public final Name name() {
+    return name;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (other == null || other.getClass() != DirectoryDelta.class) {
+      return false;
+    }
+
+    final DirectoryDelta otherDelta = (DirectoryDelta) other;
+
+    return this.id.equals(otherDelta.id) &&
+           this.incarnation == otherDelta.incarnation &&
+           this.epoch == otherDelta.epoch &&
+           this.joined.equals(otherDelta.joined) &&
+           this.left.equals(otherDelta.left);
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * (id.hashCode() + joined.hashCode() + left.hashCode() + Long.hashCode(epoch) + Long.hashCode(incarnation));
+  }
+
+  @Override
+  public String toString() {
+    return "DirectoryDelta[" + id() + "," + name + ",ep=" + epoch + ",inc=" + incarnation + ",+" + joined + ",-" + left + "]";
+  }
+}
@@ -0,0 +1,90 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.cluster.model.message;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import io.vlingo.cluster.model.node.Id;
+
+// Remembers, for each sending node, the highest says sequence received
+// and which of the WindowSize sequences below it have been received. A
+// sequence below the window is taken to be a duplicate.
+public class DuplicateSaysDetector {
+  static final int WindowSize = 1024;
+
+  private final Map<Id, Window> windows;
+
+  public DuplicateSaysDetector() {
+    this.windows = new HashMap<>();
+  }
+
+  public boolean isDuplicate(final Id sender, final long sequence) {
+    if (sequence < 0) {
+      return false; // cannot tell
+    }
+
+    Window window = windows.get(sender);
+
+    if (window == null) {
+      window = new Window();
+      windows.put(sender, window);
+    }
+
+    return !window.receive(sequence);
+  }
+
+  private static final class Window {
+    private long highest = -1;
+    private final long[] received = new long[WindowSize / Long.SIZE];
+
+    // answers false if sequence was already received
+    boolean receive(final long sequence) {
+      if (sequence > highest) {
+        if (highest < 0 || sequence - highest >= WindowSize) {
+          for (int index = 0; index < received.length; ++index) {
+            received[index] = 0;
+          }
+        } else {
+          for (long skipped = highest + 1; skipped < sequence; ++skipped) {
+            clear(skipped);
+          }
+        }
+        highest = sequence;
+        set(sequence);
+        return true;
+      }
+
+      if (highest - sequence >= WindowSize || isSet(sequence)) {
+        return false;
+      }
+
+      set(sequence);
+      return true;
+    }
+
+    private void clear(final long sequence) {
+      final int bit = bitOf(sequence);
+      received[bit >>> 6] &= ~(1L << (bit & 63));
+    }
+
+    private boolean isSet(final long sequence) {
+      final int bit = bitOf(sequence);
+      return (received[bit >>> 6] & (1L << (bit & 63))) != 0;
+    }
+
+    private void set(final long sequence) {
+      final int bit = bitOf(sequence);
+      received[bit >>> 6] |= 1L << (bit & 63);
+    }
+
+    private int bitOf(final long sequence) {
+      return (int) (sequence & (WindowSize - 1));
+    }
+  }
+}
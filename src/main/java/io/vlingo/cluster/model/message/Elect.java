@@ -23,6 +23,11 @@ public final class Elect extends OperationalMessage {
     return true;
   }
 
+  @Override
+  public Kind kind() {
+    return Kind.Elect;
+  }
+
   @Override
   public boolean equals(Object other) {
     if (other == null || other.getClass() != Elect.class) {
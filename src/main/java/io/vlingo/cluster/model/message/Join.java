@@ -27,6 +27,11 @@ public final class Join extends OperationalMessage {
     return true;
   }
 
+  @Override
+  public Kind kind() {
+    return Kind.Join;
+  }
+
   public Node node() {
     return node;
   }
@@ -23,6 +23,11 @@ public final class Leader extends OperationalMessage {
     return true;
   }
 
+  @Override
+  public Kind kind() {
+    return Kind.Leader;
+  }
+
   @Override
   public boolean equals(Object other) {
     if (other == null || other.getClass() != Leader.class) {
@@ -23,6 +23,11 @@ public final class Leave extends OperationalMessage {
     return true;
   }
 
+  @Override
+  public Kind kind() {
+    return Kind.Leave;
+  }
+
   @Override
   public boolean equals(Object other) {
     if (other == null || other.getClass() != Leave.class) {
@@ -8,11 +8,98 @@
 package io.vlingo.cluster.model.message;
 
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
 
+import io.vlingo.cluster.model.node.Id;
 import io.vlingo.cluster.model.node.Node;
 import io.vlingo.common.message.Converters;
 
+// With a codecVersion above 0 the id record carries v=codecVersion, which
+// tells the receiver which BinaryMessageConverters version this node decodes.
+// A directory that does not fit a single message is sent as the chunks of
+// directoryChunksOf(), whose id records carry tx=transfer sq=sequence of=total.
 public class MessageConverters {
+  // the widest values of the fields that a chunked directory may carry
+  private static final int MaxChunks = Short.MAX_VALUE;
+  private static final int MaxCodecVersion = 0x7f;
+
+  public static List<Directory> directoryChunksOf(final Directory dir, final int maxMessageSize, final int transfer) {
+    final StringBuilder header = directoryHeader(dir, transfer, MaxChunks, MaxChunks, MaxCodecVersion);
+    final int available = maxMessageSize - Converters.textToBytes(header.toString()).length;
+
+    final List<Set<Node>> parts = new ArrayList<>();
+    Set<Node> part = new TreeSet<Node>();
+    int used = 0;
+
+    for (final Node node : dir.nodes()) {
+      final int size = Converters.textToBytes(appendNode(new StringBuilder("\n"), node).toString()).length;
+
+      if (size > available) {
+        throw new IllegalArgumentException("vlingo/cluster: Directory entry does not fit message size " + maxMessageSize + ": " + node);
+      }
+
+      if (used + size > available) {
+        parts.add(part);
+        part = new TreeSet<Node>();
+        used = 0;
+      }
+
+      part.add(node);
+      used += size;
+    }
+
+    parts.add(part);
+
+    if (parts.size() == 1) {
+      return Collections.singletonList(dir);
+    }
+
+    if (parts.size() > MaxChunks) {
+      throw new IllegalArgumentException("vlingo/cluster: Directory of " + dir.size() + " nodes needs too many chunks of message size " + maxMessageSize);
+    }
+
+    final List<Directory> chunks = new ArrayList<>(parts.size());
+
+    for (int index = 0; index < parts.size(); ++index) {
+      chunks.add(new Directory(dir.id(), dir.name(), dir.incarnation(), dir.epoch(), parts.get(index), transfer, index + 1, parts.size()));
+    }
+
+    return chunks;
+  }
+
+  public static void messageToBytes(final OperationalMessage message, final ByteBuffer buffer, final int codecVersion) {
+    switch (message.kind()) {
+    case App:
+      messageToBytes((ApplicationSays) message, buffer);
+      break;
+    case Directory:
+      messageToBytes((Directory) message, buffer, codecVersion);
+      break;
+    case DirectoryDelta:
+      messageToBytes((DirectoryDelta) message, buffer, codecVersion);
+      break;
+    case Join:
+      messageToBytes((Join) message, buffer, codecVersion);
+      break;
+    case Elect:
+    case Leader:
+    case Leave:
+    case Ping:
+    case Pulse:
+    case Split:
+    case Sync:
+    case Vote:
+      basicMessageToBytes(message, message.kind().type, buffer, codecVersion);
+      break;
+    default:
+      throw new IllegalArgumentException("vlingo/cluster: No text encoding for: " + message);
+    }
+  }
+
   public static void messageToBytes(final ApplicationSays app, final ByteBuffer buffer) {
     final StringBuilder builder = new StringBuilder(OperationalMessage.APP).append("\n");
     
@@ -28,21 +115,16 @@ public class MessageConverters {
   }
 
   public static void messageToBytes(final Directory dir, final ByteBuffer buffer) {
-    final StringBuilder builder = new StringBuilder(OperationalMessage.DIR).append("\n");
+    messageToBytes(dir, buffer, 0);
+  }
 
-    builder.append("id=").append(dir.id().value()).append(" nm=").append(dir.name().value()).append("\n");
+  public static void messageToBytes(final Directory dir, final ByteBuffer buffer, final int codecVersion) {
+    final StringBuilder builder = directoryHeader(dir, dir.transfer(), dir.sequence(), dir.total(), codecVersion);
 
     String lf = "";
 
     for (Node node : dir.nodes()) {
-      builder
-          .append(lf)
-          .append("id=").append(node.id().value())
-          .append(" nm=").append(node.name().value())
-          .append(" op=").append(node.operationalAddress().host())
-                            .append(":").append(node.operationalAddress().port())
-          .append(" msg=").append(node.applicationAddress().host())
-                            .append(":").append(node.applicationAddress().port());
+      appendNode(builder.append(lf), node);
 
       lf = "\n";
     }
@@ -52,11 +134,39 @@ public class MessageConverters {
     buffer.put(bytes);
   }
 
+  public static void messageToBytes(final DirectoryDelta delta, final ByteBuffer buffer) {
+    messageToBytes(delta, buffer, 0);
+  }
+
+  public static void messageToBytes(final DirectoryDelta delta, final ByteBuffer buffer, final int codecVersion) {
+    final StringBuilder builder = new StringBuilder(OperationalMessage.DELTA).append("\n");
+
+    builder.append("id=").append(delta.id().value()).append(" nm=").append(delta.name().value());
+    appendEpoch(builder, delta.incarnation(), delta.epoch());
+    appendCodecVersion(builder, codecVersion);
+
+    for (final Node node : delta.joined()) {
+      appendNode(builder.append("\n+"), node);
+    }
+
+    for (final Id id : delta.left()) {
+      builder.append("\n-id=").append(id.value());
+    }
+
+    final byte[] bytes = Converters.textToBytes(builder.toString());
+
+    buffer.put(bytes);
+  }
+
   public static void messageToBytes(final Elect elect, final ByteBuffer buffer) {
     basicMessageToBytes(elect, OperationalMessage.ELECT, buffer);
   }
 
   public static void messageToBytes(final Join join, final ByteBuffer buffer) {
+    messageToBytes(join, buffer, 0);
+  }
+
+  public static void messageToBytes(final Join join, final ByteBuffer buffer, final int codecVersion) {
     final StringBuilder builder =
         new StringBuilder(OperationalMessage.JOIN)
             .append("\n")
@@ -73,6 +183,8 @@ public class MessageConverters {
             .append(":")
             .append(join.node().applicationAddress().port());
 
+    appendCodecVersion(builder, codecVersion);
+
     final byte[] bytes = Converters.textToBytes(builder.toString());
 
     buffer.put(bytes);
@@ -98,17 +210,70 @@ public class MessageConverters {
     basicMessageToBytes(split, OperationalMessage.SPLIT, buffer);
   }
 
+  public static void messageToBytes(final Sync sync, final ByteBuffer buffer) {
+    basicMessageToBytes(sync, OperationalMessage.SYNC, buffer);
+  }
+
   public static void messageToBytes(final Vote vote, final ByteBuffer buffer) {
     basicMessageToBytes(vote, OperationalMessage.VOTE, buffer);
   }
 
+  private static StringBuilder directoryHeader(
+          final Directory dir,
+          final int transfer,
+          final int sequence,
+          final int total,
+          final int codecVersion) {
+
+    final StringBuilder builder = new StringBuilder(OperationalMessage.DIR).append("\n");
+
+    builder.append("id=").append(dir.id().value()).append(" nm=").append(dir.name().value());
+    appendEpoch(builder, dir.incarnation(), dir.epoch());
+
+    if (total > 1) {
+      builder.append(" tx=").append(transfer).append(" sq=").append(sequence).append(" of=").append(total);
+    }
+
+    return appendCodecVersion(builder, codecVersion).append("\n");
+  }
+
+  private static StringBuilder appendEpoch(final StringBuilder builder, final long incarnation, final long epoch) {
+    if (epoch > 0) {
+      builder.append(" ep=").append(epoch).append(" inc=").append(incarnation);
+    }
+    return builder;
+  }
+
+  private static StringBuilder appendNode(final StringBuilder builder, final Node node) {
+    return builder
+        .append("id=").append(node.id().value())
+        .append(" nm=").append(node.name().value())
+        .append(" op=").append(node.operationalAddress().host())
+                          .append(":").append(node.operationalAddress().port())
+        .append(" msg=").append(node.applicationAddress().host())
+                          .append(":").append(node.applicationAddress().port());
+  }
+
+  private static StringBuilder appendCodecVersion(final StringBuilder builder, final int codecVersion) {
+    if (codecVersion > 0) {
+      builder.append(" v=").append(codecVersion);
+    }
+    return builder;
+  }
+
   private static void basicMessageToBytes(final OperationalMessage message, final String type, final ByteBuffer buffer) {
+    basicMessageToBytes(message, type, buffer, 0);
+  }
+
+  private static void basicMessageToBytes(final OperationalMessage message, final String type, final ByteBuffer buffer, final int codecVersion) {
     final StringBuilder builder =
         new StringBuilder(type)
             .append("\n")
             .append("id=")
             .append(message.id().value());
 
+    appendCodecVersion(builder, codecVersion);
+
     final byte[] bytes = Converters.textToBytes(builder.toString());
 
     buffer.clear();
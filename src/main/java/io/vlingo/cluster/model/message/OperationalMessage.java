@@ -7,7 +7,10 @@
 
 package io.vlingo.cluster.model.message;
 
+import java.nio.ByteBuffer;
+
 import io.vlingo.cluster.model.node.Id;
+import io.vlingo.common.message.Converters;
 import io.vlingo.common.message.Message;
 
 public abstract class OperationalMessage implements Message {
@@ -23,10 +26,15 @@ public abstract class OperationalMessage implements Message {
   public static final String CHECKHEALTH = "CHECKHEALTH";
 
   /**
-   * DIR<lf>id=x nm=name<lf>addr=...<lf>...
+   * DIR<lf>id=x nm=name ep=n inc=t<lf>addr=...<lf>... the leader's directory as of epoch n of its incarnation t, if any
    */
   public static final String DIR = "DIR";
 
+  /**
+   * DELTA<lf>id=x nm=name ep=n inc=t<lf>+addr=...<lf>-id=y<lf>... the directory changes of epoch n of incarnation t
+   */
+  public static final String DELTA = "DELTA";
+
   /**
    * ELECT<lf>id=x an election is required
    */
@@ -62,43 +70,152 @@ public abstract class OperationalMessage implements Message {
    */
   public static final String SPLIT = "SPLIT";
 
+  /**
+   * SYNC<lf>id=x follower missed a directory epoch and asks the leader for its DIR
+   */
+  public static final String SYNC = "SYNC";
+
   /**
    * VOTE<lf>id=x a vote is made by all higher nodes
    */
   public static final String VOTE = "VOTE";
 
+  /**
+   * The kind of each message, by which it is dispatched with a switch
+   * rather than a chain of isX() tests. Its type is the text type name.
+   */
+  public static enum Kind {
+    App(APP),
+    CheckHealth(CHECKHEALTH),
+    Directory(DIR),
+    DirectoryDelta(DELTA),
+    Elect(ELECT),
+    Join(JOIN),
+    Leader(LEADER),
+    Leave(LEAVE),
+    Ping(PING),
+    Pulse(PULSE),
+    Split(SPLIT),
+    Sync(SYNC),
+    Vote(VOTE);
+
+    public final String type;
+
+    /**
+     * Answer the Kind of the text type name, or null if there is none.
+     * @param type the String text type name
+     * @return Kind
+     */
+    public static Kind of(final String type) {
+      switch (type) {
+      case APP:         return App;
+      case CHECKHEALTH: return CheckHealth;
+      case DIR:         return Directory;
+      case DELTA:       return DirectoryDelta;
+      case ELECT:       return Elect;
+      case JOIN:        return Join;
+      case LEADER:      return Leader;
+      case LEAVE:       return Leave;
+      case PING:        return Ping;
+      case PULSE:       return Pulse;
+      case SPLIT:       return Split;
+      case SYNC:        return Sync;
+      case VOTE:        return Vote;
+      }
+      return null;
+    }
+
+    Kind(final String type) {
+      this.type = type;
+    }
+  }
+
   /**
    * Answer a new concrete OperationalMessage from the content.
    * @param content the String containing the message text
    * @return OperationalMessage
    */
   public static OperationalMessage messageFrom(final String content) {
-    if (content.startsWith(APP)) {
-      return ApplicationSays.from(content);
-    } else if (content.startsWith(DIR)) {
-      return Directory.from(content);
-    } else if (content.startsWith(ELECT)) {
-      return Elect.from(content);
-    } else if (content.startsWith(JOIN)) {
-      return Join.from(content);
-    } else if (content.startsWith(LEADER)) {
-      return Leader.from(content);
-    } else if (content.startsWith(LEAVE)) {
-      return Leave.from(content);
-    } else if (content.startsWith(PING)) {
-      return Ping.from(content);
-    } else if (content.startsWith(PULSE)) {
-      return Pulse.from(content);
-    } else if (content.startsWith(SPLIT)) {
-      return Split.from(content);
-    } else if (content.startsWith(VOTE)) {
-      return Vote.from(content);
+    final int typeEnd = content.indexOf('\n');
+    final Kind kind = Kind.of(typeEnd < 0 ? content : content.substring(0, typeEnd));
+
+    if (kind == null) {
+      return null;
+    }
+
+    switch (kind) {
+    case App:            return ApplicationSays.from(content);
+    case Directory:      return Directory.from(content);
+    case DirectoryDelta: return DirectoryDelta.from(content);
+    case Elect:          return Elect.from(content);
+    case Join:           return Join.from(content);
+    case Leader:         return Leader.from(content);
+    case Leave:          return Leave.from(content);
+    case Ping:           return Ping.from(content);
+    case Pulse:          return Pulse.from(content);
+    case Split:          return Split.from(content);
+    case Sync:           return Sync.from(content);
+    case Vote:           return Vote.from(content);
+    default:             return null; // CHECKHEALTH is internal only
+    }
+  }
+
+  /**
+   * Answer a new concrete OperationalMessage from the bytes, which may be
+   * in either the text or the binary encoding.
+   * @param bytes the ByteBuffer containing the message bytes
+   * @return OperationalMessage
+   */
+  public static OperationalMessage messageFrom(final ByteBuffer bytes) {
+    if (BinaryMessageConverters.isBinary(bytes)) {
+      return BinaryMessageConverters.messageFrom(bytes);
+    }
+
+    if (bytes.hasArray()) {
+      return messageFrom(Converters.bytesToText(bytes.array(), bytes.arrayOffset() + bytes.position(), bytes.remaining()));
     }
-    return null;
+
+    final byte[] text = new byte[bytes.remaining()];
+    bytes.duplicate().get(text);
+    return messageFrom(Converters.bytesToText(text, 0, text.length));
+  }
+
+  /**
+   * Answer the binary codec version that the sender of the bytes decodes,
+   * which is 0 if it only decodes text.
+   * @param bytes the ByteBuffer containing the message bytes
+   * @return int
+   */
+  public static int codecVersionOf(final ByteBuffer bytes) {
+    if (BinaryMessageConverters.isBinary(bytes)) {
+      return BinaryMessageConverters.versionOf(bytes);
+    }
+
+    // the v= field is in the record that follows the type
+    int index = bytes.position();
+    final int limit = bytes.limit();
+
+    while (index < limit && bytes.get(index) != '\n') {
+      ++index;
+    }
+
+    for (++index; index + 3 < limit && bytes.get(index) != '\n'; ++index) {
+      if (bytes.get(index) == ' ' && bytes.get(index + 1) == 'v' && bytes.get(index + 2) == '=') {
+        int version = 0;
+        for (index += 3; index < limit && Character.isDigit(bytes.get(index)); ++index) {
+          version = version * 10 + (bytes.get(index) - '0');
+        }
+        return version;
+      }
+    }
+
+    return 0;
   }
 
   protected final Id id;
 
+  public abstract Kind kind();
+
   public boolean isApp() {
     return false;
   }
@@ -107,6 +224,10 @@ public abstract class OperationalMessage implements Message {
     return false;
   }
 
+  public boolean isDirectoryDelta() {
+    return false;
+  }
+
   public boolean isElect() {
     return false;
   }
@@ -139,6 +260,10 @@ public abstract class OperationalMessage implements Message {
     return false;
   }
 
+  public boolean isSync() {
+    return false;
+  }
+
   public boolean isVote() {
     return false;
   }
@@ -8,7 +8,10 @@
 package io.vlingo.cluster.model.message;
 
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import io.vlingo.cluster.model.node.Id;
@@ -17,15 +20,42 @@ import io.vlingo.cluster.model.node.Node;
 import io.vlingo.common.message.Converters;
 import io.vlingo.common.message.RawMessage;
 
+// Caches the pre-encoded messages that carry nothing but the node's
+// identity, either as text that advertises codecVersion, when above 0,
+// or in the binary encoding. The most recent directory is cached for as
+// long as its registry version, incarnation and epoch are current, and
+// SPLIT per leader.
 public class OperationalMessageCache {
+  private final boolean binary;
+  private final int codecVersion;
+  private long directoryEpoch;
+  private long directoryIncarnation;
+  private List<RawMessage> directoryMessages;
+  private long directoryVersion;
   private final Map<String, RawMessage> messages;
   private final Id id;
   private final Name name;
+  private final Map<Id, RawMessage> splits;
+
+  public static OperationalMessageCache binary(final Id id, final Name name) {
+    return new OperationalMessageCache(id, name, BinaryMessageConverters.Version, true);
+  }
 
   public OperationalMessageCache(final Id id, final Name name) {
+    this(id, name, 0);
+  }
+
+  public OperationalMessageCache(final Id id, final Name name, final int codecVersion) {
+    this(id, name, codecVersion, false);
+  }
+
+  private OperationalMessageCache(final Id id, final Name name, final int codecVersion, final boolean binary) {
     this.messages = new HashMap<String, RawMessage>();
+    this.splits = new HashMap<Id, RawMessage>();
     this.id = id;
     this.name = name;
+    this.codecVersion = codecVersion;
+    this.binary = binary;
 
     cacheValidTypes();
   }
@@ -40,55 +70,68 @@ public class OperationalMessageCache {
     return rawMessage;
   }
 
-  private void cacheValidTypes() {
-    final ByteBuffer buffer = ByteBuffer.allocate(1000);
+  // answers null unless the directory of version, incarnation and epoch is cached
+  public List<RawMessage> cachedDirectory(final long version, final long incarnation, final long epoch) {
+    if (directoryMessages == null || directoryVersion != version || directoryIncarnation != incarnation || directoryEpoch != epoch) {
+      return null;
+    }
 
-    cacheElect(buffer);
-    cacheJoin(buffer);
-    cacheLeader(buffer);
-    cacheLeave(buffer);
-    cachePing(buffer);
-    cachePulse(buffer);
-    cacheVote(buffer);
+    return directoryMessages;
   }
 
-  private void cacheElect(final ByteBuffer buffer) {
-    MessageConverters.messageToBytes(new Elect(id), buffer);
-    cacheMessagePair(buffer, OperationalMessage.ELECT);
-  }
+  public List<RawMessage> cacheDirectory(final long version, final long incarnation, final long epoch, final List<Directory> chunks, final int maxMessageSize) {
+    final ByteBuffer buffer = ByteBuffer.allocate(maxMessageSize);
+    final List<RawMessage> encoded = new ArrayList<>(chunks.size());
 
-  private void cacheJoin(final ByteBuffer buffer) {
-    MessageConverters.messageToBytes(new Join(Node.from(id, name)), buffer);
-    cacheMessagePair(buffer, OperationalMessage.JOIN);
-  }
+    for (final Directory chunk : chunks) {
+      encoded.add(encode(buffer, chunk));
+    }
 
-  private void cacheLeader(final ByteBuffer buffer) {
-    MessageConverters.messageToBytes(new Leader(id), buffer);
-    cacheMessagePair(buffer, OperationalMessage.LEADER);
-  }
+    directoryVersion = version;
+    directoryIncarnation = incarnation;
+    directoryEpoch = epoch;
+    directoryMessages = Collections.unmodifiableList(encoded);
 
-  private void cacheLeave(final ByteBuffer buffer) {
-    MessageConverters.messageToBytes(new Leave(id), buffer);
-    cacheMessagePair(buffer, OperationalMessage.LEAVE);
+    return directoryMessages;
   }
 
-  private void cachePing(final ByteBuffer buffer) {
-    MessageConverters.messageToBytes(new Ping(id), buffer);
-    cacheMessagePair(buffer, OperationalMessage.PING);
+  public RawMessage cachedSplit(final Id leaderId) {
+    RawMessage split = splits.get(leaderId);
+
+    if (split == null) {
+      split = encode(ByteBuffer.allocate(1000), new Split(leaderId));
+      splits.put(leaderId, split);
+    }
+
+    return split;
   }
 
-  private void cachePulse(final ByteBuffer buffer) {
-    MessageConverters.messageToBytes(new Pulse(id), buffer);
-    cacheMessagePair(buffer, OperationalMessage.PULSE);
+  private void cacheValidTypes() {
+    final ByteBuffer buffer = ByteBuffer.allocate(1000);
+
+    cache(buffer, new Elect(id), OperationalMessage.ELECT);
+    cache(buffer, new Join(Node.from(id, name)), OperationalMessage.JOIN);
+    cache(buffer, new Leader(id), OperationalMessage.LEADER);
+    cache(buffer, new Leave(id), OperationalMessage.LEAVE);
+    cache(buffer, new Ping(id), OperationalMessage.PING);
+    cache(buffer, new Pulse(id), OperationalMessage.PULSE);
+    cache(buffer, new Sync(id), OperationalMessage.SYNC);
+    cache(buffer, new Vote(id), OperationalMessage.VOTE);
   }
 
-  private void cacheVote(final ByteBuffer buffer) {
-    MessageConverters.messageToBytes(new Vote(id), buffer);
-    cacheMessagePair(buffer, OperationalMessage.VOTE);
+  private void cache(final ByteBuffer buffer, final OperationalMessage message, final String typeKey) {
+    messages.put(typeKey, encode(buffer, message));
   }
 
-  private void cacheMessagePair(final ByteBuffer buffer, final String typeKey) {
-    final RawMessage cachedMessage = Converters.toRawMessage(id.value(), buffer);
-    messages.put(typeKey, cachedMessage);
+  private RawMessage encode(final ByteBuffer buffer, final OperationalMessage message) {
+    buffer.clear();
+
+    if (binary) {
+      BinaryMessageConverters.messageToBytes(message, buffer);
+    } else {
+      MessageConverters.messageToBytes(message, buffer, codecVersion);
+    }
+
+    return Converters.toRawMessage(id.value(), buffer);
   }
 }
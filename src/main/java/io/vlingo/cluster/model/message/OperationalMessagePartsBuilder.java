@@ -33,6 +33,34 @@ class OperationalMessagePartsBuilder {
     return nodeEntries;
   }
 
+  protected static final Set<Node> joinedNodesFrom(final String content) {
+    final Set<Node> nodeEntries = new HashSet<Node>();
+
+    final String[] parts = content.split("\n");
+
+    for (int index = 2; index < parts.length; ++index) {
+      if (parts[index].startsWith("+")) {
+        nodeEntries.add(nodeFromRecord(parts[index].substring(1)));
+      }
+    }
+
+    return nodeEntries;
+  }
+
+  protected static final Set<Id> leftIdsFrom(final String content) {
+    final Set<Id> ids = new HashSet<Id>();
+
+    final String[] parts = content.split("\n");
+
+    for (int index = 2; index < parts.length; ++index) {
+      if (parts[index].startsWith("-")) {
+        ids.add(idFromRecord(parts[index].substring(1)));
+      }
+    }
+
+    return ids;
+  }
+
   protected static final Node nodeFrom(final String content) {
     final String[] parts = content.split("\n");
 
@@ -53,6 +81,46 @@ class OperationalMessagePartsBuilder {
     return idFromRecord(parts[1]);
   }
 
+  protected static final int intFieldFrom(final String content, final String fieldName, final int defaultValue) {
+    final String[] parts = content.split("\n");
+
+    if (parts.length < 2) {
+      return defaultValue;
+    }
+
+    final String text = parseField(parts[1], fieldName);
+
+    if (text == null) {
+      return defaultValue;
+    }
+
+    return Integer.parseInt(text);
+  }
+
+  protected static final long epochFrom(final String content) {
+    return longFieldFrom(content, "ep=", 0);
+  }
+
+  protected static final long incarnationFrom(final String content) {
+    return longFieldFrom(content, "inc=", 0);
+  }
+
+  protected static final long longFieldFrom(final String content, final String fieldName, final long defaultValue) {
+    final String[] parts = content.split("\n");
+
+    if (parts.length < 2) {
+      return defaultValue;
+    }
+
+    final String text = parseField(parts[1], fieldName);
+
+    if (text == null) {
+      return defaultValue;
+    }
+
+    return Long.parseLong(text);
+  }
+
   protected static final Name nameFrom(final String content) {
     final String[] parts = content.split("\n");
 
@@ -76,13 +144,13 @@ class OperationalMessagePartsBuilder {
   public static String saysIdFrom(final String content) {
     final String[] parts = content.split("\n");
 
-    if (parts.length < 3) {
+    if (parts.length < 2) {
       return "";
     }
 
-    final String saysId = parseField(parts[2], "si=");
+    final String saysId = parseField(parts[1], "si=");
     
-    return saysId;
+    return saysId == null ? "" : saysId;
   }
 
   private static final Address addressFromRecord(final String record, final AddressType type) {
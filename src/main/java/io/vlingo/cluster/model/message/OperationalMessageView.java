@@ -0,0 +1,288 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.cluster.model.message;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import io.vlingo.cluster.model.message.OperationalMessage.Kind;
+import io.vlingo.cluster.model.node.Id;
+import io.vlingo.cluster.model.node.Name;
+import io.vlingo.cluster.model.node.Node;
+import io.vlingo.common.message.RawMessage;
+
+// A reusable, single-threaded reader over the bytes of a received
+// operational message, in either encoding, which are read where they are
+// rather than copied, so the message must not be released until the view
+// is done with it. The type, sender, id and codec version are read in
+// place, and the messages that carry only an id are answered from instances
+// shared per id, so that heartbeats and the other common messages are
+// handled without allocating. The kind is read from the binary tag, or the
+// text type is matched against only the kinds that share its initial. APP,
+// DELTA, DIR and JOIN are decoded in full only when their message() is
+// requested, those but APP from text by a cursor over their records.
+public final class OperationalMessageView {
+  private static final int CachedIds = 256;
+
+  private static final Kind[] Kinds = Kind.values();
+  private static final Kind[][] KindsByInitial = new Kind['Z' - 'A' + 1][];
+
+  static {
+    for (final Kind kind : Kinds) {
+      final int initial = kind.type.charAt(0) - 'A';
+      final Kind[] others = KindsByInitial[initial];
+      final Kind[] kinds = others == null ? new Kind[1] : Arrays.copyOf(others, others.length + 1);
+      kinds[kinds.length - 1] = kind;
+      KindsByInitial[initial] = kinds;
+    }
+  }
+
+  private ByteBuffer bytes;
+  private final TextRecordCursor cursor;
+  private Kind kind;
+  private final OperationalMessage[][] received;
+  private int senderId;
+
+  public OperationalMessageView() {
+    this.cursor = new TextRecordCursor();
+    this.received = new OperationalMessage[Kinds.length][];
+  }
+
+  public OperationalMessageView over(final RawMessage message) {
+    bytes = message.asByteBuffer();
+    senderId = message.header().nodeId();
+    kind = BinaryMessageConverters.isBinary(bytes) ? BinaryMessageConverters.kindOf(bytes) : textKind();
+
+    return this;
+  }
+
+  public int codecVersion() {
+    return OperationalMessage.codecVersionOf(bytes);
+  }
+
+  public Id id() {
+    if (BinaryMessageConverters.isBinary(bytes)) {
+      return Id.of(bytes.getShort(bytes.position() + 2));
+    }
+
+    return textId();
+  }
+
+  public boolean isApp() {
+    return kind == Kind.App;
+  }
+
+  public Kind kind() {
+    return kind;
+  }
+
+  public OperationalMessage message() {
+    if (kind == null) {
+      return null;
+    }
+
+    switch (kind) {
+    case App:
+      return OperationalMessage.messageFrom(bytes.duplicate());
+    case DirectoryDelta:
+    case Directory:
+    case Join:
+      if (BinaryMessageConverters.isBinary(bytes)) {
+        return OperationalMessage.messageFrom(bytes.duplicate());
+      }
+      return textNodesMessage();
+    default:
+      break;
+    }
+
+    final Id id = id();
+
+    if (id.hasNoId()) {
+      return OperationalMessage.messageFrom(bytes.duplicate());
+    }
+
+    final int index = kind.ordinal();
+    final int value = id.value();
+
+    if (value >= CachedIds) {
+      return basicMessage(id);
+    }
+
+    if (received[index] == null) {
+      received[index] = new OperationalMessage[CachedIds];
+    }
+
+    OperationalMessage message = received[index][value];
+
+    if (message == null) {
+      message = basicMessage(id);
+      received[index][value] = message;
+    }
+
+    return message;
+  }
+
+  public Id sender() {
+    return Id.of(senderId);
+  }
+
+  public String type() {
+    return kind == null ? null : kind.type;
+  }
+
+  //=========================================
+  // internal implementation
+  //=========================================
+
+  private OperationalMessage basicMessage(final Id id) {
+    switch (kind) {
+    case Elect:
+      return new Elect(id);
+    case Leader:
+      return new Leader(id);
+    case Leave:
+      return new Leave(id);
+    case Ping:
+      return new Ping(id);
+    case Pulse:
+      return new Pulse(id);
+    case Split:
+      return new Split(id);
+    case Sync:
+      return new Sync(id);
+    case Vote:
+      return new Vote(id);
+    default:
+      break;
+    }
+    return OperationalMessage.messageFrom(bytes.duplicate());
+  }
+
+  private OperationalMessage textNodesMessage() {
+    cursor.over(bytes);
+    cursor.next(); // the type
+
+    if (kind == Kind.Join) {
+      return new Join(cursor.next() ? cursor.node(0) : Node.NO_NODE);
+    }
+
+    if (!cursor.next()) {
+      return OperationalMessage.messageFrom(bytes.duplicate());
+    }
+
+    final Id id = cursor.id(0);
+    final Name name = cursor.name(0);
+    final long epoch = cursor.longField("ep=", 0);
+    final long incarnation = cursor.longField("inc=", 0);
+
+    if (kind == Kind.Directory) {
+      final int transfer = cursor.intField("tx=", 0);
+      final int sequence = cursor.intField("sq=", 1);
+      final int total = cursor.intField("of=", 1);
+      final Set<Node> nodes = new HashSet<>();
+
+      while (cursor.next()) {
+        if (cursor.marker() != 0) {
+          nodes.add(cursor.node(0));
+        }
+      }
+
+      return new Directory(id, name, incarnation, epoch, nodes, transfer, sequence, total);
+    }
+
+    final Set<Node> joined = new HashSet<>();
+    final Set<Id> left = new HashSet<>();
+
+    while (cursor.next()) {
+      switch (cursor.marker()) {
+      case '+':
+        joined.add(cursor.node(1));
+        break;
+      case '-':
+        left.add(cursor.id(1));
+        break;
+      default:
+        break;
+      }
+    }
+
+    return new DirectoryDelta(id, name, incarnation, epoch, joined, left);
+  }
+
+  private Id textId() {
+    final int start = bytes.position();
+    final int limit = bytes.limit();
+
+    int index = start;
+
+    while (index < limit && bytes.get(index) != '\n') {
+      ++index;
+    }
+
+    // the id is the first field of the record that follows the type
+    index += 1;
+
+    if (index + 3 >= limit || bytes.get(index) != 'i' || bytes.get(index + 1) != 'd' || bytes.get(index + 2) != '=') {
+      return Id.NO_ID;
+    }
+
+    int value = 0;
+    int digits = 0;
+
+    for (index += 3; index < limit && Character.isDigit(bytes.get(index)); ++index, ++digits) {
+      value = value * 10 + (bytes.get(index) - '0');
+    }
+
+    return digits == 0 || value > Short.MAX_VALUE ? Id.NO_ID : Id.of(value);
+  }
+
+  private Kind textKind() {
+    final int start = bytes.position();
+    final int limit = bytes.limit();
+
+    if (start >= limit) {
+      return null;
+    }
+
+    final int initial = bytes.get(start) - 'A';
+
+    if (initial < 0 || initial >= KindsByInitial.length || KindsByInitial[initial] == null) {
+      return null;
+    }
+
+    int end = start;
+
+    while (end < limit && bytes.get(end) != '\n') {
+      ++end;
+    }
+
+    for (final Kind candidate : KindsByInitial[initial]) {
+      if (matches(candidate.type, start, end)) {
+        return candidate;
+      }
+    }
+
+    return null;
+  }
+
+  private boolean matches(final String candidate, final int start, final int end) {
+    if (end - start != candidate.length()) {
+      return false;
+    }
+
+    for (int index = 0; index < candidate.length(); ++index) {
+      if (bytes.get(start + index) != candidate.charAt(index)) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+}
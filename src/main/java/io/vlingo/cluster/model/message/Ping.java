@@ -23,6 +23,11 @@ public final class Ping extends OperationalMessage {
     return true;
   }
 
+  @Override
+  public Kind kind() {
+    return Kind.Ping;
+  }
+
   @Override
   public boolean equals(Object other) {
     if (other == null || other.getClass() != Ping.class) {
@@ -23,6 +23,11 @@ public final class Pulse extends OperationalMessage {
     return true;
   }
 
+  @Override
+  public Kind kind() {
+    return Kind.Pulse;
+  }
+
   @Override
   public boolean equals(Object other) {
     if (other == null || other.getClass() != Pulse.class) {
@@ -23,6 +23,11 @@ public final class Split extends OperationalMessage {
     return true;
   }
 
+  @Override
+  public Kind kind() {
+    return Kind.Split;
+  }
+
   @Override
   public boolean equals(Object other) {
     if (other == null || other.getClass() != Split.class) {
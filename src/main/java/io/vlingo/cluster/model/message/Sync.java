@@ -0,0 +1,49 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.cluster.model.message;
+
+import io.vlingo.cluster.model.node.Id;
+
+public final class Sync extends OperationalMessage {
+  public static final Sync from(final String content) {
+    return new Sync(OperationalMessagePartsBuilder.idFrom(content));
+  }
+
+  public Sync(final Id id) {
+    super(id);
+  }
+
+  @Override
+  public boolean isSync() {
+    return true;
+  }
+
+  @Override
+  public Kind kind() {
+    return Kind.Sync;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (other == null || other.getClass() != Sync.class) {
+      return false;
+    }
+
+    return this.id.equals(((Sync) other).id);
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * id.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return "Sync[" + id + "]";
+  }
+}
@@ -0,0 +1,205 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.cluster.model.message;
+
+import java.nio.ByteBuffer;
+
+import io.vlingo.cluster.model.node.Address;
+import io.vlingo.cluster.model.node.AddressType;
+import io.vlingo.cluster.model.node.Id;
+import io.vlingo.cluster.model.node.Name;
+import io.vlingo.cluster.model.node.Node;
+import io.vlingo.common.message.Converters;
+
+// A reusable cursor over the lf-separated records of an operational message
+// in the text encoding. The fields of the current record are read in place,
+// so that only the names and hosts of its nodes become Strings, rather than
+// splitting the message into a String per record and per field.
+final class TextRecordCursor {
+  private ByteBuffer bytes;
+  private int end;
+  private int limit;
+  private int start;
+
+  // positions the cursor before the first record, the type
+  TextRecordCursor over(final ByteBuffer bytes) {
+    this.bytes = bytes;
+    this.limit = bytes.limit();
+    this.start = bytes.position();
+    this.end = start - 1;
+    return this;
+  }
+
+  // answers whether there is a next record, which becomes the current one
+  boolean next() {
+    start = end + 1;
+
+    if (start >= limit) {
+      return false;
+    }
+
+    end = start;
+
+    while (end < limit && bytes.get(end) != '\n') {
+      ++end;
+    }
+
+    return true;
+  }
+
+  // answers the first character of the current record, or 0 if it is empty
+  char marker() {
+    return start < end ? (char) bytes.get(start) : 0;
+  }
+
+  Id id(final int offset) {
+    final int at = valueAt("id=", offset);
+
+    if (at < 0) {
+      return Id.NO_ID;
+    }
+
+    final long value = digitsAt(at);
+
+    return value < 0 || value > Short.MAX_VALUE ? Id.NO_ID : Id.of((int) value);
+  }
+
+  int intField(final String fieldName, final int defaultValue) {
+    final long value = longField(fieldName, defaultValue);
+
+    return value < Integer.MIN_VALUE || value > Integer.MAX_VALUE ? defaultValue : (int) value;
+  }
+
+  long longField(final String fieldName, final long defaultValue) {
+    final int at = valueAt(fieldName, 0);
+
+    if (at < 0) {
+      return defaultValue;
+    }
+
+    final long value = digitsAt(at);
+
+    return value < 0 ? defaultValue : value;
+  }
+
+  Name name(final int offset) {
+    final int at = valueAt("nm=", offset);
+
+    if (at < 0) {
+      return Name.NO_NODE_NAME;
+    }
+
+    return new Name(text(at, valueEnd(at)));
+  }
+
+  // the node of the current record, whose fields follow the offset
+  Node node(final int offset) {
+    return new Node(id(offset), name(offset), address("op=", offset, AddressType.OP), address("msg=", offset, AddressType.APP));
+  }
+
+  //=========================================
+  // internal implementation
+  //=========================================
+
+  private Address address(final String fieldName, final int offset, final AddressType type) {
+    final int at = valueAt(fieldName, offset);
+
+    if (at < 0) {
+      return Address.NO_NODE_ADDRESS;
+    }
+
+    final int valueEnd = valueEnd(at);
+
+    int colon = valueEnd - 1;
+
+    while (colon >= at && bytes.get(colon) != ':') {
+      --colon;
+    }
+
+    final long port = colon < at ? -1 : digitsAt(colon + 1);
+
+    if (port < 0 || colon + 1 + digitCount(colon + 1) != valueEnd) {
+      throw new IllegalArgumentException("The address is not valid: " + text(at, valueEnd));
+    }
+
+    return Address.from(text(at, colon), (int) port, type);
+  }
+
+  private int digitCount(final int at) {
+    int index = at;
+
+    while (index < end && Character.isDigit(bytes.get(index))) {
+      ++index;
+    }
+
+    return index - at;
+  }
+
+  // answers the unsigned decimal at the index, or -1 if there is none
+  private long digitsAt(final int at) {
+    long value = 0;
+    int index = at;
+
+    for ( ; index < end && Character.isDigit(bytes.get(index)); ++index) {
+      if (value > (Long.MAX_VALUE - 9) / 10) {
+        return -1;
+      }
+      value = value * 10 + (bytes.get(index) - '0');
+    }
+
+    return index == at ? -1 : value;
+  }
+
+  private String text(final int from, final int to) {
+    if (bytes.hasArray()) {
+      return Converters.bytesToText(bytes.array(), bytes.arrayOffset() + from, to - from);
+    }
+
+    final byte[] text = new byte[to - from];
+
+    for (int index = 0; index < text.length; ++index) {
+      text[index] = bytes.get(from + index);
+    }
+
+    return Converters.bytesToText(text, 0, text.length);
+  }
+
+  // answers the index of the field's value in the current record, where the
+  // field begins the record after the offset or follows a space, or -1
+  private int valueAt(final String fieldName, final int offset) {
+    final int length = fieldName.length();
+    final int first = start + offset;
+
+    for (int index = first; index + length <= end; ++index) {
+      if ((index == first || bytes.get(index - 1) == ' ') && matches(fieldName, index)) {
+        return index + length;
+      }
+    }
+
+    return -1;
+  }
+
+  private int valueEnd(final int at) {
+    int index = at;
+
+    while (index < end && bytes.get(index) != ' ') {
+      ++index;
+    }
+
+    return index;
+  }
+
+  private boolean matches(final String fieldName, final int at) {
+    for (int index = 0; index < fieldName.length(); ++index) {
+      if (bytes.get(at + index) != fieldName.charAt(index)) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -23,6 +23,11 @@ public final class Vote extends OperationalMessage {
     return true;
   }
 
+  @Override
+  public Kind kind() {
+    return Kind.Vote;
+  }
+
   @Override
   public boolean equals(Object other) {
     if (other == null || other.getClass() != Vote.class) {
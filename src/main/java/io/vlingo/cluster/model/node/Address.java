@@ -62,12 +62,14 @@ public final class Address {
       return false;
     }
 
-    return this.host.equals(((Address) other).host);
+    final Address address = (Address) other;
+
+    return this.host.equals(address.host) && this.port == address.port;
   }
 
   @Override
   public int hashCode() {
-    return 31 * host.hashCode();
+    return 31 * host.hashCode() + port;
   }
 
   @Override
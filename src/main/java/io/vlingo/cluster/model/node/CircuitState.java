@@ -0,0 +1,24 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.cluster.model.node;
+
+public enum CircuitState {
+  Closed, HalfOpen, Open;
+
+  public boolean isClosed() {
+    return this == Closed;
+  }
+
+  public boolean isHalfOpen() {
+    return this == HalfOpen;
+  }
+
+  public boolean isOpen() {
+    return this == Open;
+  }
+}
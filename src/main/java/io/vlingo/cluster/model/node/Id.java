@@ -8,17 +8,31 @@
 package io.vlingo.cluster.model.node;
 
 public final class Id implements Comparable<Id> {
+  // node ids are small, so those parsed from every message are shared
+  private static final Id[] cached = new Id[256];
+
   public static final short UNDEFINED_ID = -1;
   public static final Id NO_ID = Id.of(UNDEFINED_ID);
 
   private final short value;
 
   public static Id of(final int id) {
-    return new Id(id);
+    return of((short) id);
   }
 
   public static Id of(final short id) {
-    return new Id(id);
+    if (id < 0 || id >= cached.length) {
+      return new Id(id);
+    }
+
+    Id cachedId = cached[id];
+
+    if (cachedId == null) {
+      cachedId = new Id(id);
+      cached[id] = cachedId;
+    }
+
+    return cachedId;
   }
 
   public Id(final short id) {
@@ -24,13 +24,24 @@ final class LeaderState extends LiveNodeState {
       // perhaps there was a race for leadership on newly
       // joined node with higher nodeId
       
-      liveNodeMaintainer.mergeAllDirectoryEntries(dir.nodes());
+      liveNodeMaintainer.mergeAllDirectoryEntries(dir);
       
     } else {
       System.out.println("vlingo/cluster: Leader must not receive Directory message from follower: '" + dir.id() + "'");
     }
   }
 
+  @Override
+  protected void handle(final DirectoryDelta delta) {
+    System.out.println("vlingo/cluster: " + type + " " + node.id() + " DIRECTORY DELTA: " + delta);
+
+    if (delta.id().greaterThan(node.id())) {
+      liveNodeMaintainer.mergeDirectoryDelta(delta);
+    } else {
+      System.out.println("vlingo/cluster: Leader must not receive DirectoryDelta message from follower: '" + delta.id() + "'");
+    }
+  }
+
   @Override
   protected void handle(final Elect elect) {
     System.out.println("vlingo/cluster: " + type + " " + node.id() + " ELECT: " + elect);
@@ -65,6 +76,12 @@ final class LeaderState extends LiveNodeState {
     }
   }
 
+  @Override
+  protected void handle(final Sync sync) {
+    System.out.println("vlingo/cluster: " + type + " " + node.id() + " SYNC: " + sync);
+    liveNodeMaintainer.provideDirectoryTo(sync.id());
+  }
+
   @Override
   protected void handle(final Vote vote) {
     System.out.println("vlingo/cluster: " + type + " " + node.id() + " VOTE: " + vote);
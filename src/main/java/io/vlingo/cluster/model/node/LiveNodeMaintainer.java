@@ -7,7 +7,8 @@
 
 package io.vlingo.cluster.model.node;
 
-import java.util.Set;
+import io.vlingo.cluster.model.message.Directory;
+import io.vlingo.cluster.model.message.DirectoryDelta;
 
 interface LiveNodeMaintainer extends NodeSynchronizer {
   void assertNewLeadership(final Id id);
@@ -17,9 +18,11 @@ interface LiveNodeMaintainer extends NodeSynchronizer {
   void escalateElection(final Id id);
   void join(final Node node);
   void joinLocalWith(final Node remoteNode);
-  void mergeAllDirectoryEntries(final Set<Node> nodes);
+  void mergeAllDirectoryEntries(final Directory dir);
+  void mergeDirectoryDelta(final DirectoryDelta delta);
   void overtakeLeadership(final Id leaderNodeId);
   void placeVote(final Id voterId);
+  void provideDirectoryTo(final Id id);
   void providePulseTo(final Id id);
   void updateLastHealthIndication(final Id id);
   void voteForLocalNode(final Id targetNodeId);
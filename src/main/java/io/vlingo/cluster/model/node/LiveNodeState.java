@@ -34,7 +34,12 @@ abstract class LiveNodeState {
 
   protected void handle(final Directory dir) {
     System.out.println("vlingo/cluster: " + type + " " + node.id() + " DIRECTORY: " + dir);
-    liveNodeMaintainer.mergeAllDirectoryEntries(dir.nodes());
+    liveNodeMaintainer.mergeAllDirectoryEntries(dir);
+  }
+
+  protected void handle(final DirectoryDelta delta) {
+    System.out.println("vlingo/cluster: " + type + " " + node.id() + " DIRECTORY DELTA: " + delta);
+    liveNodeMaintainer.mergeDirectoryDelta(delta);
   }
 
   protected void handle(final Elect elect) {
@@ -72,6 +77,11 @@ abstract class LiveNodeState {
     liveNodeMaintainer.declareNodeSplit(split.id());
   }
 
+  protected void handle(final Sync sync) {
+    System.out.println("vlingo/cluster: " + type + " " + node.id() + " SYNC: " + sync);
+    // only the leader answers with its directory
+  }
+
   protected void handle(final Vote vote) {
     System.out.println("vlingo/cluster: " + type + " " + node.id() + " VOTE: " + vote);
     liveNodeMaintainer.placeVote(node.id());
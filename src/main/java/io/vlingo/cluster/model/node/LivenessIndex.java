@@ -0,0 +1,83 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+
+package io.vlingo.cluster.model.node;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+
+// A min-heap of registered nodes by the last health indication each was
+// indexed with. As indications normally only move later, a node is not
+// re-indexed when it pulses, but only once its entry reaches the top: it
+// is answered if it has actually timed out, or re-indexed by its latest
+// indication. An entry is stale once its node is re-indexed or removed.
+final class LivenessIndex {
+  private final PriorityQueue<Entry> entries;
+
+  LivenessIndex() {
+    this.entries = new PriorityQueue<>();
+  }
+
+  void add(final RegisteredNodeStatus status) {
+    status.indexedBy(this, status.lastHealthIndication());
+    entries.add(new Entry(status.lastHealthIndication(), status));
+  }
+
+  void clear() {
+    entries.clear();
+  }
+
+  void remove(final RegisteredNodeStatus status) {
+    status.indexedBy(null, 0);
+  }
+
+  int size() {
+    return entries.size();
+  }
+
+  // answers and removes the nodes that have timed out, touching no others
+  List<RegisteredNodeStatus> timedOut(final long currentTime, final long liveNodeTimeout) {
+    List<RegisteredNodeStatus> timedOut = Collections.emptyList();
+
+    while (!entries.isEmpty() && entries.peek().lastHealthIndication + liveNodeTimeout < currentTime) {
+      final Entry entry = entries.poll();
+      final RegisteredNodeStatus status = entry.status;
+
+      if (!status.isIndexedBy(this, entry.lastHealthIndication)) {
+        continue;
+      }
+
+      if (status.isTimedOut(currentTime, liveNodeTimeout)) {
+        remove(status);
+        if (timedOut.isEmpty()) timedOut = new ArrayList<>(2);
+        timedOut.add(status);
+      } else {
+        add(status);
+      }
+    }
+
+    return timedOut;
+  }
+
+  private static final class Entry implements Comparable<Entry> {
+    final long lastHealthIndication;
+    final RegisteredNodeStatus status;
+
+    Entry(final long lastHealthIndication, final RegisteredNodeStatus status) {
+      this.lastHealthIndication = lastHealthIndication;
+      this.status = status;
+    }
+
+    @Override
+    public int compareTo(final Entry other) {
+      return Long.compare(this.lastHealthIndication, other.lastHealthIndication);
+    }
+  }
+}
@@ -12,6 +12,7 @@ import io.vlingo.actors.Stage;
 import io.vlingo.actors.Stoppable;
 import io.vlingo.cluster.model.ClusterSnapshot;
 import io.vlingo.cluster.model.Configuration;
+import io.vlingo.cluster.model.Properties;
 import io.vlingo.cluster.model.message.OperationalMessage;
 import io.vlingo.cluster.model.outbound.OperationalOutboundStream;
 
@@ -25,9 +26,10 @@ public interface LocalLiveNode extends Stoppable {
           final Configuration configuration) {
     
     final Definition definition =
-            new Definition(
+            Definition.has(
                     LocalLiveNodeActor.class,
                     Definition.parameters(node, snapshot, registry, outbound, configuration),
+                    Properties.instance.operationalMailboxName(),
                     "local-live-node");
     
     LocalLiveNode localLiveNode = stage.actorFor(definition, LocalLiveNode.class);
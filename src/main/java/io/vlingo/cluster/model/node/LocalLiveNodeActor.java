@@ -8,9 +8,8 @@
 package io.vlingo.cluster.model.node;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Set;
-import java.util.TreeSet;
 
 import io.vlingo.actors.Actor;
 import io.vlingo.actors.Cancellable;
@@ -20,6 +19,8 @@ import io.vlingo.cluster.model.Configuration;
 import io.vlingo.cluster.model.Properties;
 import io.vlingo.cluster.model.message.CheckHealth;
 import io.vlingo.cluster.model.message.Directory;
+import io.vlingo.cluster.model.message.DirectoryAssembler;
+import io.vlingo.cluster.model.message.DirectoryDelta;
 import io.vlingo.cluster.model.message.Elect;
 import io.vlingo.cluster.model.message.Join;
 import io.vlingo.cluster.model.message.Leader;
@@ -28,6 +29,7 @@ import io.vlingo.cluster.model.message.OperationalMessage;
 import io.vlingo.cluster.model.message.Ping;
 import io.vlingo.cluster.model.message.Pulse;
 import io.vlingo.cluster.model.message.Split;
+import io.vlingo.cluster.model.message.Sync;
 import io.vlingo.cluster.model.message.Vote;
 import io.vlingo.cluster.model.outbound.OperationalOutboundStream;
 
@@ -37,6 +39,12 @@ public class LocalLiveNodeActor extends Actor
   private final Cancellable cancellable;
   private final CheckHealth checkHealth;
   private final Configuration configuration;
+  private final DirectoryAssembler directoryAssembler;
+  private long directoryEpoch;
+  private Id directoryEpochOf;
+  private long directoryEpochVersion;
+  private long directoryIncarnation;
+  private final long incarnation;
   private LiveNodeState state;
   private final Node node;
   private final List<NodeSynchronizer> nodeSynchronizers;
@@ -59,6 +67,9 @@ public class LocalLiveNodeActor extends Actor
     this.outbound = outbound;
     this.configuration = configuration;
     this.nodeSynchronizers = new ArrayList<>();
+    this.directoryEpochOf = Id.NO_ID;
+    this.incarnation = System.currentTimeMillis();
+    this.directoryAssembler = new DirectoryAssembler();
     this.selfLocalLiveNode = selfAs(LocalLiveNode.class);
     this.checkHealth = new CheckHealth(node.id());
     this.cancellable = scheduleHealthCheck();
@@ -73,18 +84,24 @@ public class LocalLiveNodeActor extends Actor
 
   @Override
   public void handle(final OperationalMessage message) {
-    if (message.isDirectory())    state.handle((Directory) message);
-    else if (message.isElect())   state.handle((Elect) message);
-    else if (message.isJoin())    state.handle((Join) message);
-    else if (message.isLeader())  state.handle((Leader) message);
-    else if (message.isLeave())   state.handle((Leave) message);
-    else if (message.isPing())    state.handle((Ping) message);
-    else if (message.isPulse())   state.handle((Pulse) message);
-    else if (message.isSplit())   state.handle((Split) message);
-    else if (message.isVote())    state.handle((Vote) message);
-    else if (message.isCheckHealth()) {
+    switch (message.kind()) {
+    case Directory:      handleDirectory((Directory) message); break;
+    case DirectoryDelta: state.handle((DirectoryDelta) message); break;
+    case Elect:          state.handle((Elect) message); break;
+    case Join:           state.handle((Join) message); break;
+    case Leader:         state.handle((Leader) message); break;
+    case Leave:          state.handle((Leave) message); break;
+    case Ping:           state.handle((Ping) message); break;
+    case Pulse:          state.handle((Pulse) message); break;
+    case Split:          state.handle((Split) message); break;
+    case Sync:           state.handle((Sync) message); break;
+    case Vote:           state.handle((Vote) message); break;
+    case CheckHealth:
       checkHealth();
       informHealth();
+      break;
+    case App:
+      break;
     }
   }
 
@@ -125,7 +142,7 @@ public class LocalLiveNodeActor extends Actor
   }
 
   public void declareLeadership() {
-    outbound.directory(new TreeSet<Node>(registry.liveNodes()));
+    outbound.directory(registry.liveNodes(), incarnation, currentDirectoryEpoch(), registry.version());
     outbound.leader();
   }
 
@@ -146,6 +163,7 @@ public class LocalLiveNodeActor extends Actor
   
   public void dropNode(final Id id) {
     final boolean droppedLeader = registry.isLeader(id);
+    final boolean droppedMember = registry.hasMember(id);
 
     dropNodeFromCluster(id);
 
@@ -154,17 +172,19 @@ public class LocalLiveNodeActor extends Actor
       outbound.elect(configuration.allGreaterConfiguredNodes(node.id()));
     }
 
-    if (state.isLeader()) {
-      declareLeadership();
+    if (state.isLeader() && droppedMember) {
+      outbound.directoryDelta(Collections.emptySet(), Collections.singleton(id), incarnation, currentDirectoryEpoch());
     }
   }
 
   public void join(final Node joiningNode) {
+    final boolean newMember = !registry.hasMember(joiningNode.id());
+
     registry.join(joiningNode);
     outbound.open(joiningNode.id());
     
     if (state.isLeader()) {
-      declareLeadership();
+      declareJoined(joiningNode, newMember);
     }
 
     synchronize(joiningNode);
@@ -175,8 +195,25 @@ public class LocalLiveNodeActor extends Actor
     join(remoteNode);
   }
   
-  public void mergeAllDirectoryEntries(final Set<Node> nodes) {
-    registry.mergeAllDirectoryEntries(nodes);
+  public void mergeAllDirectoryEntries(final Directory dir) {
+    registry.mergeAllDirectoryEntries(dir.nodes());
+    directoryEpochOf = dir.id();
+    directoryIncarnation = dir.incarnation();
+    directoryEpoch = dir.epoch();
+  }
+
+  public void mergeDirectoryDelta(final DirectoryDelta delta) {
+    if (!delta.id().equals(directoryEpochOf) ||
+        delta.incarnation() != directoryIncarnation ||
+        delta.epoch() > directoryEpoch + 1 ||
+        delta.epoch() < directoryEpoch) {
+      // an epoch of this leader was missed, or its directory never received,
+      // or it restarted and numbers its epochs anew
+      outbound.sync(delta.id());
+    } else if (delta.epoch() == directoryEpoch + 1) {
+      registry.mergeDirectoryDelta(delta.joined(), delta.left());
+      directoryEpoch = delta.epoch();
+    }
   }
   
   public void overtakeLeadership(final Id leaderNodeId) {
@@ -193,6 +230,10 @@ public class LocalLiveNodeActor extends Actor
     }
   }
   
+  public void provideDirectoryTo(final Id id) {
+    outbound.directory(registry.liveNodes(), incarnation, currentDirectoryEpoch(), registry.version(), id);
+  }
+
   public void providePulseTo(final Id id) {
     outbound.pulse(id);
   }
@@ -251,6 +292,21 @@ public class LocalLiveNodeActor extends Actor
     }
   }
 
+  // the joining node is sent the directory before the delta of the same
+  // epoch, so that it need not ask for it
+  private void declareJoined(final Node joiningNode, final boolean newMember) {
+    final long epoch = currentDirectoryEpoch();
+
+    if (!joiningNode.equals(node)) {
+      outbound.directory(registry.liveNodes(), incarnation, epoch, registry.version(), joiningNode.id());
+      outbound.leader(joiningNode.id());
+    }
+
+    if (newMember) {
+      outbound.directoryDelta(Collections.singleton(joiningNode), Collections.emptySet(), incarnation, epoch);
+    }
+  }
+
   private void declareFollower() {
     if (state == null || !state.isFollower()) {
       System.out.println("vlingo/cluster: Cluster follower: " + node);
@@ -278,7 +334,7 @@ public class LocalLiveNodeActor extends Actor
 
     promoteElectedLeader(node.id());
 
-    outbound.directory(registry.liveNodes());
+    outbound.directory(registry.liveNodes(), incarnation, currentDirectoryEpoch(), registry.version());
 
     outbound.leader();
   }
@@ -290,6 +346,14 @@ public class LocalLiveNodeActor extends Actor
     }
   }
 
+  private void handleDirectory(final Directory chunk) {
+    final Directory dir = directoryAssembler.assemble(chunk);
+
+    if (dir != null) {
+      state.handle(dir);
+    }
+  }
+
   private void informHealth() {
     outbound.pulse();
 
@@ -331,6 +395,20 @@ public class LocalLiveNodeActor extends Actor
     }
   }
 
+  // a new epoch is begun only when leadership was taken or the live nodes
+  // changed, so that the directory encoded for the epoch can be reused;
+  // the epochs are numbered within this incarnation of the node, its start
+  // time, so that followers can tell a restarted leader from a continuing one
+  private long currentDirectoryEpoch() {
+    if (!directoryEpochOf.equals(node.id()) || directoryIncarnation != incarnation || directoryEpochVersion != registry.version()) {
+      directoryEpochOf = node.id();
+      directoryIncarnation = incarnation;
+      directoryEpochVersion = registry.version();
+      ++directoryEpoch;
+    }
+    return directoryEpoch;
+  }
+
   private void promoteElectedLeader(final Id leaderNodeId) {
     if (node.id().equals(leaderNodeId)) {
       
@@ -8,47 +8,58 @@
 package io.vlingo.cluster.model.node;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
 
+import io.vlingo.cluster.model.ClusterView;
 import io.vlingo.cluster.model.Configuration;
 import io.vlingo.cluster.model.Properties;
 
+// The leader and an immutable snapshot of the live nodes are kept as the
+// registry changes, so the queries made on every notification and pulse
+// don't scan it. The snapshot may be shared with other actors. After each
+// change of membership or leader a new ClusterView is published through a
+// volatile reference, before any interest is informed of the change.
 public class LocalRegistry implements Registry {
   private final RegistryInterestBroadcaster broadcaster;
   private final Configuration configuration;
+  private RegisteredNodeStatus leader;
+  private Set<Node> liveNodes;
+  private final LivenessIndex livenessIndex;
   private final Node localNode;
+  private Set<Node> publishedLiveNodes;
   private Map<Id, RegisteredNodeStatus> registry;
+  private long version;
+  private volatile ClusterView view;
 
   public LocalRegistry(final Node localNode, final Configuration confirguration) {
     this.localNode = localNode;
     this.configuration = confirguration;
     this.broadcaster = new RegistryInterestBroadcaster();
     this.registry = new TreeMap<Id, RegisteredNodeStatus>();
+    this.livenessIndex = new LivenessIndex();
+    this.view = ClusterView.Empty;
   }
 
   //======================================
   // Registry
   //======================================
 
+  // only the nodes that have timed out are touched
   public void cleanTimedOutNodes() {
     final long currentTime = System.currentTimeMillis();
     final long liveNodeTimeout = Properties.instance.clusterLiveNodeTimeout();
 
-    final Map<Id, RegisteredNodeStatus> nodesToKeep = new TreeMap<Id, RegisteredNodeStatus>();
-
-    for (final RegisteredNodeStatus status : registry.values()) {
-      if (!status.isTimedOut(currentTime, liveNodeTimeout)) {
-        nodesToKeep.put(status.node().id(), status);
-      } else {
+    for (final RegisteredNodeStatus status : livenessIndex.timedOut(currentTime, liveNodeTimeout)) {
+      if (registry.get(status.node().id()) == status) {
+        unregister(status.node().id());
         broadcaster.informNodeTimedOut(status.node(), isClusterHealthy());
         System.out.println("vlingo/cluster: Node cleaned from registry due to timeout: " + status.node());
       }
     }
-
-    registry = nodesToKeep;
   }
 
   @Override
@@ -71,12 +82,7 @@ public class LocalRegistry implements Registry {
 
   @Override
   public Node currentLeader() {
-    for (final RegisteredNodeStatus status : registry.values()) {
-      if (status.isLeader()) {
-        return status.node();
-      }
-    }
-    return Node.NO_NODE;
+    return leader == null ? Node.NO_NODE : leader.node();
   }
 
   @Override
@@ -85,6 +91,8 @@ public class LocalRegistry implements Registry {
 
     if (status != null) {
       status.lead(true);
+      leader = status;
+      publish();
       status.updateLastHealthIndication();
       broadcaster.informCurrentLeader(status.node(), isClusterHealthy());
       demotePreviousLeader(id);
@@ -99,6 +107,10 @@ public class LocalRegistry implements Registry {
 
     if (status != null && status.isLeader()) {
       status.lead(false);
+      if (leader == status) {
+        leader = null;
+        publish();
+      }
       broadcaster.informLeaderDemoted(status.node(), isClusterHealthy());
     }
   }
@@ -116,39 +128,38 @@ public class LocalRegistry implements Registry {
 
   @Override
   public boolean hasLeader() {
-    for (final RegisteredNodeStatus status : registry.values()) {
-      if (status.isLeader()) {
-        return true;
-      }
-    }
-    return false;
+    return leader != null;
   }
 
+  // answers an immutable snapshot, which is rebuilt only after the live nodes change
   @Override
   public Set<Node> liveNodes() {
-    final Set<Node> liveNodes = new TreeSet<Node>();
-    for (RegisteredNodeStatus status : registry.values()) {
-      liveNodes.add(status.node());
+    if (liveNodes == null) {
+      final Set<Node> nodes = new TreeSet<Node>();
+      for (final RegisteredNodeStatus status : registry.values()) {
+        nodes.add(status.node());
+      }
+      liveNodes = Collections.unmodifiableSet(nodes);
     }
     return liveNodes;
   }
 
   @Override
   public boolean hasMember(final Id id) {
-    return registry.keySet().contains(id);
+    return registry.containsKey(id);
   }
 
   @Override
   public boolean hasQuorum() {
     final int quorum = (configuration.totalConfiguredNodes() / 2) + 1;
 
-    return liveNodes().size() >= quorum;
+    return registry.size() >= quorum;
   }
 
   @Override
   public void join(final Node node) {
     if (!hasMember(node.id())) {
-      registry.put(node.id(), new RegisteredNodeStatus(node, false, false));
+      register(new RegisteredNodeStatus(node, false, false));
       broadcaster.informNodeJoinedCluster(node, isClusterHealthy());
       broadcaster.informAllLiveNodes(liveNodes(), isClusterHealthy());
     }
@@ -156,7 +167,7 @@ public class LocalRegistry implements Registry {
 
   @Override
   public void leave(final Id id) {
-    RegisteredNodeStatus status = registry.remove(id);
+    RegisteredNodeStatus status = unregister(id);
     if (status != null) {
       broadcaster.informNodeLeftCluster(status.node(), isClusterHealthy());
       broadcaster.informAllLiveNodes(liveNodes(), isClusterHealthy());
@@ -174,9 +185,14 @@ public class LocalRegistry implements Registry {
       mergedNodes.put(node.id(), new RegisteredNodeStatus(node, isLeader(node.id()), true));
     }
 
+    boolean nodesChanged = false;
+
     for (final RegisteredNodeStatus status : mergedNodes.values()) {
-      if (!registry.containsKey(status.node().id())) {
+      final RegisteredNodeStatus existing = registry.get(status.node().id());
+      if (existing == null) {
         result.add(new MergeResult(status.node(), true));
+      } else if (!existing.node().equals(status.node())) {
+        nodesChanged = true; // same id with a changed name or address
       }
     }
 
@@ -186,12 +202,60 @@ public class LocalRegistry implements Registry {
       }
     }
 
+    for (final RegisteredNodeStatus status : registry.values()) {
+      livenessIndex.remove(status);
+    }
+
     registry = mergedNodes;
+    leader = null;
+
+    livenessIndex.clear();
+    for (final RegisteredNodeStatus status : mergedNodes.values()) {
+      livenessIndex.add(status);
+      if (status.isLeader()) {
+        leader = status;
+      }
+    }
+
+    if (!result.isEmpty() || nodesChanged) {
+      membershipChanged();
+    } else {
+      publish();
+    }
     
     broadcaster.informMergedAllDirectoryEntries(liveNodes(), result, isClusterHealthy());
     broadcaster.informAllLiveNodes(liveNodes(), isClusterHealthy());
   }
 
+  @Override
+  public void mergeDirectoryDelta(final Collection<Node> leaderJoinedNodes, final Collection<Id> leaderLeftIds) {
+    final Set<MergeResult> result = new TreeSet<MergeResult>();
+
+    for (final Node node : leaderJoinedNodes) {
+      final RegisteredNodeStatus status = registry.get(node.id());
+
+      if (status == null) {
+        register(new RegisteredNodeStatus(node, false, true));
+        result.add(new MergeResult(node, true));
+      } else {
+        status.confirmedByLeader(true);
+      }
+    }
+
+    for (final Id id : leaderLeftIds) {
+      final RegisteredNodeStatus status = unregister(id);
+
+      if (status != null) {
+        result.add(new MergeResult(status.node(), false));
+      }
+    }
+
+    if (!result.isEmpty()) {
+      broadcaster.informMergedAllDirectoryEntries(liveNodes(), result, isClusterHealthy());
+      broadcaster.informAllLiveNodes(liveNodes(), isClusterHealthy());
+    }
+  }
+
   @Override
   public void promoteElectedLeader(Id leaderNodeId) {
     if (localNode.id().equals(leaderNodeId)) {
@@ -221,20 +285,79 @@ public class LocalRegistry implements Registry {
     broadcaster.registerRegistryInterest(interest);
   }
 
+  // a pulsing node is reported healthy at most once per notification interval
   @Override
   public void updateLastHealthIndication(final Id id) {
     final RegisteredNodeStatus status = registry.get(id);
 
     if (status != null) {
-      status.updateLastHealthIndication();
-      broadcaster.informNodeIsHealthy(status.node(), isClusterHealthy());
+      final long currentTime = System.currentTimeMillis();
+      status.updateLastHealthIndication(currentTime);
+      if (status.healthyInformDue(currentTime, Properties.instance.clusterHealthyNotificationInterval())) {
+        broadcaster.informNodeIsHealthy(status.node(), isClusterHealthy());
+      }
     }
   }
 
+  // changes whenever the live nodes do
+  @Override
+  public long version() {
+    return version;
+  }
+
+  // may be called from any thread
+  @Override
+  public ClusterView view() {
+    return view;
+  }
+
   protected RegisteredNodeStatus registeredNodeStatusOf(final Id id) {
     return registry.get(id);
   }
 
+  protected int livenessIndexSize() {
+    return livenessIndex.size();
+  }
+
+  private void membershipChanged() {
+    ++version;
+    liveNodes = null;
+    publish();
+  }
+
+  private void publish() {
+    final ClusterView current = view;
+    final Set<Node> nodes = liveNodes();
+    final Node leaderNode = currentLeader();
+
+    if (nodes == publishedLiveNodes && leaderNode.equals(current.leader())) {
+      return;
+    }
+
+    publishedLiveNodes = nodes;
+    view = ClusterView.of(current.version() + 1, nodes, leaderNode, hasQuorum());
+  }
+
+  private void register(final RegisteredNodeStatus status) {
+    registry.put(status.node().id(), status);
+    livenessIndex.add(status);
+    membershipChanged();
+  }
+
+  private RegisteredNodeStatus unregister(final Id id) {
+    final RegisteredNodeStatus status = registry.remove(id);
+
+    if (status != null) {
+      livenessIndex.remove(status);
+      if (leader == status) {
+        leader = null;
+      }
+      membershipChanged();
+    }
+
+    return status;
+  }
+
   private boolean isClusterHealthy() {
     return hasQuorum() && hasLeader();
   }
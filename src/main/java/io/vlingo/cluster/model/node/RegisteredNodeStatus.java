@@ -9,7 +9,10 @@ package io.vlingo.cluster.model.node;
 
 public class RegisteredNodeStatus {
   private boolean confirmedByLeader;
+  private LivenessIndex index;
+  private long indexedHealthIndication;
   private long lastHealthIndication;
+  private long lastInformedHealthy;
   private boolean leader;
   private final Node node;
 
@@ -43,7 +46,11 @@ public class RegisteredNodeStatus {
   }
 
   public void updateLastHealthIndication() {
-    this.lastHealthIndication = System.currentTimeMillis();
+    updateLastHealthIndication(System.currentTimeMillis());
+  }
+
+  public void updateLastHealthIndication(final long currentTime) {
+    setLastHealthIndication(currentTime);
   }
 
   protected RegisteredNodeStatus(final Node node, final boolean isLeader, final boolean confirmedByLeader) {
@@ -54,6 +61,31 @@ public class RegisteredNodeStatus {
   }
   
   protected void setLastHealthIndication(final long millis) {
+    final boolean earlier = millis < lastHealthIndication;
+
     this.lastHealthIndication = millis;
+
+    // the index finds later indications lazily, but not earlier ones
+    if (earlier && index != null) {
+      index.add(this);
+    }
+  }
+
+  // answers whether the node has gone the interval without being reported healthy, and if so, marks it reported
+  boolean healthyInformDue(final long currentTime, final long interval) {
+    if (currentTime - lastInformedHealthy < interval) {
+      return false;
+    }
+    lastInformedHealthy = currentTime;
+    return true;
+  }
+
+  void indexedBy(final LivenessIndex index, final long healthIndication) {
+    this.index = index;
+    this.indexedHealthIndication = healthIndication;
+  }
+
+  boolean isIndexedBy(final LivenessIndex index, final long healthIndication) {
+    return this.index == index && this.indexedHealthIndication == healthIndication;
   }
 }
@@ -10,6 +10,8 @@ package io.vlingo.cluster.model.node;
 import java.util.Collection;
 import java.util.Set;
 
+import io.vlingo.cluster.model.ClusterView;
+
 public interface Registry {
   void cleanTimedOutNodes();
   void confirmAllLiveNodesByLeader();
@@ -25,7 +27,10 @@ public interface Registry {
   void join(Node node);
   void leave(final Id id);
   void mergeAllDirectoryEntries(final Collection<Node> nodes);
+  void mergeDirectoryDelta(final Collection<Node> joined, final Collection<Id> left);
   void promoteElectedLeader(final Id leaderNodeId);
   void registerRegistryInterest(final RegistryInterest interest);
   void updateLastHealthIndication(final Id id);
+  long version();
+  ClusterView view();
 }
@@ -19,4 +19,5 @@ public interface RegistryInterest {
   void informNodeJoinedCluster(final Node node, final boolean isHealthyCluster);
   void informNodeLeftCluster(final Node node, final boolean isHealthyCluster);
   void informNodeTimedOut(final Node node, final boolean isHealthyCluster);
+  void informOutboundCircuitState(final Node node, final AddressType type, final CircuitState state);
 }
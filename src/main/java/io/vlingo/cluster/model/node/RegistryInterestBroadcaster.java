@@ -124,4 +124,15 @@ public class RegistryInterestBroadcaster implements RegistryInterest {
       // TODO: Log
     }
   }
+
+  @Override
+  public void informOutboundCircuitState(final Node node, final AddressType type, final CircuitState state) {
+    try {
+      for (final RegistryInterest interest : registryInterests) {
+        interest.informOutboundCircuitState(node, type, state);
+      }
+    } catch (Exception e) {
+      // TODO: Log
+    }
+  }
 }
@@ -8,21 +8,37 @@
 package io.vlingo.cluster.model.outbound;
 
 import io.vlingo.actors.Actor;
+import io.vlingo.actors.Cancellable;
+import io.vlingo.actors.Scheduled;
+import io.vlingo.cluster.model.Properties;
 import io.vlingo.cluster.model.application.ClusterApplicationOutboundStream;
 import io.vlingo.cluster.model.node.Id;
 import io.vlingo.common.message.ByteBufferPool;
 import io.vlingo.common.message.RawMessage;
 
 public class ApplicationOutboundStreamActor extends Actor
-  implements ClusterApplicationOutboundStream {
+  implements ClusterApplicationOutboundStream, Scheduled {
 
+  private static final Object EndOfTurn = new Object();
+
+  private final Cancellable flushDeadline;
+  private boolean flushRequested;
   private final Outbound outbound;
+  private final Scheduled self;
+  private int unorderedKey;
   
   public ApplicationOutboundStreamActor(
           final ManagedOutboundChannelProvider provider,
           final ByteBufferPool byteBufferPool) {
     
-    this.outbound = new Outbound(provider, byteBufferPool);
+    this.outbound =
+            new Outbound(
+                    provider,
+                    byteBufferPool,
+                    Properties.instance.applicationOutboundCoalesceCount() > 0,
+                    Properties.instance.applicationOutboundPeerWriters() ? stage() : null);
+    this.self = selfAs(Scheduled.class);
+    this.flushDeadline = scheduleFlushDeadline(Properties.instance.applicationOutboundCoalesceDelay());
   }
 
   //===================================
@@ -32,11 +48,38 @@ public class ApplicationOutboundStreamActor extends Actor
   @Override
   public void broadcast(final RawMessage message) {
     outbound.broadcast(message);
+    flushAfterTurn();
+  }
+
+  @Override
+  public void broadcast(final RawMessage message, final int orderKey) {
+    outbound.broadcast(message, orderKey);
+    flushAfterTurn();
+  }
+
+  // spread over the stripes of each peer in turn, so may be reordered
+  @Override
+  public void broadcastUnordered(final RawMessage message) {
+    outbound.broadcast(message, unorderedKey++);
+    flushAfterTurn();
   }
 
   @Override
   public void sendTo(final RawMessage message, final Id targetId) {
     outbound.sendTo(message, targetId);
+    flushAfterTurn();
+  }
+
+  @Override
+  public void sendTo(final RawMessage message, final Id targetId, final int orderKey) {
+    outbound.sendTo(message, targetId, orderKey);
+    flushAfterTurn();
+  }
+
+  @Override
+  public void sendToUnordered(final RawMessage message, final Id targetId) {
+    outbound.sendTo(message, targetId, unorderedKey++);
+    flushAfterTurn();
   }
 
   //===================================
@@ -44,8 +87,45 @@ public class ApplicationOutboundStreamActor extends Actor
   //===================================
   
   public void stop() {
+    if (flushDeadline != null) {
+      flushDeadline.cancel();
+    }
+
     outbound.close();
     
     super.stop();
   }
+
+  //===================================
+  // Scheduled
+  //===================================
+
+  @Override
+  public void intervalSignal(final Scheduled scheduled, final Object data) {
+    if (data == EndOfTurn) {
+      flushRequested = false;
+    }
+
+    outbound.flush();
+  }
+
+  //===================================
+  // internal implementation
+  //===================================
+
+  // flushes once the messages already in the mailbox have been written
+  private void flushAfterTurn() {
+    if (!flushRequested && outbound.hasUnflushed()) {
+      flushRequested = true;
+      self.intervalSignal(null, EndOfTurn);
+    }
+  }
+
+  private Cancellable scheduleFlushDeadline(final long maximumDelay) {
+    if (!outbound.isCoalescing() || maximumDelay <= 0) {
+      return null;
+    }
+
+    return stage().world().scheduler().schedule(self, null, maximumDelay, maximumDelay);
+  }
 }
@@ -0,0 +1,185 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.cluster.model.outbound;
+
+import java.nio.ByteBuffer;
+
+// Holds the messages written to one peer and hands them to the channel it
+// decorates as one gathering write, once the count or bytes threshold is
+// reached or when the outbound stream flushes at the end of its turn or at
+// its deadline. A frame is retained until it is written rather than copied;
+// only a bare buffer, which its writer reuses on return, is copied. The
+// messages the channel could not write, as when the peer's circuit is open,
+// are kept for the next flush, the oldest being dropped when no more fit,
+// and should the channel instead fail the write, they are dropped and the
+// failure is thrown.
+public class CoalescingManagedOutboundChannel implements ManagedOutboundChannel {
+  private int bytes;
+  private final ManagedOutboundChannel channel;
+  private int count;
+  private int dropped;
+  private final OutboundFrame[] frames;
+  private final int maximumBytes;
+  private final ByteBuffer[] pending;
+
+  public CoalescingManagedOutboundChannel(
+          final ManagedOutboundChannel channel,
+          final int maximumCount,
+          final int maximumBytes) {
+
+    if (maximumCount < 1) {
+      throw new IllegalArgumentException("vlingo/cluster: Outbound coalesce count must be at least 1.");
+    }
+
+    this.channel = channel;
+    this.maximumBytes = maximumBytes;
+    this.frames = new OutboundFrame[maximumCount];
+    this.pending = new ByteBuffer[maximumCount];
+  }
+
+  //=========================================
+  // ManagedOutboundChannel
+  //=========================================
+
+  @Override
+  public void close() {
+    try {
+      flush();
+    } finally {
+      releaseAll();
+
+      channel.close();
+    }
+  }
+
+  @Override
+  public void flush() {
+    if (count == 0) return;
+
+    try {
+      channel.write(frames, pending, 0, count);
+    } catch (RuntimeException e) {
+      releaseAll();
+      throw e;
+    }
+
+    keepUnwritten();
+  }
+
+  @Override
+  public void write(final ByteBuffer buffer) {
+    final ByteBuffer copy = ByteBuffer.allocate(buffer.remaining());
+    copy.put(buffer);
+    copy.flip();
+
+    hold(null, copy);
+  }
+
+  @Override
+  public void write(final ByteBuffer buffer, final int orderKey) {
+    write(buffer);
+  }
+
+  @Override
+  public void write(final ByteBuffer[] buffers, final int offset, final int length) {
+    for (int idx = offset; idx < offset + length; ++idx) {
+      write(buffers[idx]);
+    }
+  }
+
+  @Override
+  public void write(final OutboundFrame frame) {
+    hold(frame, frame.asByteBuffer());
+  }
+
+  public int dropped() {
+    return dropped;
+  }
+
+  public int pending() {
+    return count;
+  }
+
+  //=========================================
+  // internal implementation
+  //=========================================
+
+  private void dropOldest() {
+    if (frames[0] != null) {
+      frames[0].release();
+    }
+
+    bytes -= pending[0].remaining();
+
+    System.arraycopy(frames, 1, frames, 0, count - 1);
+    System.arraycopy(pending, 1, pending, 0, count - 1);
+
+    --count;
+    frames[count] = null;
+    pending[count] = null;
+
+    ++dropped;
+  }
+
+  private void hold(final OutboundFrame frame, final ByteBuffer buffer) {
+    if (count == pending.length) {
+      flush();
+
+      if (count == pending.length) {
+        dropOldest();
+      }
+    }
+
+    frames[count] = frame == null ? null : frame.retain();
+    pending[count++] = buffer;
+    bytes += buffer.remaining();
+
+    if (count == pending.length || (maximumBytes > 0 && bytes >= maximumBytes)) {
+      flush();
+    }
+  }
+
+  // a channel that could not write a message has closed its connection, so
+  // the message is kept to be written whole once it reconnects
+  private void keepUnwritten() {
+    int kept = 0;
+
+    bytes = 0;
+
+    for (int idx = 0; idx < count; ++idx) {
+      if (pending[idx].hasRemaining()) {
+        pending[kept] = frames[idx] == null ? (ByteBuffer) pending[idx].rewind() : frames[idx].asByteBuffer();
+        frames[kept] = frames[idx];
+        bytes += pending[kept].remaining();
+        ++kept;
+      } else if (frames[idx] != null) {
+        frames[idx].release();
+      }
+    }
+
+    for (int idx = kept; idx < count; ++idx) {
+      frames[idx] = null;
+      pending[idx] = null;
+    }
+
+    count = kept;
+  }
+
+  private void releaseAll() {
+    for (int idx = 0; idx < count; ++idx) {
+      if (frames[idx] != null) {
+        frames[idx].release();
+        frames[idx] = null;
+      }
+      pending[idx] = null;
+    }
+
+    count = 0;
+    bytes = 0;
+  }
+}
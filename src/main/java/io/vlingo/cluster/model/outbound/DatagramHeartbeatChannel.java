@@ -0,0 +1,90 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.cluster.model.outbound;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.util.Map;
+
+import io.vlingo.cluster.model.node.Id;
+import io.vlingo.common.message.RawMessage;
+
+// Sends heartbeats, whose loss the health checks already tolerate, as one
+// datagram per message, so that liveness doesn't depend on the congestion
+// or the connection state of the operational sockets. Never blocks: a
+// datagram the socket can't take is dropped.
+public class DatagramHeartbeatChannel {
+  private final ByteBuffer buffer;
+  private final DatagramChannel channel;
+  private int dropped;
+  private final Map<Id, InetSocketAddress> peers;
+
+  public DatagramHeartbeatChannel(final Map<Id, InetSocketAddress> peers, final int maxMessageSize) throws IOException {
+    this.peers = peers;
+    this.buffer = ByteBuffer.allocate(maxMessageSize);
+    this.channel = DatagramChannel.open();
+    this.channel.configureBlocking(false);
+  }
+
+  public void broadcast(final RawMessage message) {
+    prepare(message);
+
+    for (final InetSocketAddress peer : peers.values()) {
+      send(peer);
+    }
+  }
+
+  public void close() {
+    try {
+      channel.close();
+    } catch (Exception e) {
+      System.out.println("vlingo/cluster: Close of heartbeat channel failed because: " + e.getMessage());
+      // TODO: log
+    }
+  }
+
+  public int dropped() {
+    return dropped;
+  }
+
+  public void sendTo(final RawMessage message, final Id id) {
+    final InetSocketAddress peer = peers.get(id);
+
+    if (peer == null) {
+      ++dropped;
+      return;
+    }
+
+    prepare(message);
+    send(peer);
+  }
+
+  //=========================================
+  // internal implementation
+  //=========================================
+
+  private void prepare(final RawMessage message) {
+    buffer.clear();
+    message.copyBytesTo(buffer);
+    buffer.flip();
+  }
+
+  private void send(final InetSocketAddress peer) {
+    try {
+      if (channel.send(buffer.duplicate(), peer) == 0) {
+        ++dropped;
+      }
+    } catch (IOException e) {
+      System.out.println("vlingo/cluster: Heartbeat to " + peer + " failed because: " + e.getMessage());
+      // TODO: log
+      ++dropped;
+    }
+  }
+}
@@ -0,0 +1,100 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.cluster.model.outbound;
+
+import java.nio.ByteBuffer;
+
+import io.vlingo.cluster.model.inbound.LoopbackConnection;
+import io.vlingo.cluster.model.inbound.LoopbackInboundReader;
+import io.vlingo.cluster.model.node.Address;
+import io.vlingo.cluster.model.node.Node;
+import io.vlingo.common.message.RawMessage;
+
+// Sends to a node in the same JVM by offering each message to the ring of
+// its LoopbackInboundReader. As with a socket, messages to a node that is
+// not (yet) listening, or whose ring is full, are dropped.
+public class LoopbackManagedOutboundChannel implements ManagedOutboundChannel {
+  private final Address address;
+  private LoopbackConnection connection;
+  private int dropped;
+  private final Node node;
+
+  public LoopbackManagedOutboundChannel(final Node node, final Address address) {
+    this.node = node;
+    this.address = address;
+  }
+
+  //=========================================
+  // ManagedOutboundChannel
+  //=========================================
+
+  @Override
+  public void close() {
+    if (connection != null) {
+      connection.close();
+      connection = null;
+    }
+  }
+
+  @Override
+  public void flush() {
+    // every message is visible to the reader once offered
+  }
+
+  @Override
+  public void write(final ByteBuffer buffer) {
+    final LoopbackConnection preparedConnection = preparedConnection();
+
+    if (preparedConnection == null || !preparedConnection.offer(RawMessage.from(buffer))) {
+      ++dropped;
+    }
+  }
+
+  @Override
+  public void write(final ByteBuffer buffer, final int orderKey) {
+    write(buffer);
+  }
+
+  @Override
+  public void write(final ByteBuffer[] buffers, final int offset, final int length) {
+    for (int idx = offset; idx < offset + length; ++idx) {
+      write(buffers[idx]);
+    }
+  }
+
+  public int dropped() {
+    return dropped;
+  }
+
+  //=========================================
+  // internal implementation
+  //=========================================
+
+  private LoopbackConnection preparedConnection() {
+    if (connection != null && !connection.isClosed()) {
+      return connection;
+    }
+
+    connection = null;
+
+    final LoopbackInboundReader reader = LoopbackInboundReader.readerAt(address);
+
+    if (reader == null) {
+      return null;
+    }
+
+    try {
+      connection = reader.connect();
+    } catch (IllegalStateException e) {
+      System.out.println("vlingo/cluster: Loopback connect to " + node.id() + " failed because: " + e.getMessage());
+      // TODO: log
+    }
+
+    return connection;
+  }
+}
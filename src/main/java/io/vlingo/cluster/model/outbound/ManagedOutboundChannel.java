@@ -11,5 +11,24 @@ import java.nio.ByteBuffer;
 
 public interface ManagedOutboundChannel {
   void close();
+  void flush();
   void write(final ByteBuffer buffer);
+  void write(final ByteBuffer buffer, final int orderKey);
+  void write(final ByteBuffer[] buffers, final int offset, final int length);
+
+  // the caller releases its own reference on return, so a channel that
+  // holds the message to write later retains the frame rather than copying
+  default void write(final OutboundFrame frame) {
+    if (frame.isKeyed()) {
+      write(frame.asByteBuffer(), frame.orderKey());
+    } else {
+      write(frame.asByteBuffer());
+    }
+  }
+
+  // a gathering write of the bytes of the frames, or of bare buffers where
+  // a frame is null, which the channel retains as for a single frame
+  default void write(final OutboundFrame[] frames, final ByteBuffer[] buffers, final int offset, final int length) {
+    write(buffers, offset, length);
+  }
 }
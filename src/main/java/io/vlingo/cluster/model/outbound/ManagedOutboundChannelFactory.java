@@ -0,0 +1,15 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.cluster.model.outbound;
+
+import io.vlingo.cluster.model.node.Address;
+import io.vlingo.cluster.model.node.Node;
+
+public interface ManagedOutboundChannelFactory {
+  ManagedOutboundChannel unopenedChannelFor(final Node node, final Address address);
+}
@@ -7,21 +7,43 @@
 
 package io.vlingo.cluster.model.outbound;
 
+import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.nio.ByteBuffer;
 import java.nio.channels.SocketChannel;
 
+import io.vlingo.cluster.model.Properties;
 import io.vlingo.cluster.model.node.Address;
+import io.vlingo.cluster.model.node.CircuitState;
 import io.vlingo.cluster.model.node.Node;
 
+// Writes block until complete. While the circuit is closed the peer is
+// expected to be up, so a connect waits for at most the connect timeout.
+// The trial connect of a half-open circuit is made asynchronously instead,
+// as the peer has been failing: the writes made while it is pending are
+// dropped, as they are while the circuit is open, and each checks whether
+// it has completed or timed out.
 public class ManagedOutboundSocketChannel implements ManagedOutboundChannel {
   private SocketChannel channel;
   private final Address address;
+  private final OutboundCircuitBreaker breaker;
+  private long connectDeadline;
+  private final long connectTimeout;
   private final Node node;
 
   public ManagedOutboundSocketChannel(final Node node, final Address address) {
+    this(node, address, OutboundCircuitBreaker.of(node, address.type(), null));
+  }
+
+  public ManagedOutboundSocketChannel(final Node node, final Address address, final OutboundCircuitBreaker breaker) {
+    this(node, address, breaker, Properties.instance.outboundConnectTimeout());
+  }
+
+  public ManagedOutboundSocketChannel(final Node node, final Address address, final OutboundCircuitBreaker breaker, final long connectTimeout) {
     this.node = node;
     this.address = address;
+    this.breaker = breaker;
+    this.connectTimeout = connectTimeout;
     this.channel = null;
   }
 
@@ -37,6 +59,10 @@ public class ManagedOutboundSocketChannel implements ManagedOutboundChannel {
     channel = null;
   }
 
+  public void flush() {
+    // every write is complete on return
+  }
+
   public void write(final ByteBuffer buffer) {
     final SocketChannel preparedChannel = preparedChannel();
 
@@ -50,26 +76,84 @@ public class ManagedOutboundSocketChannel implements ManagedOutboundChannel {
         e.printStackTrace();
         // TODO: log
         close();
+        breaker.failed();
+      }
+    }
+  }
+
+  public void write(final ByteBuffer buffer, final int orderKey) {
+    write(buffer);
+  }
+
+  public void write(final ByteBuffer[] buffers, final int offset, final int length) {
+    final SocketChannel preparedChannel = preparedChannel();
+
+    if (preparedChannel != null) {
+      try {
+        final ByteBuffer last = buffers[offset + length - 1];
+        while (last.hasRemaining()) {
+          preparedChannel.write(buffers, offset, length);
+        }
+      } catch (Exception e) {
+        System.out.println("vlingo/cluster: Write to " + node + " failed because: " + e.getMessage());
+        e.printStackTrace();
+        // TODO: log
+        close();
+        breaker.failed();
       }
     }
   }
 
+  // answers whether the trial connect of the half-open circuit is still pending
+  boolean isConnectPending() {
+    return channel != null && channel.isConnectionPending();
+  }
+
   private SocketChannel preparedChannel() {
     try {
       if (channel != null) {
-        if (channel.isConnected()) {
+        if (channel.isConnectionPending()) {
+          return finishedConnect();
+        } else if (channel.isConnected()) {
           return channel;
         } else {
           close();
         }
-      } else {
+      } else if (breaker.allowsConnect()) {
+        final InetSocketAddress peer = new InetSocketAddress(address.host(), address.port());
         channel = SocketChannel.open();
-        channel.connect(new InetSocketAddress(address.host(), address.port()));
-        return channel;
+        if (breaker.state() == CircuitState.HalfOpen) {
+          channel.configureBlocking(false);
+          connectDeadline = System.currentTimeMillis() + connectTimeout;
+          return channel.connect(peer) ? connected() : null;
+        }
+        channel.socket().connect(peer, (int) connectTimeout);
+        return connected();
       }
     } catch (Exception e) {
+      System.out.println("vlingo/cluster: Connect to " + node + " failed because: " + e.getMessage());
+      // TODO: log
       close();
+      breaker.failed();
     }
     return null;
   }
+
+  private SocketChannel connected() throws IOException {
+    channel.configureBlocking(true);
+    breaker.succeeded();
+    return channel;
+  }
+
+  private SocketChannel finishedConnect() throws IOException {
+    if (channel.finishConnect()) {
+      return connected();
+    }
+
+    if (System.currentTimeMillis() >= connectDeadline) {
+      throw new IOException("timed out after " + connectTimeout + " ms");
+    }
+
+    return null;
+  }
 }
@@ -20,6 +20,7 @@ import io.vlingo.cluster.model.node.Node;
 
 public class ManagedOutboundSocketChannelProvider implements ManagedOutboundChannelProvider {
   private final Configuration configuration;
+  private final ManagedOutboundChannelFactory factory;
   private final Node node;
   private final Map<Id, ManagedOutboundChannel> nodeChannels;
   private final AddressType type;
@@ -28,10 +29,20 @@ public class ManagedOutboundSocketChannelProvider implements ManagedOutboundChan
           final Node node,
           final AddressType type,
           final Configuration configuration) {
+
+    this(node, type, configuration, ManagedOutboundSocketChannel::new);
+  }
+
+  public ManagedOutboundSocketChannelProvider(
+          final Node node,
+          final AddressType type,
+          final Configuration configuration,
+          final ManagedOutboundChannelFactory factory) {
     
     this.node = node;
     this.type = type;
     this.configuration = configuration;
+    this.factory = factory;
     this.nodeChannels = new HashMap<Id, ManagedOutboundChannel>();
     
     configureKnownChannels();
@@ -103,6 +114,6 @@ public class ManagedOutboundSocketChannelProvider implements ManagedOutboundChan
     final Address address = (type == AddressType.OP ?
         node.operationalAddress() : node.applicationAddress());
 
-    return new ManagedOutboundSocketChannel(node, address);
+    return factory.unopenedChannelFor(node, address);
   }
 }
@@ -0,0 +1,389 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.cluster.model.outbound;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+
+import io.vlingo.cluster.model.Properties;
+import io.vlingo.cluster.model.node.Address;
+import io.vlingo.cluster.model.node.Node;
+
+// Never blocks the writing actor: the connect is completed, and anything
+// the socket can't take immediately is queued and written, by the
+// OutboundSelector. When the queue is full the OverflowPolicy applies.
+// While the peer's circuit is open, sends are dropped without connecting,
+// and a connect still pending after the timeout fails. A frame is queued by
+// retaining it until written; only a bare buffer is copied to be queued.
+public class NonBlockingManagedOutboundSocketChannel implements ManagedOutboundChannel {
+  public enum OverflowPolicy {
+    DropNew, DropOldest, Fail;
+
+    public static OverflowPolicy from(final String name) {
+      for (final OverflowPolicy policy : values()) {
+        if (policy.name().equalsIgnoreCase(name)) {
+          return policy;
+        }
+      }
+      throw new IllegalArgumentException("vlingo/cluster: Unknown outbound overflow policy: " + name);
+    }
+  }
+
+  private final Address address;
+  private final OutboundCircuitBreaker breaker;
+  private SocketChannel channel;
+  private boolean connected;
+  private long connectDeadline;
+  private final long connectTimeout;
+  private int dropped;
+  private SelectionKey key;
+  private final Node node;
+  private final OverflowPolicy overflowPolicy;
+  private final Deque<Queued> queue;
+  private final int queueCapacity;
+  private final OutboundSelector selector;
+
+  public NonBlockingManagedOutboundSocketChannel(
+          final Node node,
+          final Address address,
+          final OutboundSelector selector,
+          final int queueCapacity,
+          final OverflowPolicy overflowPolicy) {
+
+    this(node, address, selector, queueCapacity, overflowPolicy, OutboundCircuitBreaker.of(node, address.type(), null));
+  }
+
+  public NonBlockingManagedOutboundSocketChannel(
+          final Node node,
+          final Address address,
+          final OutboundSelector selector,
+          final int queueCapacity,
+          final OverflowPolicy overflowPolicy,
+          final OutboundCircuitBreaker breaker) {
+
+    this(node, address, selector, queueCapacity, overflowPolicy, breaker, Properties.instance.outboundConnectTimeout());
+  }
+
+  public NonBlockingManagedOutboundSocketChannel(
+          final Node node,
+          final Address address,
+          final OutboundSelector selector,
+          final int queueCapacity,
+          final OverflowPolicy overflowPolicy,
+          final OutboundCircuitBreaker breaker,
+          final long connectTimeout) {
+
+    if (queueCapacity < 1) {
+      throw new IllegalArgumentException("vlingo/cluster: Outbound queue capacity must be at least 1.");
+    }
+
+    this.node = node;
+    this.address = address;
+    this.selector = selector;
+    this.queueCapacity = queueCapacity;
+    this.overflowPolicy = overflowPolicy;
+    this.breaker = breaker;
+    this.connectTimeout = connectTimeout;
+    this.queue = new ArrayDeque<>(queueCapacity);
+  }
+
+  //=========================================
+  // ManagedOutboundChannel
+  //=========================================
+
+  @Override
+  public synchronized void close() {
+    if (channel != null) {
+      try {
+        channel.close();
+      } catch (Exception e) {
+        System.out.println("vlingo/cluster: Close of channel to " + node.id() + " failed for because: " + e.getMessage());
+        // TODO: log
+      }
+    }
+    channel = null;
+    connected = false;
+    key = null;
+
+    for (final Queued queued : queue) {
+      queued.release();
+    }
+    queue.clear();
+  }
+
+  @Override
+  public void flush() {
+    // the selector sends whatever is queued as soon as the socket allows
+  }
+
+  @Override
+  public synchronized void write(final ByteBuffer buffer) {
+    write(null, buffer);
+  }
+
+  @Override
+  public void write(final ByteBuffer buffer, final int orderKey) {
+    write(buffer);
+  }
+
+  @Override
+  public void write(final ByteBuffer[] buffers, final int offset, final int length) {
+    write(null, buffers, offset, length);
+  }
+
+  @Override
+  public synchronized void write(final OutboundFrame frame) {
+    write(frame, frame.asByteBuffer());
+  }
+
+  @Override
+  public synchronized void write(final OutboundFrame[] frames, final ByteBuffer[] buffers, final int offset, final int length) {
+    if (channel == null && !connect()) {
+      return;
+    }
+
+    if (connected && queue.isEmpty()) {
+      try {
+        channel.write(buffers, offset, length);
+      } catch (IOException e) {
+        System.out.println("vlingo/cluster: Write to " + node + " failed because: " + e.getMessage());
+        // TODO: log
+        failed();
+        return;
+      }
+    }
+
+    for (int idx = offset; idx < offset + length; ++idx) {
+      if (buffers[idx].hasRemaining()) {
+        enqueue(frames == null ? null : frames[idx], buffers[idx]);
+      }
+    }
+  }
+
+  //=========================================
+  // diagnostics
+  //=========================================
+
+  public OutboundCircuitBreaker breaker() {
+    return breaker;
+  }
+
+  public synchronized int dropped() {
+    return dropped;
+  }
+
+  public synchronized boolean isConnected() {
+    return connected;
+  }
+
+  public synchronized int queued() {
+    return queue.size();
+  }
+
+  //=========================================
+  // OutboundSelector callbacks
+  //=========================================
+
+  synchronized void connectable(final SelectionKey key) {
+    if (key.channel() != channel) return;
+
+    try {
+      if (channel.finishConnect()) {
+        connected = true;
+        breaker.succeeded();
+        key.interestOps(queue.isEmpty() ? 0 : SelectionKey.OP_WRITE);
+      }
+    } catch (IOException e) {
+      System.out.println("vlingo/cluster: Connect to " + node + " failed because: " + e.getMessage());
+      // TODO: log
+      failed();
+    }
+  }
+
+  // answers whether the connect is still pending
+  synchronized boolean connectPending(final SelectionKey key, final long now) {
+    if (key.channel() != channel || connected) return false;
+
+    if (now < connectDeadline) {
+      return true;
+    }
+
+    System.out.println("vlingo/cluster: Connect to " + node + " timed out after " + connectTimeout + " ms");
+    // TODO: log
+    failed();
+
+    return false;
+  }
+
+  synchronized void registered(final SelectionKey key) {
+    if (key.channel() != channel) {
+      key.cancel();
+      return;
+    }
+
+    this.key = key;
+
+    if (connected && !queue.isEmpty()) {
+      key.interestOps(SelectionKey.OP_WRITE);
+    }
+  }
+
+  synchronized void writable(final SelectionKey key) {
+    if (key.channel() != channel) return;
+
+    try {
+      while (!queue.isEmpty()) {
+        final ByteBuffer head = queue.peekFirst().bytes;
+        channel.write(head);
+        if (head.hasRemaining()) {
+          return; // socket send buffer is full
+        }
+        queue.pollFirst().release();
+      }
+      key.interestOps(0);
+    } catch (IOException e) {
+      System.out.println("vlingo/cluster: Write to " + node + " failed because: " + e.getMessage());
+      // TODO: log
+      failed();
+    }
+  }
+
+  //=========================================
+  // internal implementation
+  //=========================================
+
+  private boolean connect() {
+    if (!breaker.allowsConnect()) {
+      return false;
+    }
+
+    try {
+      channel = SocketChannel.open();
+      channel.configureBlocking(false);
+      connectDeadline = System.currentTimeMillis() + connectTimeout;
+      connected = channel.connect(new InetSocketAddress(address.host(), address.port()));
+      if (connected) {
+        breaker.succeeded();
+      }
+      selector.register(this, channel, connected ? 0 : SelectionKey.OP_CONNECT);
+      return true;
+    } catch (Exception e) {
+      failed();
+    }
+    return false;
+  }
+
+  private void failed() {
+    close();
+    breaker.failed();
+  }
+
+  private void write(final OutboundFrame frame, final ByteBuffer buffer) {
+    if (channel == null && !connect()) {
+      return;
+    }
+
+    if (connected && queue.isEmpty()) {
+      try {
+        channel.write(buffer);
+      } catch (IOException e) {
+        System.out.println("vlingo/cluster: Write to " + node + " failed because: " + e.getMessage());
+        // TODO: log
+        failed();
+        return;
+      }
+
+      if (!buffer.hasRemaining()) {
+        return;
+      }
+    }
+
+    enqueue(frame, buffer);
+  }
+
+  // the buffer is left consumed, as by a write, whether queued or dropped
+  private void enqueue(final OutboundFrame frame, final ByteBuffer buffer) {
+    if (queue.size() >= queueCapacity) {
+      switch (overflowPolicy) {
+      case DropNew:
+        ++dropped;
+        buffer.position(buffer.limit());
+        return;
+      case DropOldest:
+        if (!dropOldest()) {
+          ++dropped;
+          buffer.position(buffer.limit());
+          return;
+        }
+        ++dropped;
+        break;
+      case Fail:
+        throw new IllegalStateException("vlingo/cluster: Outbound queue to " + node.id() + " is full.");
+      }
+    }
+
+    final boolean wasEmpty = queue.isEmpty();
+
+    if (frame != null) {
+      queue.addLast(new Queued(buffer.duplicate(), frame.retain()));
+      buffer.position(buffer.limit());
+    } else {
+      final ByteBuffer copy = ByteBuffer.allocate(buffer.remaining());
+      copy.put(buffer);
+      copy.flip();
+      queue.addLast(new Queued(copy, null));
+    }
+
+    if (wasEmpty && connected && key != null) {
+      key.interestOps(SelectionKey.OP_WRITE);
+      selector.wakeup();
+    }
+  }
+
+  // once connected the head may be partially written, or be the remainder
+  // of a partial direct write, and must be completed to keep the stream framed
+  private boolean dropOldest() {
+    final Iterator<Queued> iterator = queue.iterator();
+
+    if (connected && iterator.hasNext()) {
+      iterator.next();
+    }
+
+    if (iterator.hasNext()) {
+      final Queued oldest = iterator.next();
+      iterator.remove();
+      oldest.release();
+      return true;
+    }
+
+    return false;
+  }
+
+  // the bytes still to write, and the frame holding them or null for a copy
+  private static final class Queued {
+    final ByteBuffer bytes;
+    final OutboundFrame frame;
+
+    Queued(final ByteBuffer bytes, final OutboundFrame frame) {
+      this.bytes = bytes;
+      this.frame = frame;
+    }
+
+    void release() {
+      if (frame != null) {
+        frame.release();
+      }
+    }
+  }
+}
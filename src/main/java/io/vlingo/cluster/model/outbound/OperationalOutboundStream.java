@@ -13,6 +13,7 @@ import java.util.Set;
 import io.vlingo.actors.Definition;
 import io.vlingo.actors.Stage;
 import io.vlingo.actors.Stoppable;
+import io.vlingo.cluster.model.Properties;
 import io.vlingo.cluster.model.message.ApplicationSays;
 import io.vlingo.cluster.model.node.Id;
 import io.vlingo.cluster.model.node.Node;
@@ -24,11 +25,24 @@ public interface OperationalOutboundStream extends Stoppable {
           final Node node,
           final ManagedOutboundChannelProvider provider,
           final ByteBufferPool byteBufferPool) {
+
+    return instance(stage, node, provider, byteBufferPool, null);
+  }
+
+  public static OperationalOutboundStream instance(
+          final Stage stage,
+          final Node node,
+          final ManagedOutboundChannelProvider provider,
+          final ByteBufferPool byteBufferPool,
+          final DatagramHeartbeatChannel heartbeats) {
     
     final Definition definition =
             Definition.has(
                     OperationalOutboundStreamActor.class,
-                    Definition.parameters(node, provider, byteBufferPool),
+                    heartbeats == null ?
+                            Definition.parameters(node, provider, byteBufferPool) :
+                            Definition.parameters(node, provider, byteBufferPool, heartbeats),
+                    Properties.instance.operationalMailboxName(),
                     "cluster-operational-outbound-stream");
     
     final OperationalOutboundStream operationalOutboundStream =
@@ -38,8 +52,12 @@ public interface OperationalOutboundStream extends Stoppable {
   }
 
   void close(final Id id);
+  void codecVersion(final Id id, final int version);
   void application(final ApplicationSays says, final Collection<Node> unconfirmedNodes);
   void directory(final Set<Node> allLiveNodes);
+  void directory(final Set<Node> allLiveNodes, final long incarnation, final long epoch, final long registryVersion);
+  void directory(final Set<Node> allLiveNodes, final long incarnation, final long epoch, final long registryVersion, final Id targetNodeId);
+  void directoryDelta(final Set<Node> joined, final Set<Id> left, final long incarnation, final long epoch);
   void elect(final Collection<Node> allGreaterNodes);
   void join();
   void leader();
@@ -50,5 +68,6 @@ public interface OperationalOutboundStream extends Stoppable {
   void pulse(final Id targetNodeId);
   void pulse();
   void split(final Id targetNodeId, final Id currentLeaderId);
+  void sync(final Id leaderNodeId);
   void vote(final Id targetNodeId);
 }
@@ -8,37 +8,75 @@
 package io.vlingo.cluster.model.outbound;
 
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import io.vlingo.actors.Actor;
+import io.vlingo.actors.Cancellable;
+import io.vlingo.actors.Scheduled;
+import io.vlingo.cluster.model.Properties;
 import io.vlingo.cluster.model.message.ApplicationSays;
+import io.vlingo.cluster.model.message.BinaryMessageConverters;
 import io.vlingo.cluster.model.message.Directory;
+import io.vlingo.cluster.model.message.DirectoryDelta;
 import io.vlingo.cluster.model.message.MessageConverters;
 import io.vlingo.cluster.model.message.OperationalMessage;
 import io.vlingo.cluster.model.message.OperationalMessageCache;
-import io.vlingo.cluster.model.message.Split;
 import io.vlingo.cluster.model.node.Id;
 import io.vlingo.cluster.model.node.Node;
 import io.vlingo.common.message.ByteBufferPool;
 import io.vlingo.common.message.ByteBufferPool.PooledByteBuffer;
 import io.vlingo.common.message.Converters;
 import io.vlingo.common.message.RawMessage;
+import io.vlingo.common.message.RawMessageHeader;
 
 public class OperationalOutboundStreamActor extends Actor
-  implements OperationalOutboundStream {
+  implements OperationalOutboundStream, Scheduled {
 
+  private static final Object EndOfTurn = new Object();
+
+  private final OperationalMessageCache binaryCache;
   private final OperationalMessageCache cache;
+  private final int codecVersion;
+  private final Map<Id, Integer> codecVersions;
+  private int directoryTransfer;
+  private final Cancellable flushDeadline;
+  private boolean flushRequested;
+  private final DatagramHeartbeatChannel heartbeats;
   private final Node node;
   private final Outbound outbound;
+  private final Scheduled self;
   
   public OperationalOutboundStreamActor(
           final Node node,
           final ManagedOutboundChannelProvider provider,
           final ByteBufferPool byteBufferPool) {
+
+    this(node, provider, byteBufferPool, null);
+  }
+
+  public OperationalOutboundStreamActor(
+          final Node node,
+          final ManagedOutboundChannelProvider provider,
+          final ByteBufferPool byteBufferPool,
+          final DatagramHeartbeatChannel heartbeats) {
     
     this.node = node;
-    this.outbound = new Outbound(provider, byteBufferPool);
-    this.cache = new OperationalMessageCache(node.id(), node.name());
+    this.heartbeats = heartbeats;
+    this.outbound =
+            new Outbound(
+                    provider,
+                    byteBufferPool,
+                    Properties.instance.operationalOutboundCoalesceCount() > 0,
+                    Properties.instance.operationalOutboundPeerWriters() ? stage() : null);
+    this.codecVersion = Properties.instance.operationalCodecBinary() ? BinaryMessageConverters.Version : 0;
+    this.codecVersions = new HashMap<>();
+    this.cache = new OperationalMessageCache(node.id(), node.name(), codecVersion);
+    this.binaryCache = codecVersion > 0 ? OperationalMessageCache.binary(node.id(), node.name()) : null;
+    this.self = selfAs(Scheduled.class);
+    this.flushDeadline = scheduleFlushDeadline(Properties.instance.operationalOutboundCoalesceDelay());
   }
 
 
@@ -49,53 +87,124 @@ public class OperationalOutboundStreamActor extends Actor
   @Override
   public void close(final Id id) {
     outbound.close(id);
+    codecVersions.remove(id);
+  }
+
+  // the version of the binary codec that the peer has advertised, or 0
+  // to forget it until the peer's next incarnation advertises its own
+  @Override
+  public void codecVersion(final Id id, final int version) {
+    if (version > 0) {
+      codecVersions.put(id, version);
+    } else {
+      codecVersions.remove(id);
+    }
   }
 
+  // the text payload is encoded only if some of the nodes don't decode binary
   @Override
   public void application(final ApplicationSays says, final Collection<Node> unconfirmedNodes) {
     final PooledByteBuffer buffer = outbound.pooledByteBuffer();
-    MessageConverters.messageToBytes(says, buffer.buffer());
 
-    final RawMessage message = Converters.toRawMessage(node.id().value(), buffer.buffer());
-    
-    outbound.broadcast(unconfirmedNodes, outbound.bytesFrom(message, buffer));
+    if (says.hasBinaryPayload() && hasBinaryPeers()) {
+      BinaryMessageConverters.messageToBytes(says, buffer.buffer());
+      final RawMessage binaryMessage = Converters.toRawMessage(node.id().value(), buffer.buffer());
+
+      RawMessage textMessage = binaryMessage;
+
+      if (!allBinaryPeers(unconfirmedNodes)) {
+        buffer.buffer().clear();
+        MessageConverters.messageToBytes(says, buffer.buffer());
+        textMessage = Converters.toRawMessage(node.id().value(), buffer.buffer());
+      }
+
+      buffer.release();
+      outbound.broadcast(unconfirmedNodes, textMessage, binaryMessage, this::isBinaryPeer);
+    } else {
+      MessageConverters.messageToBytes(says, buffer.buffer());
+
+      final RawMessage message = Converters.toRawMessage(node.id().value(), buffer.buffer());
+
+      outbound.broadcast(unconfirmedNodes, outbound.bytesFrom(message, buffer));
+    }
+    flushAfterTurn();
   }
 
   @Override
   public void directory(final Set<Node> allLiveNodes) {
-    final Directory dir = new Directory(node.id(), node.name(), allLiveNodes);
+    for (final Directory dir : directoryChunksOf(allLiveNodes, 0, 0)) {
+      broadcast(dir);
+    }
+    flushAfterTurn();
+  }
 
-    final PooledByteBuffer buffer = outbound.pooledByteBuffer();
-    MessageConverters.messageToBytes(dir, buffer.buffer());
+  // the encoded directory is reused while the registry version, incarnation and epoch are unchanged
+  @Override
+  public void directory(final Set<Node> allLiveNodes, final long incarnation, final long epoch, final long registryVersion) {
+    final List<RawMessage> messages = cachedDirectory(cache, allLiveNodes, incarnation, epoch, registryVersion);
 
-    final RawMessage message = Converters.toRawMessage(node.id().value(), buffer.buffer());
-    
-    outbound.broadcast(outbound.bytesFrom(message, buffer));
+    if (hasBinaryPeers()) {
+      final List<RawMessage> binaryMessages = cachedDirectory(binaryCache, allLiveNodes, incarnation, epoch, registryVersion);
+
+      for (int index = 0; index < messages.size(); ++index) {
+        outbound.broadcast(messages.get(index), binaryMessages.get(index), this::isBinaryPeer);
+      }
+    } else {
+      for (final RawMessage message : messages) {
+        outbound.broadcast(message);
+      }
+    }
+    flushAfterTurn();
+  }
+
+  @Override
+  public void directory(final Set<Node> allLiveNodes, final long incarnation, final long epoch, final long registryVersion, final Id targetNodeId) {
+    final OperationalMessageCache peerCache = isBinaryPeer(targetNodeId) ? binaryCache : cache;
+
+    for (final RawMessage message : cachedDirectory(peerCache, allLiveNodes, incarnation, epoch, registryVersion)) {
+      outbound.sendTo(message, targetNodeId);
+    }
+    flushAfterTurn();
+  }
+
+  @Override
+  public void directoryDelta(final Set<Node> joined, final Set<Id> left, final long incarnation, final long epoch) {
+    broadcast(new DirectoryDelta(node.id(), node.name(), incarnation, epoch, joined, left));
+    flushAfterTurn();
   }
 
   @Override
   public void elect(final Collection<Node> allGreaterNodes) {
-    outbound.broadcast(allGreaterNodes, cache.cachedRawMessage(OperationalMessage.ELECT));
+    if (hasBinaryPeers()) {
+      outbound.broadcast(allGreaterNodes, cache.cachedRawMessage(OperationalMessage.ELECT), binaryCache.cachedRawMessage(OperationalMessage.ELECT), this::isBinaryPeer);
+    } else {
+      outbound.broadcast(allGreaterNodes, cache.cachedRawMessage(OperationalMessage.ELECT));
+    }
+    flushAfterTurn();
   }
 
   @Override
   public void join() {
-    outbound.broadcast(cache.cachedRawMessage(OperationalMessage.JOIN));
+    broadcast(OperationalMessage.JOIN);
+    flushAfterTurn();
   }
 
   @Override
   public void leader() {
-    outbound.broadcast(cache.cachedRawMessage(OperationalMessage.LEADER));
+    broadcast(OperationalMessage.LEADER);
+    flushAfterTurn();
   }
 
   @Override
   public void leader(final Id id) {
-    outbound.sendTo(cache.cachedRawMessage(OperationalMessage.LEADER), id);
+    outbound.sendTo(cachedRawMessage(OperationalMessage.LEADER, id), id);
+    flushAfterTurn();
   }
 
   @Override
   public void leave() {
-    outbound.broadcast(cache.cachedRawMessage(OperationalMessage.LEAVE));
+    broadcast(OperationalMessage.LEAVE);
+    flushAfterTurn();
   }
 
   @Override
@@ -105,34 +214,55 @@ public class OperationalOutboundStreamActor extends Actor
 
   @Override
   public void ping(final Id targetNodeId) {
-    outbound.sendTo(cache.cachedRawMessage(OperationalMessage.PING), targetNodeId);
+    if (heartbeats != null) {
+      heartbeats.sendTo(cachedRawMessage(OperationalMessage.PING, targetNodeId), targetNodeId);
+      return;
+    }
+
+    outbound.sendTo(cachedRawMessage(OperationalMessage.PING, targetNodeId), targetNodeId);
+    flushAfterTurn();
   }
 
   @Override
   public void pulse(final Id targetNodeId) {
-    outbound.sendTo(cache.cachedRawMessage(OperationalMessage.PULSE), targetNodeId);
+    if (heartbeats != null) {
+      heartbeats.sendTo(cachedRawMessage(OperationalMessage.PULSE, targetNodeId), targetNodeId);
+      return;
+    }
+
+    outbound.sendTo(cachedRawMessage(OperationalMessage.PULSE, targetNodeId), targetNodeId);
+    flushAfterTurn();
   }
 
   @Override
   public void pulse() {
-    outbound.broadcast(cache.cachedRawMessage(OperationalMessage.PULSE));
+    if (heartbeats != null) {
+      heartbeats.broadcast(cache.cachedRawMessage(OperationalMessage.PULSE));
+      return;
+    }
+
+    broadcast(OperationalMessage.PULSE);
+    flushAfterTurn();
   }
 
   @Override
   public void split(final Id targetNodeId, final Id currentLeaderId) {
-    final Split split = new Split(currentLeaderId);
-
-    final PooledByteBuffer buffer = outbound.pooledByteBuffer();
-    MessageConverters.messageToBytes(split, buffer.buffer());
+    final OperationalMessageCache peerCache = isBinaryPeer(targetNodeId) ? binaryCache : cache;
 
-    final RawMessage message = Converters.toRawMessage(node.id().value(), buffer.buffer());
+    outbound.sendTo(peerCache.cachedSplit(currentLeaderId), targetNodeId);
+    flushAfterTurn();
+  }
 
-    outbound.sendTo(outbound.bytesFrom(message, buffer), targetNodeId);
+  @Override
+  public void sync(final Id leaderNodeId) {
+    outbound.sendTo(cachedRawMessage(OperationalMessage.SYNC, leaderNodeId), leaderNodeId);
+    flushAfterTurn();
   }
 
   @Override
   public void vote(final Id targetNodeId) {
-    outbound.sendTo(cache.cachedRawMessage(OperationalMessage.VOTE), targetNodeId);
+    outbound.sendTo(cachedRawMessage(OperationalMessage.VOTE, targetNodeId), targetNodeId);
+    flushAfterTurn();
   }
 
 
@@ -141,8 +271,132 @@ public class OperationalOutboundStreamActor extends Actor
   //===================================
   
   public void stop() {
+    if (flushDeadline != null) {
+      flushDeadline.cancel();
+    }
+
     outbound.close();
+
+    if (heartbeats != null) {
+      heartbeats.close();
+    }
     
     super.stop();
   }
+
+
+  //===================================
+  // Scheduled
+  //===================================
+
+  @Override
+  public void intervalSignal(final Scheduled scheduled, final Object data) {
+    if (data == EndOfTurn) {
+      flushRequested = false;
+    }
+
+    outbound.flush();
+  }
+
+
+  //===================================
+  // internal implementation
+  //===================================
+
+  private boolean allBinaryPeers(final Collection<Node> nodes) {
+    for (final Node node : nodes) {
+      if (!isBinaryPeer(node.id())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void broadcast(final OperationalMessage message) {
+    final PooledByteBuffer buffer = outbound.pooledByteBuffer();
+    MessageConverters.messageToBytes(message, buffer.buffer(), codecVersion);
+
+    final RawMessage textMessage = Converters.toRawMessage(node.id().value(), buffer.buffer());
+
+    if (hasBinaryPeers()) {
+      buffer.buffer().clear();
+      BinaryMessageConverters.messageToBytes(message, buffer.buffer());
+      final RawMessage binaryMessage = Converters.toRawMessage(node.id().value(), buffer.buffer());
+      buffer.release();
+      outbound.broadcast(textMessage, binaryMessage, this::isBinaryPeer);
+    } else {
+      outbound.broadcast(outbound.bytesFrom(textMessage, buffer));
+    }
+  }
+
+  private void broadcast(final String type) {
+    if (hasBinaryPeers()) {
+      outbound.broadcast(cache.cachedRawMessage(type), binaryCache.cachedRawMessage(type), this::isBinaryPeer);
+    } else {
+      outbound.broadcast(cache.cachedRawMessage(type));
+    }
+  }
+
+  private List<RawMessage> cachedDirectory(
+          final OperationalMessageCache messageCache,
+          final Set<Node> allLiveNodes,
+          final long incarnation,
+          final long epoch,
+          final long registryVersion) {
+
+    final List<RawMessage> messages = messageCache.cachedDirectory(registryVersion, incarnation, epoch);
+
+    if (messages != null) {
+      return messages;
+    }
+
+    return messageCache.cacheDirectory(registryVersion, incarnation, epoch, directoryChunksOf(allLiveNodes, incarnation, epoch), maxDirectoryMessageSize());
+  }
+
+  // the text encoding is the larger, so chunks sized to it fit either
+  private List<Directory> directoryChunksOf(final Set<Node> allLiveNodes, final long incarnation, final long epoch) {
+    final Directory dir = new Directory(node.id(), node.name(), incarnation, epoch, allLiveNodes);
+
+    return MessageConverters.directoryChunksOf(dir, maxDirectoryMessageSize(), ++directoryTransfer);
+  }
+
+  private int maxDirectoryMessageSize() {
+    return Properties.instance.operationalBufferSize() - RawMessageHeader.BYTES;
+  }
+
+  private RawMessage cachedRawMessage(final String type, final Id id) {
+    return isBinaryPeer(id) ? binaryCache.cachedRawMessage(type) : cache.cachedRawMessage(type);
+  }
+
+  private boolean hasBinaryPeers() {
+    if (binaryCache != null) {
+      for (final int version : codecVersions.values()) {
+        if (version == BinaryMessageConverters.Version) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  private boolean isBinaryPeer(final Id id) {
+    final Integer version = codecVersions.get(id);
+    return binaryCache != null && version != null && version == BinaryMessageConverters.Version;
+  }
+
+  // flushes once the messages already in the mailbox have been written
+  private void flushAfterTurn() {
+    if (!flushRequested && outbound.hasUnflushed()) {
+      flushRequested = true;
+      self.intervalSignal(null, EndOfTurn);
+    }
+  }
+
+  private Cancellable scheduleFlushDeadline(final long maximumDelay) {
+    if (!outbound.isCoalescing() || maximumDelay <= 0) {
+      return null;
+    }
+
+    return stage().world().scheduler().schedule(self, null, maximumDelay, maximumDelay);
+  }
 }
@@ -8,9 +8,14 @@
 package io.vlingo.cluster.model.outbound;
 
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Predicate;
 
+import io.vlingo.actors.Stage;
 import io.vlingo.cluster.model.node.Id;
 import io.vlingo.cluster.model.node.Node;
 import io.vlingo.common.message.ByteBufferPool;
@@ -18,15 +23,41 @@ import io.vlingo.common.message.ByteBufferPool.PooledByteBuffer;
 import io.vlingo.common.message.RawMessage;
 
 public class Outbound {
+  private final boolean coalescing;
   private final ByteBufferPool pool;
   private final ManagedOutboundChannelProvider provider;
+  private final List<ManagedOutboundChannel> unflushed;
+  private final Stage writerStage;
+  private final Map<Id, OutboundPeerWriter> writers;
 
   protected Outbound(
       final ManagedOutboundChannelProvider provider,
       final ByteBufferPool byteBufferPool) {
 
+    this(provider, byteBufferPool, false);
+  }
+
+  protected Outbound(
+      final ManagedOutboundChannelProvider provider,
+      final ByteBufferPool byteBufferPool,
+      final boolean coalescing) {
+
+    this(provider, byteBufferPool, coalescing, null);
+  }
+
+  // with a writerStage each peer's channel is written by its own actor
+  protected Outbound(
+      final ManagedOutboundChannelProvider provider,
+      final ByteBufferPool byteBufferPool,
+      final boolean coalescing,
+      final Stage writerStage) {
+
     this.provider = provider;
     this.pool = byteBufferPool;
+    this.coalescing = coalescing;
+    this.unflushed = new ArrayList<>();
+    this.writerStage = writerStage;
+    this.writers = new HashMap<>();
   }
 
   protected void broadcast(final RawMessage message) {
@@ -34,10 +65,31 @@ public class Outbound {
     broadcast(bytesFrom(message, buffer));
   }
 
+  // messages broadcast with the same order key are received in order
+  // by each peer even when its connection is striped
+  protected void broadcast(final RawMessage message, final int orderKey) {
+    final PooledByteBuffer buffer = pool.access();
+    broadcast(provider.allOtherNodeChannels(), bytesFrom(message, buffer), true, orderKey);
+  }
+
+  // peers for which binaryPeer is true are sent binaryMessage instead
+  protected void broadcast(final RawMessage message, final RawMessage binaryMessage, final Predicate<Id> binaryPeer) {
+    broadcast(provider.allOtherNodeChannels(), message, binaryMessage, binaryPeer);
+  }
+
+  protected void broadcast(
+          final Collection<Node> selectNodes,
+          final RawMessage message,
+          final RawMessage binaryMessage,
+          final Predicate<Id> binaryPeer) {
+
+    broadcast(provider.channelsFor(selectNodes), message, binaryMessage, binaryPeer);
+  }
+
   protected void broadcast(final PooledByteBuffer buffer) {
     // currently based on configured nodes,
     // but eventually could be live-node based
-    broadcast(provider.allOtherNodeChannels(), buffer);
+    broadcast(provider.allOtherNodeChannels(), buffer, false, 0);
   }
 
   protected void broadcast(final Collection<Node> selectNodes, final RawMessage message) {
@@ -46,7 +98,7 @@ public class Outbound {
   }
 
   protected void broadcast(final Collection<Node> selectNodes, final PooledByteBuffer buffer) {
-    broadcast(provider.channelsFor(selectNodes), buffer);
+    broadcast(provider.channelsFor(selectNodes), buffer, false, 0);
   }
 
   protected PooledByteBuffer bytesFrom(final RawMessage message, final PooledByteBuffer buffer) {
@@ -57,14 +109,55 @@ public class Outbound {
     return buffer;
   }
 
+  // a writer closes its channel again once it has written the frames
+  // already sent to it, should it have reconnected to write them
   protected void close() {
+    unflushed.clear();
+
+    for (final OutboundPeerWriter writer : writers.values()) {
+      writer.stop();
+    }
+    writers.clear();
+
     provider.close();
   }
 
+  // the next message to the peer opens a new channel, and so a new writer
   protected void close(final Id id) {
+    final OutboundPeerWriter writer = writers.remove(id);
+
+    if (writer != null) {
+      writer.stop();
+    }
+
     provider.close(id);
   }
 
+  // hands the messages coalesced since the last flush to the network
+  protected void flush() {
+    for (final OutboundPeerWriter writer : writers.values()) {
+      writer.flush();
+    }
+
+    for (final ManagedOutboundChannel channel : unflushed) {
+      try {
+        channel.flush();
+      } catch (RuntimeException e) {
+        System.out.println("vlingo/cluster: Flush of outbound channel failed because: " + e.getMessage());
+        // TODO: log
+      }
+    }
+    unflushed.clear();
+  }
+
+  protected boolean hasUnflushed() {
+    return !unflushed.isEmpty();
+  }
+
+  protected boolean isCoalescing() {
+    return coalescing;
+  }
+
   protected void open(final Id id) {
     provider.channelFor(id);
   }
@@ -78,24 +171,121 @@ public class Outbound {
     sendTo(bytesFrom(message, buffer), id);
   }
 
+  protected void sendTo(final RawMessage message, final Id id, final int orderKey) {
+    final PooledByteBuffer buffer = pool.access();
+    sendTo(bytesFrom(message, buffer), id, true, orderKey);
+  }
+
   protected void sendTo(final PooledByteBuffer buffer, final Id id) {
+    sendTo(buffer, id, false, 0);
+  }
+
+  private void broadcast(
+          final Map<Id, ManagedOutboundChannel> channels,
+          final PooledByteBuffer buffer,
+          final boolean keyed,
+          final int orderKey) {
+
+    if (writerStage != null) {
+      if (channels.isEmpty()) {
+        buffer.release();
+        return;
+      }
+
+      final OutboundFrame frame = new OutboundFrame(buffer, channels.size(), keyed, orderKey);
+
+      for (final Map.Entry<Id, ManagedOutboundChannel> entry : channels.entrySet()) {
+        writerFor(entry.getKey(), entry.getValue()).write(frame);
+      }
+      return;
+    }
+
+    // a coalescing channel retains the frame until it flushes
+    final OutboundFrame frame = new OutboundFrame(buffer, 1, keyed, orderKey);
+
+    RuntimeException failure = null;
     try {
-      open(id);
-      provider.channelFor(id).write(buffer.buffer());
+      for (final ManagedOutboundChannel channel: channels.values()) {
+        try {
+          write(channel, frame);
+        } catch (RuntimeException e) {
+          // one failed peer must not prevent sending to the others
+          if (failure == null) failure = e;
+        }
+      }
     } finally {
-      buffer.release();
+      frame.release();
+    }
+    if (failure != null) {
+      throw failure;
     }
   }
 
-  private void broadcast(final Map<Id, ManagedOutboundChannel> channels, final PooledByteBuffer buffer) {
-    try {
-      final ByteBuffer bufferToWrite = buffer.buffer();
-      for (final ManagedOutboundChannel channel: channels.values()) {
-        bufferToWrite.position(0);
-        channel.write(bufferToWrite);
+  private void broadcast(
+          final Map<Id, ManagedOutboundChannel> channels,
+          final RawMessage message,
+          final RawMessage binaryMessage,
+          final Predicate<Id> binaryPeer) {
+
+    final Map<Id, ManagedOutboundChannel> binaryChannels = new HashMap<>();
+    final Map<Id, ManagedOutboundChannel> textChannels = new HashMap<>();
+
+    for (final Map.Entry<Id, ManagedOutboundChannel> entry : channels.entrySet()) {
+      (binaryPeer.test(entry.getKey()) ? binaryChannels : textChannels).put(entry.getKey(), entry.getValue());
+    }
+
+    RuntimeException failure = null;
+
+    if (!textChannels.isEmpty()) {
+      try {
+        broadcast(textChannels, bytesFrom(message, pool.access()), false, 0);
+      } catch (RuntimeException e) {
+        failure = e;
       }
+    }
+
+    if (!binaryChannels.isEmpty()) {
+      broadcast(binaryChannels, bytesFrom(binaryMessage, pool.access()), false, 0);
+    }
+
+    if (failure != null) {
+      throw failure;
+    }
+  }
+
+  private void sendTo(final PooledByteBuffer buffer, final Id id, final boolean keyed, final int orderKey) {
+    if (writerStage != null) {
+      open(id);
+      writerFor(id, provider.channelFor(id)).write(new OutboundFrame(buffer, 1, keyed, orderKey));
+      return;
+    }
+
+    final OutboundFrame frame = new OutboundFrame(buffer, 1, keyed, orderKey);
+
+    try {
+      open(id);
+      write(provider.channelFor(id), frame);
     } finally {
-      buffer.release();
+      frame.release();
+    }
+  }
+
+  private void write(final ManagedOutboundChannel channel, final OutboundFrame frame) {
+    channel.write(frame);
+
+    if (coalescing && !unflushed.contains(channel)) {
+      unflushed.add(channel);
     }
   }
+
+  private OutboundPeerWriter writerFor(final Id id, final ManagedOutboundChannel channel) {
+    OutboundPeerWriter writer = writers.get(id);
+
+    if (writer == null) {
+      writer = OutboundPeerWriter.instance(writerStage, channel);
+      writers.put(id, writer);
+    }
+
+    return writer;
+  }
 }
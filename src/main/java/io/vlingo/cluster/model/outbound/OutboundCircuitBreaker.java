@@ -0,0 +1,114 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.cluster.model.outbound;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import io.vlingo.cluster.model.Properties;
+import io.vlingo.cluster.model.node.AddressType;
+import io.vlingo.cluster.model.node.CircuitState;
+import io.vlingo.cluster.model.node.Node;
+import io.vlingo.cluster.model.node.RegistryInterest;
+
+// Guards the connects to one peer. Each failure opens the circuit for an
+// exponentially growing, jittered backoff, during which sends fail fast
+// without touching the network. Once the backoff expires a single connect
+// is let through half-open, and its success closes the circuit.
+public class OutboundCircuitBreaker {
+  private int failures;
+  private final long initialBackoff;
+  private final RegistryInterest interest;
+  private final long maximumBackoff;
+  private final Node node;
+  private long retryAt;
+  private CircuitState state;
+  private final AddressType type;
+
+  public static OutboundCircuitBreaker of(final Node node, final AddressType type, final RegistryInterest interest) {
+    return new OutboundCircuitBreaker(
+            node,
+            type,
+            interest,
+            Properties.instance.outboundInitialBackoff(),
+            Properties.instance.outboundMaximumBackoff());
+  }
+
+  public OutboundCircuitBreaker(
+          final Node node,
+          final AddressType type,
+          final RegistryInterest interest,
+          final long initialBackoff,
+          final long maximumBackoff) {
+
+    if (initialBackoff < 1 || maximumBackoff < initialBackoff) {
+      throw new IllegalArgumentException("vlingo/cluster: Outbound backoff must be at least 1 and no more than its maximum.");
+    }
+
+    this.node = node;
+    this.type = type;
+    this.interest = interest;
+    this.initialBackoff = initialBackoff;
+    this.maximumBackoff = maximumBackoff;
+    this.state = CircuitState.Closed;
+  }
+
+  public synchronized boolean allowsConnect() {
+    switch (state) {
+    case Closed:
+      return true;
+    case Open:
+      if (System.currentTimeMillis() >= retryAt) {
+        transitionTo(CircuitState.HalfOpen);
+        return true;
+      }
+      return false;
+    default:
+      return false; // the half-open trial connect is in progress
+    }
+  }
+
+  public synchronized void failed() {
+    ++failures;
+
+    final long backoff = backoff();
+
+    retryAt = System.currentTimeMillis() + backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+
+    transitionTo(CircuitState.Open);
+  }
+
+  public synchronized int failures() {
+    return failures;
+  }
+
+  public synchronized CircuitState state() {
+    return state;
+  }
+
+  public synchronized void succeeded() {
+    failures = 0;
+
+    transitionTo(CircuitState.Closed);
+  }
+
+  private long backoff() {
+    final int shift = Math.min(failures - 1, 30);
+    final long backoff = initialBackoff << shift;
+    return backoff < 0 || backoff > maximumBackoff ? maximumBackoff : backoff;
+  }
+
+  private void transitionTo(final CircuitState state) {
+    if (this.state == state) return;
+
+    this.state = state;
+
+    if (interest != null) {
+      interest.informOutboundCircuitState(node, type, state);
+    }
+  }
+}
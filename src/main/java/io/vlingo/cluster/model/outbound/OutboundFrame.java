@@ -0,0 +1,64 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.cluster.model.outbound;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.vlingo.common.message.ByteBufferPool.PooledByteBuffer;
+
+// One encoded message shared read-only by the peer writers it is sent to,
+// and by any channel that holds it to write later, which retains it. The
+// pooled buffer is released by the last of them to release the frame.
+public final class OutboundFrame {
+  private final PooledByteBuffer buffer;
+  private final boolean keyed;
+  private final int orderKey;
+  private final AtomicInteger references;
+
+  OutboundFrame(final PooledByteBuffer buffer, final int references, final boolean keyed, final int orderKey) {
+    this.buffer = buffer;
+    this.references = new AtomicInteger(references);
+    this.keyed = keyed;
+    this.orderKey = orderKey;
+  }
+
+  // each writer gets its own position over the shared bytes
+  public ByteBuffer asByteBuffer() {
+    return buffer.buffer().asReadOnlyBuffer();
+  }
+
+  public boolean isKeyed() {
+    return keyed;
+  }
+
+  public int orderKey() {
+    return orderKey;
+  }
+
+  public int references() {
+    return references.get();
+  }
+
+  public OutboundFrame retain() {
+    if (references.incrementAndGet() <= 1) {
+      throw new IllegalStateException("vlingo/cluster: Outbound frame retained after its last release.");
+    }
+    return this;
+  }
+
+  public void release() {
+    final int remaining = references.decrementAndGet();
+
+    if (remaining == 0) {
+      buffer.release();
+    } else if (remaining < 0) {
+      throw new IllegalStateException("vlingo/cluster: Outbound frame released more times than it was shared.");
+    }
+  }
+}
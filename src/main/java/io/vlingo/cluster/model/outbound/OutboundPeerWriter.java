@@ -0,0 +1,33 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.cluster.model.outbound;
+
+import io.vlingo.actors.Definition;
+import io.vlingo.actors.Stage;
+import io.vlingo.actors.Stoppable;
+
+public interface OutboundPeerWriter extends Stoppable {
+  public static OutboundPeerWriter instance(
+          final Stage stage,
+          final ManagedOutboundChannel channel) {
+
+    final Definition definition =
+            Definition.has(
+                    OutboundPeerWriterActor.class,
+                    Definition.parameters(channel));
+
+    final OutboundPeerWriter outboundPeerWriter =
+            stage.actorFor(definition, OutboundPeerWriter.class);
+
+    return outboundPeerWriter;
+  }
+
+  void close();
+  void flush();
+  void write(final OutboundFrame frame);
+}
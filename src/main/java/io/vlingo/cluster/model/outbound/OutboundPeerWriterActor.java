@@ -0,0 +1,66 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.cluster.model.outbound;
+
+import io.vlingo.actors.Actor;
+
+// Exclusively owns the channel to one peer, so that a broadcast is written
+// to every peer in parallel and a slow peer delays only its own messages.
+public class OutboundPeerWriterActor extends Actor implements OutboundPeerWriter {
+  private final ManagedOutboundChannel channel;
+  private boolean flushRequested;
+  private final OutboundPeerWriter self;
+
+  public OutboundPeerWriterActor(final ManagedOutboundChannel channel) {
+    this.channel = channel;
+    this.self = selfAs(OutboundPeerWriter.class);
+  }
+
+  //===================================
+  // OutboundPeerWriter
+  //===================================
+
+  @Override
+  public void close() {
+    channel.close();
+  }
+
+  @Override
+  public void flush() {
+    flushRequested = false;
+    channel.flush();
+  }
+
+  @Override
+  public void write(final OutboundFrame frame) {
+    try {
+      channel.write(frame);
+    } catch (RuntimeException e) {
+      System.out.println("vlingo/cluster: Outbound peer write failed because: " + e.getMessage());
+      // TODO: log
+    } finally {
+      frame.release();
+    }
+
+    // flushes once the frames already in the mailbox have been written
+    if (!flushRequested) {
+      flushRequested = true;
+      self.flush();
+    }
+  }
+
+  //===================================
+  // Stoppable
+  //===================================
+
+  public void stop() {
+    channel.close();
+
+    super.stop();
+  }
+}
@@ -0,0 +1,143 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.cluster.model.outbound;
+
+import java.io.IOException;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+// Completes the connects and drains the send queues of any number of
+// NonBlockingManagedOutboundSocketChannel on one dedicated thread.
+public class OutboundSelector implements Runnable {
+  private static final long ConnectCheckInterval = 100;
+
+  private volatile boolean closed;
+  private final Queue<Runnable> pending;
+  private final Selector selector;
+  private final Thread thread;
+
+  public OutboundSelector(final String name) throws IOException {
+    this.pending = new ConcurrentLinkedQueue<>();
+    this.selector = Selector.open();
+    this.thread = new Thread(this, "cluster-" + name + "-outbound-selector");
+    this.thread.setDaemon(true);
+    this.thread.start();
+  }
+
+  public void close() {
+    if (closed) return;
+
+    closed = true;
+
+    try {
+      selector.close();
+    } catch (Exception e) {
+      // TODO: log
+    }
+  }
+
+  public boolean isClosed() {
+    return closed;
+  }
+
+  //=========================================
+  // Runnable
+  //=========================================
+
+  @Override
+  public void run() {
+    while (!closed) {
+      try {
+        runPending();
+
+        if (selector.select(expireConnects()) > 0) {
+          final Iterator<SelectionKey> iterator = selector.selectedKeys().iterator();
+
+          while (iterator.hasNext()) {
+            final SelectionKey key = iterator.next();
+            iterator.remove();
+
+            if (key.isValid()) {
+              final NonBlockingManagedOutboundSocketChannel channel = (NonBlockingManagedOutboundSocketChannel) key.attachment();
+              if (key.isConnectable()) {
+                channel.connectable(key);
+              } else if (key.isWritable()) {
+                channel.writable(key);
+              }
+            }
+          }
+        }
+      } catch (ClosedSelectorException e) {
+        break; // closed while blocked in select()
+      } catch (IOException e) {
+        // TODO: log
+        e.printStackTrace(System.err);
+      }
+    }
+  }
+
+  //=========================================
+  // channel support
+  //=========================================
+
+  // registration must happen on the selector thread
+  void register(
+          final NonBlockingManagedOutboundSocketChannel channel,
+          final SocketChannel socketChannel,
+          final int interestOps) {
+
+    pending.add(() -> {
+      try {
+        channel.registered(socketChannel.register(selector, interestOps, channel));
+      } catch (ClosedChannelException e) {
+        // closed before registered
+      }
+    });
+
+    selector.wakeup();
+  }
+
+  void wakeup() {
+    selector.wakeup();
+  }
+
+  // answers how long to select for, so that pending connects are timed out
+  private long expireConnects() {
+    final long now = System.currentTimeMillis();
+    boolean pending = false;
+
+    for (final SelectionKey key : selector.keys()) {
+      try {
+        if (key.isValid() && (key.interestOps() & SelectionKey.OP_CONNECT) != 0) {
+          final NonBlockingManagedOutboundSocketChannel channel = (NonBlockingManagedOutboundSocketChannel) key.attachment();
+          pending |= channel.connectPending(key, now);
+        }
+      } catch (CancelledKeyException e) {
+        // channel closed
+      }
+    }
+
+    return pending ? ConnectCheckInterval : 0;
+  }
+
+  private void runPending() {
+    Runnable registration = pending.poll();
+
+    while (registration != null) {
+      registration.run();
+      registration = pending.poll();
+    }
+  }
+}
@@ -0,0 +1,105 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.cluster.model.outbound;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+
+import io.vlingo.cluster.model.inbound.SharedMemoryInboundReader;
+import io.vlingo.cluster.model.inbound.SharedMemoryRing;
+import io.vlingo.cluster.model.node.Address;
+import io.vlingo.cluster.model.node.Id;
+import io.vlingo.cluster.model.node.Node;
+
+// Sends to a node on the same host by copying each message into the
+// memory-mapped ring that the node's SharedMemoryInboundReader polls.
+// This channel must be the ring's only writer, so it is never striped.
+// Messages that don't fit the ring are dropped, as when a socket peer
+// is unreachable; a ring closed by its reader is re-mapped on next write.
+public class SharedMemoryManagedOutboundChannel implements ManagedOutboundChannel {
+  private final Address address;
+  private final File directory;
+  private int dropped;
+  private final Id localNodeId;
+  private final Node node;
+  private SharedMemoryRing ring;
+  private final int ringSize;
+
+  public SharedMemoryManagedOutboundChannel(
+          final Id localNodeId,
+          final Node node,
+          final Address address,
+          final File directory,
+          final int ringSize) {
+
+    this.localNodeId = localNodeId;
+    this.node = node;
+    this.address = address;
+    this.directory = directory;
+    this.ringSize = ringSize;
+  }
+
+  //=========================================
+  // ManagedOutboundChannel
+  //=========================================
+
+  @Override
+  public void close() {
+    ring = null;
+  }
+
+  @Override
+  public void flush() {
+    // every message is visible to the reader once offered
+  }
+
+  @Override
+  public void write(final ByteBuffer buffer) {
+    final SharedMemoryRing preparedRing = preparedRing();
+
+    if (preparedRing == null || !preparedRing.offer(buffer)) {
+      ++dropped;
+    }
+  }
+
+  @Override
+  public void write(final ByteBuffer buffer, final int orderKey) {
+    write(buffer);
+  }
+
+  @Override
+  public void write(final ByteBuffer[] buffers, final int offset, final int length) {
+    for (int idx = offset; idx < offset + length; ++idx) {
+      write(buffers[idx]);
+    }
+  }
+
+  public int dropped() {
+    return dropped;
+  }
+
+  //=========================================
+  // internal implementation
+  //=========================================
+
+  private SharedMemoryRing preparedRing() {
+    if (ring != null && !ring.isClosed()) {
+      return ring;
+    }
+
+    try {
+      ring = SharedMemoryRing.open(SharedMemoryInboundReader.ringFileFor(directory, address, localNodeId), ringSize);
+    } catch (Exception e) {
+      System.out.println("vlingo/cluster: Shared memory ring to " + node.id() + " failed to open because: " + e.getMessage());
+      // TODO: log
+      ring = null;
+    }
+
+    return ring;
+  }
+}
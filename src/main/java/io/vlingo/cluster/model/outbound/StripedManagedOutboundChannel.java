@@ -0,0 +1,82 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.cluster.model.outbound;
+
+import java.nio.ByteBuffer;
+
+// Spreads the messages to one peer over several connections. Messages
+// with the same order key always use the same stripe and so stay in order,
+// as do unkeyed messages, which all use the first stripe. Senders that
+// don't need order spread their messages by varying the key.
+public class StripedManagedOutboundChannel implements ManagedOutboundChannel {
+  private final ManagedOutboundChannel[] stripes;
+
+  public StripedManagedOutboundChannel(final ManagedOutboundChannel[] stripes) {
+    if (stripes.length < 1) {
+      throw new IllegalArgumentException("vlingo/cluster: Outbound stripes must be at least 1.");
+    }
+
+    this.stripes = stripes;
+  }
+
+  //=========================================
+  // ManagedOutboundChannel
+  //=========================================
+
+  @Override
+  public void close() {
+    for (final ManagedOutboundChannel stripe : stripes) {
+      stripe.close();
+    }
+  }
+
+  @Override
+  public void flush() {
+    for (final ManagedOutboundChannel stripe : stripes) {
+      stripe.flush();
+    }
+  }
+
+  @Override
+  public void write(final ByteBuffer buffer) {
+    stripes[0].write(buffer);
+  }
+
+  @Override
+  public void write(final ByteBuffer buffer, final int orderKey) {
+    stripeFor(orderKey).write(buffer);
+  }
+
+  // a gathering write is of unkeyed messages
+  @Override
+  public void write(final ByteBuffer[] buffers, final int offset, final int length) {
+    stripes[0].write(buffers, offset, length);
+  }
+
+  @Override
+  public void write(final OutboundFrame[] frames, final ByteBuffer[] buffers, final int offset, final int length) {
+    stripes[0].write(frames, buffers, offset, length);
+  }
+
+  @Override
+  public void write(final OutboundFrame frame) {
+    (frame.isKeyed() ? stripeFor(frame.orderKey()) : stripes[0]).write(frame);
+  }
+
+  public int stripes() {
+    return stripes.length;
+  }
+
+  //=========================================
+  // internal implementation
+  //=========================================
+
+  private ManagedOutboundChannel stripeFor(final int orderKey) {
+    return stripes[Math.floorMod(orderKey, stripes.length)];
+  }
+}
@@ -15,6 +15,8 @@ import java.util.stream.Collectors;
 import org.junit.Before;
 import org.junit.Test;
 
+import io.vlingo.cluster.model.node.AddressType;
+import io.vlingo.cluster.model.node.CircuitState;
 import io.vlingo.cluster.model.node.Id;
 
 public class ClusterApplicationBroadcasterTest extends AbstractClusterTest {
@@ -80,6 +82,12 @@ public class ClusterApplicationBroadcasterTest extends AbstractClusterTest {
     broadcaster.informQuorumLost();
     assertEquals(1, application.informQuorumLost);
   }
+
+  @Test
+  public void testInformOutboundCircuitState() throws Exception {
+    broadcaster.informOutboundCircuitState(Id.of(2), AddressType.APP, CircuitState.Open);
+    assertEquals(1, application.informOutboundCircuitState);
+  }
   
   @Test
   public void testInformAttributeSetCreated() throws Exception {
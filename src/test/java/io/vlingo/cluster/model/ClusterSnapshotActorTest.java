@@ -20,6 +20,7 @@ import org.junit.Test;
 import io.vlingo.actors.Definition;
 import io.vlingo.actors.testkit.TestActor;
 import io.vlingo.cluster.model.inbound.InboundStreamInterest;
+import io.vlingo.cluster.model.inbound.RawMessagePool;
 import io.vlingo.cluster.model.message.MessageConverters;
 import io.vlingo.cluster.model.message.Pulse;
 import io.vlingo.cluster.model.node.AddressType;
@@ -74,6 +75,46 @@ public class ClusterSnapshotActorTest extends AbstractClusterTest {
     assertEquals(1, application.handleApplicationMessage);
   }
 
+  @Test
+  public void testBatchedInboundStreamInterest() throws Exception {
+    final TestActor<InboundStreamInterest> inboundStreamInterest =
+            testWorld.actorFor(
+                    Definition.has(ClusterSnapshotActor.class, Definition.parameters(intializer, application)),
+                    InboundStreamInterest.class);
+
+    final List<RawMessage> opMessages = new ArrayList<>();
+    opMessages.add(opMessage);
+    opMessages.add(opMessage);
+    inboundStreamInterest.actor().handleInboundStreamMessages(AddressType.OP, opMessages, null);
+    assertEquals(0, application.handleApplicationMessages);
+
+    final List<RawMessage> appMessages = new ArrayList<>();
+    appMessages.add(RawMessage.from(1, 0, "app-test-1"));
+    appMessages.add(RawMessage.from(1, 0, "app-test-2"));
+    inboundStreamInterest.actor().handleInboundStreamMessages(AddressType.APP, appMessages, null);
+    assertEquals(1, application.handleApplicationMessages);
+    assertEquals(0, application.handleApplicationMessage);
+  }
+
+  @Test
+  public void testPooledInboundStreamInterest() throws Exception {
+    final TestActor<InboundStreamInterest> inboundStreamInterest =
+            testWorld.actorFor(
+                    Definition.has(ClusterSnapshotActor.class, Definition.parameters(intializer, application)),
+                    InboundStreamInterest.class);
+
+    final RawMessagePool pool = new RawMessagePool(2, 4096);
+
+    inboundStreamInterest.actor().handlePooledInboundStreamMessage(AddressType.OP, pool.lend(opMessage), null);
+    assertEquals(0, application.handlePooledApplicationMessage);
+    assertEquals(2, pool.available());
+
+    final RawMessage appMessage = RawMessage.from(1, 0, "app-test");
+    inboundStreamInterest.actor().handlePooledInboundStreamMessage(AddressType.APP, pool.lend(appMessage), null);
+    assertEquals(1, application.handlePooledApplicationMessage);
+    assertEquals(2, pool.available());
+  }
+
   @Test
   public void testRegistryInterest() throws Exception {
     final TestActor<RegistryInterest> registryInterest =
@@ -9,11 +9,18 @@ package io.vlingo.cluster.model;
 
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.util.concurrent.atomic.AtomicReference;
+
 import org.junit.Before;
 import org.junit.Test;
 
+import io.vlingo.cluster.model.node.Id;
+import io.vlingo.cluster.model.node.LocalRegistry;
+import io.vlingo.cluster.model.node.Node;
+
 public class ClusterTest extends AbstractClusterTest {
 
   @Test
@@ -27,6 +34,41 @@ public class ClusterTest extends AbstractClusterTest {
     control.shutDown();
     pause();
     assertFalse(Cluster.isRunning());
+    assertSame(ClusterView.Empty, Cluster.currentView());
+  }
+
+  @Test
+  public void testReaderSeesPublishedView() throws Exception {
+    final Node localNode = config.configuredNodeMatching(Id.of(1));
+    final LocalRegistry registry = new LocalRegistry(localNode, config);
+    final AtomicReference<ClusterView> seen = new AtomicReference<>();
+
+    Cluster.viewsOf(registry);
+
+    try {
+      assertSame(ClusterView.Empty, Cluster.currentView());
+
+      final Thread reader = new Thread(() -> {
+        final long deadline = System.currentTimeMillis() + 1000L;
+        while (!Cluster.hasViewChangedSince(0L) && System.currentTimeMillis() < deadline) {
+          Thread.yield();
+        }
+        seen.set(Cluster.currentView());
+      });
+
+      reader.start();
+      registry.join(localNode);
+      reader.join(2000L);
+
+      final ClusterView view = seen.get();
+
+      assertNotNull(view);
+      assertTrue(view.version() > 0);
+      assertTrue(view.isLive(localNode.id()));
+      assertSame(registry.view(), view);
+    } finally {
+      Cluster.reset();
+    }
   }
 
   @Before
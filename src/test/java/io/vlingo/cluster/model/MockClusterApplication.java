@@ -8,16 +8,22 @@
 package io.vlingo.cluster.model;
 
 import java.util.Collection;
+import java.util.List;
 
 import io.vlingo.cluster.model.application.ClusterApplication;
 import io.vlingo.cluster.model.application.ClusterApplicationOutboundStream;
 import io.vlingo.cluster.model.attribute.AttributesClient;
+import io.vlingo.cluster.model.inbound.PooledRawMessage;
+import io.vlingo.cluster.model.node.AddressType;
+import io.vlingo.cluster.model.node.CircuitState;
 import io.vlingo.cluster.model.node.Id;
 import io.vlingo.common.message.RawMessage;
 
 public class MockClusterApplication implements ClusterApplication {
   public int allLiveNodes;
   public int handleApplicationMessage;
+  public int handleApplicationMessages;
+  public int handlePooledApplicationMessage;
   
   public int informLeaderElected;
   public int informLeaderLost;
@@ -28,6 +34,7 @@ public class MockClusterApplication implements ClusterApplication {
   public int informNodeLeftCluster;
   public int informQuorumAchieved;
   public int informQuorumLost;
+  public int informOutboundCircuitState;
   
   public int informAttributesClient;
   public int informAttributeSetCreated;
@@ -57,6 +64,17 @@ public class MockClusterApplication implements ClusterApplication {
     ++handleApplicationMessage;
   }
 
+  @Override
+  public void handleApplicationMessages(List<RawMessage> messages, ClusterApplicationOutboundStream responder) {
+    ++handleApplicationMessages;
+  }
+
+  @Override
+  public void handlePooledApplicationMessage(PooledRawMessage message, ClusterApplicationOutboundStream responder) {
+    ++handlePooledApplicationMessage;
+    message.release();
+  }
+
   @Override
   public void informAllLiveNodes(Collection<Id> liveNodes, boolean isHealthyCluster) {
     ++allLiveNodes;
@@ -107,6 +125,11 @@ public class MockClusterApplication implements ClusterApplication {
     ++informQuorumLost;
   }
 
+  @Override
+  public void informOutboundCircuitState(Id nodeId, AddressType type, CircuitState state) {
+    ++informOutboundCircuitState;
+  }
+
   @Override
   public void informAttributesClient(AttributesClient client) {
     ++informAttributesClient;
@@ -0,0 +1,132 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+
+package io.vlingo.cluster.model.attribute;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+
+import io.vlingo.cluster.model.attribute.message.AddAttribute;
+import io.vlingo.cluster.model.attribute.message.ApplicationMessage;
+import io.vlingo.cluster.model.attribute.message.ApplicationMessageType;
+import io.vlingo.cluster.model.attribute.message.ConfirmAttribute;
+import io.vlingo.cluster.model.attribute.message.ConfirmAttributeSet;
+import io.vlingo.cluster.model.attribute.message.CreateAttributeSet;
+import io.vlingo.cluster.model.attribute.message.ReceivedAttributeMessage;
+import io.vlingo.cluster.model.attribute.message.ReplaceAttribute;
+import io.vlingo.cluster.model.message.ApplicationSays;
+import io.vlingo.cluster.model.message.BinaryMessageConverters;
+import io.vlingo.cluster.model.message.MessageConverters;
+import io.vlingo.cluster.model.node.Id;
+import io.vlingo.cluster.model.node.Name;
+import io.vlingo.cluster.model.node.Node;
+import io.vlingo.common.message.Converters;
+import io.vlingo.common.message.RawMessage;
+
+public class ReceivedAttributeMessageTest {
+  private final Node node = Node.from(Id.of(3), new Name("node3"));
+
+  @Test
+  public void testBinaryAttributeRoundTrip() {
+    final AttributeSet set = AttributeSet.named("test-set");
+
+    assertAttributeRoundTrip(set, Attribute.from("byte", (byte) 7));
+    assertAttributeRoundTrip(set, Attribute.from("short", (short) -300));
+    assertAttributeRoundTrip(set, Attribute.from("int", 123456));
+    assertAttributeRoundTrip(set, Attribute.from("long", Long.MAX_VALUE));
+    assertAttributeRoundTrip(set, Attribute.from("char", 'x'));
+    assertAttributeRoundTrip(set, Attribute.from("float", 1.5f));
+    assertAttributeRoundTrip(set, Attribute.from("double", -2.25d));
+    assertAttributeRoundTrip(set, Attribute.from("boolean", true));
+    assertAttributeRoundTrip(set, Attribute.from("string", "a value\nwith a newline"));
+  }
+
+  @Test
+  public void testBinaryAttributeSetRoundTrip() {
+    final AttributeSet set = AttributeSet.named("test-set");
+
+    final ReceivedAttributeMessage create = binaryReceived(CreateAttributeSet.from(node, set));
+
+    assertEquals(ApplicationMessageType.CreateAttributeSet, create.type());
+    assertEquals("CreateAttributeSet", create.classOfMessage());
+    assertEquals(set.name, create.attributeSetName());
+    assertNull(create.attributeName());
+    assertNull(create.attribute());
+
+    final ReceivedAttributeMessage confirm = binaryReceived(new ConfirmAttributeSet("correlating", node, set));
+
+    assertEquals(ApplicationMessageType.ConfirmCreateAttributeSet, confirm.type());
+    assertEquals("ConfirmAttributeSet", confirm.classOfMessage());
+    assertEquals("correlating", confirm.correlatingMessageId());
+    assertEquals(set.name, confirm.attributeSetName());
+  }
+
+  @Test
+  public void testBinaryAndTextAgree() {
+    final AttributeSet set = AttributeSet.named("test-set");
+    final TrackedAttribute tracked = set.addIfAbsent(Attribute.from("count", 42));
+
+    final ApplicationMessage[] messages = {
+      CreateAttributeSet.from(node, set),
+      ReplaceAttribute.from(node, set, tracked),
+      ConfirmAttribute.from("correlating", node, set, tracked, ApplicationMessageType.ConfirmReplaceAttribute)
+    };
+
+    for (final ApplicationMessage message : messages) {
+      final ApplicationSays says = ApplicationSays.from(node.id(), node.name(), message);
+      final ReceivedAttributeMessage binary = received(says, true);
+      final ReceivedAttributeMessage text = received(says, false);
+
+      assertEquals(text.type(), binary.type());
+      assertEquals(text.classOfMessage(), binary.classOfMessage());
+      assertEquals(text.sourceNode(), binary.sourceNode());
+      assertEquals(text.saysSequence(), binary.saysSequence());
+      assertEquals(text.correlatingMessageId(), binary.correlatingMessageId());
+      assertEquals(text.trackingId(), binary.trackingId());
+      assertEquals(text.attributeSetName(), binary.attributeSetName());
+      assertEquals(text.attributeName(), binary.attributeName());
+      assertEquals(text.attributeType(), binary.attributeType());
+      assertEquals(text.attributeValue(), binary.attributeValue());
+      assertEquals(text.attribute(), binary.attribute());
+    }
+  }
+
+  private void assertAttributeRoundTrip(final AttributeSet set, final Attribute<?> attribute) {
+    final TrackedAttribute tracked = set.addIfAbsent(attribute);
+    final ReceivedAttributeMessage received = binaryReceived(AddAttribute.from(node, set, tracked));
+
+    assertEquals(ApplicationMessageType.AddAttribute, received.type());
+    assertEquals(node, received.sourceNode());
+    assertEquals(set.name, received.attributeSetName());
+    assertEquals(attribute.name, received.attributeName());
+    assertEquals(attribute, received.attribute());
+    assertEquals(attribute.type.name(), received.attributeType());
+  }
+
+  private ReceivedAttributeMessage binaryReceived(final ApplicationMessage message) {
+    return received(ApplicationSays.from(node.id(), node.name(), message), true);
+  }
+
+  private ReceivedAttributeMessage received(final ApplicationSays says, final boolean binary) {
+    final ByteBuffer buffer = ByteBuffer.allocate(4096);
+
+    if (binary) {
+      BinaryMessageConverters.messageToBytes(says, buffer);
+    } else {
+      MessageConverters.messageToBytes(says, buffer);
+    }
+
+    final RawMessage message = Converters.toRawMessage(node.id().value(), buffer);
+
+    return new ReceivedAttributeMessage(message);
+  }
+}
@@ -0,0 +1,80 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.cluster.model.inbound;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.net.InetSocketAddress;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.vlingo.cluster.model.AbstractClusterTest;
+import io.vlingo.cluster.model.node.Id;
+import io.vlingo.cluster.model.node.Node;
+import io.vlingo.cluster.model.outbound.DatagramHeartbeatChannel;
+import io.vlingo.common.message.RawMessage;
+
+public class DatagramInboundReaderTest extends AbstractClusterTest {
+  private static final String HeartbeatMessage = "HB TEST ";
+
+  private DatagramHeartbeatChannel heartbeats;
+  private DatagramInboundReader hbReader;
+  private Node node;
+
+  @Test
+  public void testHeartbeatsArriveAsDatagrams() throws Exception {
+    final MockInboundReaderConsumer consumer = new MockInboundReaderConsumer();
+
+    assertTrue(hbReader.isReactive());
+
+    hbReader.openFor(consumer);
+
+    heartbeats.sendTo(RawMessage.from(1, 0, HeartbeatMessage + 1), node.id());
+
+    assertEquals(1, consumer.awaitConsumed(1, 1000L));
+    assertEquals(HeartbeatMessage + 1, consumer.messages.get(0));
+
+    heartbeats.broadcast(RawMessage.from(1, 0, HeartbeatMessage + 2));
+
+    assertEquals(2, consumer.awaitConsumed(2, 1000L));
+    assertEquals(HeartbeatMessage + 2, consumer.messages.get(1));
+    assertEquals(0, heartbeats.dropped());
+  }
+
+  @Test
+  public void testUnknownNodeDropped() throws Exception {
+    heartbeats.sendTo(RawMessage.from(1, 0, HeartbeatMessage + 1), Id.of(3));
+
+    assertEquals(1, heartbeats.dropped());
+  }
+
+  @Before
+  public void setUp() throws Exception {
+    super.setUp();
+
+    node = config.configuredNodeMatching(Id.of(2));
+
+    final int port = properties.heartbeatPort(node.name().value());
+    final Map<Id, InetSocketAddress> peers = new HashMap<>();
+    peers.put(node.id(), new InetSocketAddress(node.operationalAddress().host(), port));
+
+    heartbeats = new DatagramHeartbeatChannel(peers, properties.operationalBufferSize());
+    hbReader = new DatagramInboundReader(port, "test-hb", properties.operationalBufferSize());
+  }
+
+  @After
+  public void tearDown() {
+    heartbeats.close();
+    hbReader.close();
+  }
+}
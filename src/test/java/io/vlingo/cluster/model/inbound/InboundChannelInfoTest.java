@@ -0,0 +1,202 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.cluster.model.inbound;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.channels.Pipe;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class InboundChannelInfoTest {
+  private static final int HighWatermark = 4;
+  private static final int LowWatermark = 2;
+
+  private SelectionKey key;
+  private Pipe pipe;
+  private Selector selector;
+
+  @Test
+  public void testPauseAtHighWatermarkAndResumeAtLowWatermark() {
+    final InboundChannelInfo info = new InboundChannelInfo(null, null, HighWatermark, LowWatermark);
+    info.key(key);
+
+    for (int count = 1; count < HighWatermark; ++count) {
+      info.lent();
+      assertFalse(info.isPaused());
+      assertEquals(SelectionKey.OP_READ, key.interestOps());
+    }
+
+    info.lent();
+    assertTrue(info.isPaused());
+    assertEquals(0, key.interestOps());
+
+    // still above the low watermark
+    info.released();
+    assertTrue(info.isPaused());
+    assertEquals(0, key.interestOps());
+
+    info.released();
+    assertFalse(info.isPaused());
+    assertEquals(SelectionKey.OP_READ, key.interestOps());
+    assertEquals(LowWatermark, info.outstanding());
+
+    // crossing again pauses again
+    info.lent();
+    info.lent();
+    assertTrue(info.isPaused());
+    assertEquals(0, key.interestOps());
+
+    while (info.outstanding() > 0) {
+      info.released();
+    }
+    assertFalse(info.isPaused());
+    assertEquals(SelectionKey.OP_READ, key.interestOps());
+  }
+
+  @Test
+  public void testReleasesWhilePausingResume() throws Exception {
+    final InboundChannelInfo info = new InboundChannelInfo(null, null, HighWatermark, LowWatermark);
+
+    // the consumer drains the connection between the pause clearing the
+    // interest ops and setting paused, so its releases see it unpaused
+    final SelectionKey pausingKey = new DelegatingSelectionKey(key) {
+      @Override
+      public SelectionKey interestOps(final int ops) {
+        super.interestOps(ops);
+        if (ops == 0) {
+          final Thread consumer = new Thread(() -> {
+            while (info.outstanding() > 0) {
+              info.released();
+            }
+          });
+          consumer.start();
+          try {
+            consumer.join();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        }
+        return this;
+      }
+    };
+
+    info.key(pausingKey);
+
+    for (int count = 0; count < HighWatermark; ++count) {
+      info.lent();
+    }
+
+    assertEquals(0, info.outstanding());
+    assertFalse(info.isPaused());
+    assertEquals(SelectionKey.OP_READ, key.interestOps());
+  }
+
+  @Test
+  public void testConcurrentReleasesNeverLeaveReadingPaused() throws Exception {
+    final InboundChannelInfo info = new InboundChannelInfo(null, null, HighWatermark, LowWatermark);
+    info.key(key);
+
+    final int total = 10_000;
+
+    final Thread consumer = new Thread(() -> {
+      for (int released = 0; released < total; ) {
+        if (info.outstanding() > 0) {
+          info.released();
+          ++released;
+        } else {
+          Thread.yield();
+        }
+      }
+    });
+    consumer.start();
+
+    // the reader lends only while reading is not paused, as the selector would
+    for (int lent = 0; lent < total; ) {
+      if (key.interestOps() == SelectionKey.OP_READ) {
+        info.lent();
+        ++lent;
+      } else {
+        Thread.yield();
+      }
+    }
+
+    consumer.join(10_000);
+
+    assertFalse(consumer.isAlive());
+    assertEquals(0, info.outstanding());
+    assertFalse(info.isPaused());
+    assertEquals(SelectionKey.OP_READ, key.interestOps());
+  }
+
+  @Before
+  public void setUp() throws Exception {
+    selector = Selector.open();
+    pipe = Pipe.open();
+    pipe.source().configureBlocking(false);
+    key = pipe.source().register(selector, SelectionKey.OP_READ);
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    pipe.source().close();
+    pipe.sink().close();
+    selector.close();
+  }
+
+  private static class DelegatingSelectionKey extends SelectionKey {
+    private final SelectionKey key;
+
+    DelegatingSelectionKey(final SelectionKey key) {
+      this.key = key;
+    }
+
+    @Override
+    public SelectableChannel channel() {
+      return key.channel();
+    }
+
+    @Override
+    public Selector selector() {
+      return key.selector();
+    }
+
+    @Override
+    public boolean isValid() {
+      return key.isValid();
+    }
+
+    @Override
+    public void cancel() {
+      key.cancel();
+    }
+
+    @Override
+    public int interestOps() {
+      return key.interestOps();
+    }
+
+    @Override
+    public SelectionKey interestOps(final int ops) {
+      key.interestOps(ops);
+      return this;
+    }
+
+    @Override
+    public int readyOps() {
+      return key.readyOps();
+    }
+  }
+}
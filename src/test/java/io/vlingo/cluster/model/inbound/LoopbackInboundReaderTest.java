@@ -0,0 +1,97 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.cluster.model.inbound;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.vlingo.cluster.model.AbstractClusterTest;
+import io.vlingo.cluster.model.node.Id;
+import io.vlingo.cluster.model.node.Node;
+import io.vlingo.cluster.model.outbound.LoopbackManagedOutboundChannel;
+import io.vlingo.common.message.RawMessage;
+
+public class LoopbackInboundReaderTest extends AbstractClusterTest {
+  private static final String OpMessage = "OP TEST ";
+
+  private LoopbackManagedOutboundChannel opChannel;
+  private LoopbackInboundReader opReader;
+  private Node node;
+
+  @Test
+  public void testLoopbackConsumesWithoutProbing() throws Exception {
+    final MockInboundReaderConsumer consumer = new MockInboundReaderConsumer();
+
+    assertTrue(opReader.isReactive());
+
+    opReader.openFor(consumer);
+
+    assertSame(opReader, LoopbackInboundReader.readerAt(node.operationalAddress()));
+
+    final ByteBuffer buffer = ByteBuffer.allocate(properties.operationalBufferSize());
+
+    final String message1 = OpMessage + 1;
+    final RawMessage rawMessage1 = buildRawMessageBuffer(buffer, message1);
+    opChannel.write(bytesFrom(rawMessage1, buffer));
+
+    assertEquals(1, consumer.awaitConsumed(1, 1000L));
+    assertEquals(message1, consumer.messages.get(0));
+
+    final String message2 = OpMessage + 2;
+    final RawMessage rawMessage2 = buildRawMessageBuffer(buffer, message2);
+    opChannel.write(bytesFrom(rawMessage2, buffer));
+
+    assertEquals(2, consumer.awaitConsumed(2, 1000L));
+    assertEquals(message2, consumer.messages.get(1));
+    assertEquals(0, opChannel.dropped());
+  }
+
+  @Test
+  public void testDroppedWithoutReader() throws Exception {
+    final ByteBuffer buffer = ByteBuffer.allocate(properties.operationalBufferSize());
+
+    final RawMessage rawMessage = buildRawMessageBuffer(buffer, OpMessage + 1);
+    opChannel.write(bytesFrom(rawMessage, buffer));
+
+    assertEquals(1, opChannel.dropped());
+  }
+
+  @Test
+  public void testDroppedWhenFull() throws Exception {
+    final LoopbackConnection connection = new LoopbackConnection(opReader, 2);
+
+    assertTrue(connection.offer(RawMessage.from(0, 0, "1")));
+    assertTrue(connection.offer(RawMessage.from(0, 0, "2")));
+    assertFalse(connection.offer(RawMessage.from(0, 0, "3")));
+    assertEquals("1", connection.poll().asTextMessage());
+    assertTrue(connection.offer(RawMessage.from(0, 0, "3")));
+  }
+
+  @Before
+  public void setUp() throws Exception {
+    super.setUp();
+
+    node = config.configuredNodeMatching(Id.of(2));
+    opChannel = new LoopbackManagedOutboundChannel(node, node.operationalAddress());
+    opReader = new LoopbackInboundReader(node.operationalAddress(), "test-op", 16);
+  }
+
+  @After
+  public void tearDown() {
+    opChannel.close();
+    opReader.close();
+  }
+}
@@ -38,6 +38,11 @@ public class MockInboundReader extends AbstractMessageTool implements InboundRea
     return "mock";
   }
 
+  @Override
+  public boolean isReactive() {
+    return false;
+  }
+
   @Override
   public void openFor(final InboundReaderConsumer consumer) throws IOException {
     this.consumer = consumer;
@@ -13,12 +13,37 @@ import java.util.List;
 import io.vlingo.common.message.RawMessage;
 
 public class MockInboundReaderConsumer implements InboundReaderConsumer {
-  public int consumeCount;
+  public volatile int consumeCount;
   public List<String> messages = new ArrayList<>();
   
+  // answers the count reached, once it reaches count or at the timeout
+  public int awaitConsumed(final int count, final long timeout) throws InterruptedException {
+    final long deadline = System.currentTimeMillis() + timeout;
+
+    while (consumeCount < count && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10L);
+    }
+
+    return consumeCount;
+  }
+
   @Override
-  public void consume(final RawMessage message, final InboundClientChannel clientChannel) {
+  public synchronized void consume(final RawMessage message, final InboundClientChannel clientChannel) {
     ++consumeCount;
     messages.add(message.asTextMessage());
   }
+
+  @Override
+  public synchronized void consume(final List<RawMessage> messages, final InboundClientChannel clientChannel) {
+    for (final RawMessage message : messages) {
+      consume(message, clientChannel);
+    }
+  }
+
+  @Override
+  public synchronized void consume(final PooledRawMessage message, final InboundClientChannel clientChannel) {
+    ++consumeCount;
+    messages.add(message.message().asTextMessage());
+    message.release();
+  }
 }
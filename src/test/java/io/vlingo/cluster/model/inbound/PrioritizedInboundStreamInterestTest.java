@@ -0,0 +1,89 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.cluster.model.inbound;
+
+import static org.junit.Assert.assertEquals;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.vlingo.cluster.model.AbstractClusterTest;
+import io.vlingo.cluster.model.node.AddressType;
+import io.vlingo.common.message.RawMessage;
+
+public class PrioritizedInboundStreamInterestTest extends AbstractClusterTest {
+  private MockInboundStreamInterest interest;
+  private PrioritizedInboundStreamInterest prioritized;
+  private int signals;
+
+  @Test
+  public void testOperationalLaneDrainsFirst() throws Exception {
+    prioritized.handleInboundStreamMessage(AddressType.APP, messageOf("APP 1"), responder());
+    prioritized.handleInboundStreamMessage(AddressType.APP, messageOf("APP 2"), responder());
+    prioritized.handleInboundStreamMessage(AddressType.OP, messageOf("OP 1"), responder());
+    prioritized.handleInboundStreamMessage(AddressType.APP, messageOf("APP 3"), responder());
+    prioritized.handleInboundStreamMessage(AddressType.OP, messageOf("OP 2"), responder());
+
+    assertEquals(1, signals);
+    assertEquals(2, prioritized.pending(AddressType.OP));
+    assertEquals(3, prioritized.pending(AddressType.APP));
+
+    prioritized.drainTo(interest);
+
+    assertEquals(5, interest.messageCount);
+    assertEquals("OP 1", interest.messages.get(0));
+    assertEquals("OP 2", interest.messages.get(1));
+    assertEquals("APP 1", interest.messages.get(2));
+    assertEquals("APP 3", interest.messages.get(4));
+  }
+
+  @Test
+  public void testDrainLimitSignalsAgain() throws Exception {
+    final PrioritizedInboundStreamInterest limited = new PrioritizedInboundStreamInterest(() -> ++signals, 3);
+
+    for (int idx = 1; idx <= 5; ++idx) {
+      limited.handleInboundStreamMessage(AddressType.APP, messageOf("APP " + idx), responder());
+    }
+
+    assertEquals(1, signals);
+
+    limited.drainTo(interest);
+
+    assertEquals(3, interest.messageCount);
+    assertEquals(2, signals);
+
+    limited.handleInboundStreamMessage(AddressType.OP, messageOf("OP 1"), responder());
+
+    assertEquals(2, signals);
+
+    limited.drainTo(interest);
+
+    assertEquals(6, interest.messageCount);
+    assertEquals("OP 1", interest.messages.get(3));
+    assertEquals(0, limited.pending(AddressType.APP));
+  }
+
+  @Before
+  public void setUp() throws Exception {
+    super.setUp();
+
+    interest = new MockInboundStreamInterest();
+    prioritized = new PrioritizedInboundStreamInterest(() -> ++signals, 100);
+    signals = 0;
+  }
+
+  private RawMessage messageOf(final String text) {
+    return RawMessage.copy(buildRawMessageBuffer(ByteBuffer.allocate(1024), text));
+  }
+
+  private InboundResponder responder() {
+    return buffer -> { };
+  }
+}
@@ -0,0 +1,127 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.cluster.model.inbound;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.Pipe;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+
+import org.junit.Test;
+
+import io.vlingo.cluster.model.AbstractMessageTool;
+import io.vlingo.common.message.RawMessage;
+
+public class RawMessagePoolTest extends AbstractMessageTool {
+  private final ByteBuffer buffer = ByteBuffer.allocate(1024);
+
+  @Test
+  public void testLendCopiesAndReturns() {
+    final RawMessagePool pool = new RawMessagePool(2, 1024);
+    final RawMessage source = buildRawMessageBuffer(buffer, "Message-1");
+
+    final PooledRawMessage lent = pool.lend(source);
+
+    assertEquals(1, pool.available());
+    assertEquals(1, lent.references());
+    assertEquals("Message-1", lent.message().asTextMessage());
+
+    lent.release();
+
+    assertEquals(2, pool.available());
+  }
+
+  @Test
+  public void testRetainDefersReturn() {
+    final RawMessagePool pool = new RawMessagePool(1, 1024);
+
+    final PooledRawMessage lent = pool.lend(buildRawMessageBuffer(buffer, "Message-1")).retain();
+    assertEquals(2, lent.references());
+
+    lent.release();
+    assertEquals(0, pool.available());
+
+    lent.release();
+    assertEquals(1, pool.available());
+
+    final PooledRawMessage relent = pool.lend(buildRawMessageBuffer(buffer, "Message-2"));
+    assertSame(lent, relent);
+    assertEquals("Message-2", relent.message().asTextMessage());
+  }
+
+  @Test
+  public void testExhaustedLendsUnpooled() {
+    final RawMessagePool pool = new RawMessagePool(1, 1024);
+
+    final PooledRawMessage lent1 = pool.lend(buildRawMessageBuffer(buffer, "Message-1"));
+    final PooledRawMessage lent2 = pool.lend(buildRawMessageBuffer(buffer, "Message-2"));
+
+    assertNotSame(lent1, lent2);
+    assertEquals("Message-2", lent2.message().asTextMessage());
+
+    lent2.release();
+    assertEquals(0, pool.available());
+
+    lent1.release();
+    assertEquals(1, pool.available());
+  }
+
+  @Test
+  public void testWatermarksPauseAndResumeReading() throws Exception {
+    final RawMessagePool pool = new RawMessagePool(4, 1024, 2, 1);
+    final Selector selector = Selector.open();
+    final Pipe pipe = Pipe.open();
+    pipe.source().configureBlocking(false);
+
+    final InboundChannelInfo info = new InboundChannelInfo(null, null, pool.highWatermark(), pool.lowWatermark());
+    final SelectionKey key = pipe.source().register(selector, SelectionKey.OP_READ, info);
+    info.key(key);
+
+    final PooledRawMessage lent1 = pool.lend(buildRawMessageBuffer(buffer, "Message-1"), info);
+    assertFalse(info.isPaused());
+
+    final PooledRawMessage lent2 = pool.lend(buildRawMessageBuffer(buffer, "Message-2"), info);
+    assertTrue(info.isPaused());
+    assertEquals(0, key.interestOps());
+
+    lent1.release();
+    assertFalse(info.isPaused());
+    assertEquals(SelectionKey.OP_READ, key.interestOps());
+
+    lent2.release();
+    assertEquals(0, info.outstanding());
+
+    pipe.source().close();
+    pipe.sink().close();
+    selector.close();
+  }
+
+  @Test
+  public void testReleaseTwiceFails() {
+    final RawMessagePool pool = new RawMessagePool(1, 1024);
+
+    final PooledRawMessage lent = pool.lend(buildRawMessageBuffer(buffer, "Message-1"));
+    lent.release();
+
+    boolean failed = false;
+    try {
+      lent.release();
+    } catch (IllegalStateException e) {
+      failed = true;
+    }
+
+    assertTrue(failed);
+    assertEquals(1, pool.available());
+  }
+}
@@ -0,0 +1,184 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.cluster.model.inbound;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.vlingo.cluster.model.AbstractClusterTest;
+import io.vlingo.cluster.model.node.Id;
+import io.vlingo.cluster.model.node.Node;
+import io.vlingo.cluster.model.outbound.SharedMemoryManagedOutboundChannel;
+import io.vlingo.common.message.RawMessage;
+
+public class SharedMemoryInboundReaderTest extends AbstractClusterTest {
+  private static final String OpMessage = "OP TEST ";
+
+  private File directory;
+  private SharedMemoryManagedOutboundChannel opChannel;
+  private SharedMemoryInboundReader opReader;
+  private Node node;
+
+  @Test
+  public void testRingConsumesFromPeer() throws Exception {
+    final MockInboundReaderConsumer consumer = new MockInboundReaderConsumer();
+
+    opReader.openFor(consumer);
+
+    final ByteBuffer buffer = ByteBuffer.allocate(properties.operationalBufferSize());
+
+    final String message1 = OpMessage + 1;
+    final RawMessage rawMessage1 = buildRawMessageBuffer(buffer, message1);
+    opChannel.write(bytesFrom(rawMessage1, buffer));
+
+    assertEquals(1, consumer.awaitConsumed(1, 1000L));
+    assertEquals(message1, consumer.messages.get(0));
+
+    final String message2 = OpMessage + 2;
+    final RawMessage rawMessage2 = buildRawMessageBuffer(buffer, message2);
+    opChannel.write(bytesFrom(rawMessage2, buffer));
+
+    assertEquals(2, consumer.awaitConsumed(2, 1000L));
+    assertEquals(message2, consumer.messages.get(1));
+    assertEquals(0, opChannel.dropped());
+  }
+
+  @Test
+  public void testRingWrapsAndFills() throws Exception {
+    final SharedMemoryRing ring = SharedMemoryRing.open(new File(directory, "wrap.ring"), 64);
+
+    final ByteBuffer buffer = ByteBuffer.allocate(properties.operationalBufferSize());
+
+    int offered = 0;
+    int polled = 0;
+
+    for (int round = 0; round < 10; ++round) {
+      while (ring.offer(bytesFrom(buildRawMessageBuffer(buffer, OpMessage + offered), buffer))) {
+        ++offered;
+      }
+      assertFalse(ring.isEmpty());
+
+      for (RawMessage message = ring.poll(); message != null; message = ring.poll()) {
+        assertEquals(OpMessage + polled, message.asTextMessage());
+        ++polled;
+      }
+      assertTrue(ring.isEmpty());
+    }
+
+    assertEquals(offered, polled);
+    assertTrue(offered > 10);
+  }
+
+  @Test
+  public void testRingHoldsFramesUpToItsCapacity() throws Exception {
+    final SharedMemoryRing ring = SharedMemoryRing.open(new File(directory, "bounds.ring"), 64);
+
+    // the frame header takes 4 of the 64 bytes
+    boolean rejected = false;
+    try {
+      ring.offer(ByteBuffer.allocate(61));
+    } catch (IllegalArgumentException e) {
+      rejected = true;
+    }
+    assertTrue(rejected);
+    assertTrue(ring.isEmpty());
+
+    final ByteBuffer buffer = ByteBuffer.allocate(properties.operationalBufferSize());
+
+    // moves the next frame to wrap around the end of the ring
+    assertTrue(ring.offer(bytesFrom(buildRawMessageBuffer(buffer, OpMessage + 1), buffer)));
+    assertEquals(OpMessage + 1, ring.poll().asTextMessage());
+
+    final String message = OpMessage + "ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+    assertTrue(ring.offer(bytesFrom(buildRawMessageBuffer(buffer, message), buffer)));
+    assertEquals(message, ring.poll().asTextMessage());
+    assertTrue(ring.isEmpty());
+  }
+
+  @Test
+  public void testClosedRingIsRemapped() throws Exception {
+    final ByteBuffer buffer = ByteBuffer.allocate(properties.operationalBufferSize());
+
+    final MockInboundReaderConsumer consumer1 = new MockInboundReaderConsumer();
+    opReader.openFor(consumer1);
+    opChannel.write(bytesFrom(buildRawMessageBuffer(buffer, OpMessage + 1), buffer));
+    assertEquals(1, consumer1.awaitConsumed(1, 1000L));
+    opReader.close();
+
+    final MockInboundReaderConsumer consumer2 = new MockInboundReaderConsumer();
+    opReader = reader();
+    opReader.openFor(consumer2);
+    opChannel.write(bytesFrom(buildRawMessageBuffer(buffer, OpMessage + 2), buffer));
+    assertEquals(1, consumer2.awaitConsumed(1, 1000L));
+
+    assertEquals(1, consumer1.consumeCount);
+    assertEquals(1, consumer2.consumeCount);
+    assertEquals(OpMessage + 2, consumer2.messages.get(0));
+    assertEquals(0, opChannel.dropped());
+  }
+
+  @Test
+  public void testStaleClosedRingIsReset() throws Exception {
+    final File file = new File(directory, "stale.ring");
+    final File link = new File(directory, "stale.link");
+    final ByteBuffer buffer = ByteBuffer.allocate(properties.operationalBufferSize());
+
+    final SharedMemoryRing writer = SharedMemoryRing.open(file, 64);
+    assertTrue(writer.offer(bytesFrom(buildRawMessageBuffer(buffer, OpMessage + 1), buffer)));
+
+    // a reader that closed the ring but died before deleting the file
+    Files.createLink(link.toPath(), file.toPath());
+    SharedMemoryRing.open(file, 64).close();
+    assertTrue(link.renameTo(file));
+    assertTrue(writer.isClosed());
+
+    final SharedMemoryRing reader = SharedMemoryRing.openToConsume(file, 64);
+    assertFalse(reader.isClosed());
+    assertFalse(writer.isClosed());
+    assertTrue(reader.isEmpty());
+
+    assertTrue(writer.offer(bytesFrom(buildRawMessageBuffer(buffer, OpMessage + 2), buffer)));
+    assertEquals(OpMessage + 2, reader.poll().asTextMessage());
+    assertTrue(reader.isEmpty());
+  }
+
+  @Before
+  public void setUp() throws Exception {
+    super.setUp();
+
+    directory = Files.createTempDirectory("vlingo-cluster-shm").toFile();
+    node = config.configuredNodeMatching(Id.of(2));
+    opChannel = new SharedMemoryManagedOutboundChannel(Id.of(1), node, node.operationalAddress(), directory, 4096);
+    opReader = reader();
+  }
+
+  @After
+  public void tearDown() {
+    opChannel.close();
+    opReader.close();
+
+    for (final File file : directory.listFiles()) {
+      file.delete();
+    }
+    directory.delete();
+  }
+
+  private SharedMemoryInboundReader reader() {
+    return new SharedMemoryInboundReader(new MockInboundReader(), node.operationalAddress(), Arrays.asList(Id.of(1)), directory, 4096, 1000L);
+  }
+}
@@ -0,0 +1,79 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.cluster.model.inbound;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.vlingo.cluster.model.AbstractClusterTest;
+import io.vlingo.cluster.model.inbound.SocketChannelInboundMultiReactor.Assignment;
+import io.vlingo.cluster.model.node.Id;
+import io.vlingo.cluster.model.node.Node;
+import io.vlingo.cluster.model.outbound.ManagedOutboundSocketChannel;
+import io.vlingo.common.message.RawMessage;
+
+public class SocketChannelInboundMultiReactorTest extends AbstractClusterTest {
+  private static final String AppMessage = "APP TEST ";
+
+  private ManagedOutboundSocketChannel appChannel1;
+  private ManagedOutboundSocketChannel appChannel2;
+  private InboundReader appReader;
+  private Node node;
+
+  @Test
+  public void testConnectionsReadByWorkers() throws Exception {
+    final MockInboundReaderConsumer consumer = new MockInboundReaderConsumer();
+
+    appReader.openFor(consumer);
+
+    final ByteBuffer buffer = ByteBuffer.allocate(properties.applicationBufferSize());
+
+    final String message1 = AppMessage + 1;
+    final RawMessage rawMessage1 = buildRawMessageBuffer(buffer, message1);
+    appChannel1.write(bytesFrom(rawMessage1, buffer));
+
+    assertEquals(1, consumer.awaitConsumed(1, 1000L));
+
+    final String message2 = AppMessage + 2;
+    final RawMessage rawMessage2 = buildRawMessageBuffer(buffer, message2);
+    appChannel2.write(bytesFrom(rawMessage2, buffer));
+
+    assertEquals(2, consumer.awaitConsumed(2, 1000L));
+    assertTrue(consumer.messages.contains(message1));
+    assertTrue(consumer.messages.contains(message2));
+  }
+
+  @Test
+  public void testAssignmentFromName() {
+    assertEquals(Assignment.LeastLoaded, Assignment.from("leastloaded"));
+    assertEquals(Assignment.RoundRobin, Assignment.from("RoundRobin"));
+  }
+
+  @Before
+  public void setUp() throws Exception {
+    super.setUp();
+
+    node = config.configuredNodeMatching(Id.of(2));
+    appChannel1 = new ManagedOutboundSocketChannel(node, node.applicationAddress());
+    appChannel2 = new ManagedOutboundSocketChannel(node, node.applicationAddress());
+    appReader = new SocketChannelInboundMultiReactor(node.applicationAddress().port(), "test-app", properties.applicationBufferSize(), RawMessagePool.None, false, 2, Assignment.RoundRobin);
+  }
+
+  @After
+  public void tearDown() {
+    appChannel1.close();
+    appChannel2.close();
+    appReader.close();
+  }
+}
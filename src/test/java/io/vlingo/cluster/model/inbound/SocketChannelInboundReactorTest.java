@@ -0,0 +1,71 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.cluster.model.inbound;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.vlingo.cluster.model.AbstractClusterTest;
+import io.vlingo.cluster.model.node.Id;
+import io.vlingo.cluster.model.node.Node;
+import io.vlingo.cluster.model.outbound.ManagedOutboundSocketChannel;
+import io.vlingo.common.message.RawMessage;
+
+public class SocketChannelInboundReactorTest extends AbstractClusterTest {
+  private static final String OpMessage = "OP TEST ";
+
+  private ManagedOutboundSocketChannel opChannel;
+  private InboundReader opReader;
+  private Node node;
+
+  @Test
+  public void testReactorConsumesWithoutProbing() throws Exception {
+    final MockInboundReaderConsumer consumer = new MockInboundReaderConsumer();
+
+    assertTrue(opReader.isReactive());
+
+    opReader.openFor(consumer);
+
+    final ByteBuffer buffer = ByteBuffer.allocate(properties.operationalBufferSize());
+
+    final String message1 = OpMessage + 1;
+    final RawMessage rawMessage1 = buildRawMessageBuffer(buffer, message1);
+    opChannel.write(bytesFrom(rawMessage1, buffer));
+
+    assertEquals(1, consumer.awaitConsumed(1, 1000L));
+    assertEquals(message1, consumer.messages.get(0));
+
+    final String message2 = OpMessage + 2;
+    final RawMessage rawMessage2 = buildRawMessageBuffer(buffer, message2);
+    opChannel.write(bytesFrom(rawMessage2, buffer));
+
+    assertEquals(2, consumer.awaitConsumed(2, 1000L));
+    assertEquals(message2, consumer.messages.get(1));
+  }
+
+  @Before
+  public void setUp() throws Exception {
+    super.setUp();
+
+    node = config.configuredNodeMatching(Id.of(2));
+    opChannel = new ManagedOutboundSocketChannel(node, node.operationalAddress());
+    opReader = new SocketChannelInboundReactor(node.operationalAddress().port(), "test-op", properties.operationalBufferSize());
+  }
+
+  @After
+  public void tearDown() {
+    opChannel.close();
+    opReader.close();
+  }
+}
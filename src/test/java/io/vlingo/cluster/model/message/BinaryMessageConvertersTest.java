@@ -0,0 +1,174 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.cluster.model.message;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.Test;
+
+import io.vlingo.cluster.model.AbstractClusterTest;
+import io.vlingo.cluster.model.node.Id;
+import io.vlingo.cluster.model.node.Name;
+import io.vlingo.cluster.model.node.Node;
+import io.vlingo.common.message.Converters;
+
+public class BinaryMessageConvertersTest extends AbstractClusterTest {
+
+  @Test
+  public void testBasicMessagesRoundTrip() {
+    final Id id = Id.of(3);
+
+    assertRoundTrip(new Elect(id));
+    assertRoundTrip(new Leader(id));
+    assertRoundTrip(new Leave(id));
+    assertRoundTrip(new Ping(id));
+    assertRoundTrip(new Pulse(id));
+    assertRoundTrip(new Split(id));
+    assertRoundTrip(new Sync(id));
+    assertRoundTrip(new Vote(id));
+  }
+
+  @Test
+  public void testDirectoryRoundTrip() {
+    final Set<Node> nodes = new TreeSet<>(config.allConfiguredNodes());
+    final Directory dir = new Directory(Id.of(3), new Name("node3"), nodes);
+
+    final OperationalMessage decoded = roundTrip(dir);
+
+    assertTrue(decoded.isDirectory());
+    assertEquals(dir, decoded);
+    assertEquals(Id.of(3), decoded.id());
+    assertEquals(new Name("node3"), ((Directory) decoded).name());
+    assertTrue(((Directory) decoded).isValid());
+  }
+
+  @Test
+  public void testDirectoryEpochRoundTrip() {
+    final Set<Node> nodes = new TreeSet<>(config.allConfiguredNodes());
+    final Directory dir = new Directory(Id.of(3), new Name("node3"), 1000L, 7, nodes);
+
+    assertEquals(7, ((Directory) roundTrip(dir)).epoch());
+    assertEquals(1000L, ((Directory) roundTrip(dir)).incarnation());
+
+    final ByteBuffer text = ByteBuffer.allocate(1000);
+    MessageConverters.messageToBytes(dir, text, BinaryMessageConverters.Version);
+    text.flip();
+
+    final Directory parsed = (Directory) OperationalMessage.messageFrom(text);
+
+    assertEquals(dir, parsed);
+    assertEquals(7, parsed.epoch());
+    assertEquals(1000L, parsed.incarnation());
+    assertEquals(BinaryMessageConverters.Version, OperationalMessage.codecVersionOf(text));
+  }
+
+  @Test
+  public void testDirectoryDeltaRoundTrip() {
+    final Set<Node> joined = new TreeSet<>();
+    joined.add(config.configuredNodeMatching(Id.of(2)));
+    final Set<Id> left = new TreeSet<>();
+    left.add(Id.of(1));
+    final DirectoryDelta delta = new DirectoryDelta(Id.of(3), new Name("node3"), 1000L, 12, joined, left);
+
+    final OperationalMessage decoded = roundTrip(delta);
+
+    assertTrue(decoded.isDirectoryDelta());
+    assertEquals(delta, decoded);
+
+    final ByteBuffer text = ByteBuffer.allocate(1000);
+    MessageConverters.messageToBytes(delta, text);
+    text.flip();
+
+    final DirectoryDelta parsed = (DirectoryDelta) OperationalMessage.messageFrom(text);
+
+    assertEquals(delta, parsed);
+    assertEquals(12, parsed.epoch());
+    assertEquals(1000L, parsed.incarnation());
+    assertEquals(new Name("node3"), parsed.name());
+    assertEquals(joined, parsed.joined());
+    assertEquals(left, parsed.left());
+  }
+
+  @Test
+  public void testJoinRoundTrip() {
+    final Node node = config.configuredNodeMatching(Id.of(1));
+    final Join join = new Join(node);
+
+    final OperationalMessage decoded = roundTrip(join);
+
+    assertTrue(decoded.isJoin());
+    assertEquals(join, decoded);
+    assertEquals(node.operationalAddress(), ((Join) decoded).node().operationalAddress());
+    assertEquals(node.applicationAddress(), ((Join) decoded).node().applicationAddress());
+  }
+
+  @Test
+  public void testCodecVersionDetection() {
+    final ByteBuffer binary = ByteBuffer.allocate(100);
+    BinaryMessageConverters.messageToBytes(new Pulse(Id.of(1)), binary);
+    binary.flip();
+
+    assertTrue(BinaryMessageConverters.isBinary(binary));
+    assertEquals(BinaryMessageConverters.Version, OperationalMessage.codecVersionOf(binary));
+
+    final ByteBuffer advertising = ByteBuffer.allocate(100);
+    MessageConverters.messageToBytes(new Pulse(Id.of(1)), advertising, BinaryMessageConverters.Version);
+    advertising.flip();
+
+    assertFalse(BinaryMessageConverters.isBinary(advertising));
+    assertEquals(BinaryMessageConverters.Version, OperationalMessage.codecVersionOf(advertising));
+    assertTrue(OperationalMessage.messageFrom(advertising).isPulse());
+
+    final ByteBuffer plain = ByteBuffer.wrap(Converters.textToBytes(MessageFixtures.directoryAsText(1, 2, 3)));
+
+    assertEquals(0, OperationalMessage.codecVersionOf(plain));
+    assertTrue(OperationalMessage.messageFrom(plain).isDirectory());
+  }
+
+  @Test
+  public void testAdvertisedTextParsesAsBefore() {
+    final Node node = config.configuredNodeMatching(Id.of(1));
+    final ByteBuffer buffer = ByteBuffer.allocate(1000);
+    MessageConverters.messageToBytes(new Join(node), buffer, BinaryMessageConverters.Version);
+    buffer.flip();
+
+    final String text = Converters.bytesToText(buffer.array(), 0, buffer.limit());
+
+    assertEquals(MessageFixtures.joinAsText() + " v=" + BinaryMessageConverters.Version, text);
+    assertEquals(new Join(node), OperationalMessage.messageFrom(text));
+  }
+
+  @Test
+  public void testBinaryCache() {
+    final OperationalMessageCache cache = OperationalMessageCache.binary(Id.of(1), new Name("node1"));
+
+    assertTrue(OperationalMessage.messageFrom(cache.cachedRawMessage(OperationalMessage.PING).asByteBuffer()).isPing());
+    assertTrue(OperationalMessage.messageFrom(cache.cachedRawMessage(OperationalMessage.PULSE).asByteBuffer()).isPulse());
+    assertTrue(OperationalMessage.messageFrom(cache.cachedRawMessage(OperationalMessage.JOIN).asByteBuffer()).isJoin());
+  }
+
+  private void assertRoundTrip(final OperationalMessage message) {
+    final OperationalMessage decoded = roundTrip(message);
+
+    assertEquals(message.getClass(), decoded.getClass());
+    assertEquals(message.id(), decoded.id());
+  }
+
+  private OperationalMessage roundTrip(final OperationalMessage message) {
+    final ByteBuffer buffer = ByteBuffer.allocate(properties.operationalBufferSize());
+    BinaryMessageConverters.messageToBytes(message, buffer);
+    buffer.flip();
+    return OperationalMessage.messageFrom(buffer);
+  }
+}
@@ -0,0 +1,128 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.cluster.model.message;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.Test;
+
+import io.vlingo.cluster.model.node.Address;
+import io.vlingo.cluster.model.node.AddressType;
+import io.vlingo.cluster.model.node.Id;
+import io.vlingo.cluster.model.node.Name;
+import io.vlingo.cluster.model.node.Node;
+
+public class DirectoryAssemblerTest {
+  private static final int MessageSize = 512;
+
+  @Test
+  public void testSmallDirectoryIsNotChunked() {
+    final Directory dir = directoryOf(3);
+
+    final List<Directory> chunks = MessageConverters.directoryChunksOf(dir, MessageSize, 1);
+
+    assertEquals(1, chunks.size());
+    assertEquals(dir, chunks.get(0));
+    assertEquals(dir, new DirectoryAssembler().assemble(chunks.get(0)));
+  }
+
+  @Test
+  public void testLargeDirectoryChunksFitAndReassemble() {
+    final Directory dir = directoryOf(500);
+
+    final List<Directory> chunks = MessageConverters.directoryChunksOf(dir, MessageSize, 7);
+
+    assertTrue(chunks.size() > 1);
+
+    final DirectoryAssembler assembler = new DirectoryAssembler();
+    final ByteBuffer buffer = ByteBuffer.allocate(MessageSize);
+
+    Directory assembled = null;
+
+    for (final Directory chunk : chunks) {
+      assertNull(assembled);
+
+      buffer.clear();
+      MessageConverters.messageToBytes(chunk, buffer, BinaryMessageConverters.Version);
+      buffer.flip();
+
+      final Directory parsed = (Directory) OperationalMessage.messageFrom(buffer);
+
+      assertEquals(7, parsed.transfer());
+      assertEquals(chunks.size(), parsed.total());
+
+      assembled = assembler.assemble(parsed);
+    }
+
+    assertEquals(dir, assembled);
+    assertEquals(dir.epoch(), assembled.epoch());
+  }
+
+  @Test
+  public void testBinaryChunksReassemble() {
+    final Directory dir = directoryOf(500);
+
+    final DirectoryAssembler assembler = new DirectoryAssembler();
+    final ByteBuffer buffer = ByteBuffer.allocate(MessageSize);
+
+    Directory assembled = null;
+
+    for (final Directory chunk : MessageConverters.directoryChunksOf(dir, MessageSize, 1)) {
+      buffer.clear();
+      BinaryMessageConverters.messageToBytes(chunk, buffer);
+      buffer.flip();
+
+      assembled = assembler.assemble((Directory) OperationalMessage.messageFrom(buffer));
+    }
+
+    assertEquals(dir, assembled);
+  }
+
+  @Test
+  public void testChunkOutOfSequenceAbandonsTransfer() {
+    final List<Directory> chunks = MessageConverters.directoryChunksOf(directoryOf(100), MessageSize, 1);
+    final List<Directory> retry = MessageConverters.directoryChunksOf(directoryOf(100), MessageSize, 2);
+
+    assertTrue(chunks.size() > 2);
+
+    final DirectoryAssembler assembler = new DirectoryAssembler();
+
+    assertNull(assembler.assemble(chunks.get(0)));
+    assertNull(assembler.assemble(chunks.get(2)));
+    assertNull(assembler.assemble(chunks.get(1)));
+
+    Directory assembled = null;
+
+    for (final Directory chunk : retry) {
+      assembled = assembler.assemble(chunk);
+    }
+
+    assertEquals(directoryOf(100), assembled);
+  }
+
+  private Directory directoryOf(final int count) {
+    final Set<Node> nodes = new TreeSet<>();
+
+    for (int idx = 1; idx <= count; ++idx) {
+      nodes.add(new Node(
+              Id.of(idx),
+              new Name("node" + idx),
+              Address.from("localhost:" + (30000 + idx * 2), AddressType.OP),
+              Address.from("localhost:" + (30001 + idx * 2), AddressType.APP)));
+    }
+
+    return new Directory(Id.of(count), new Name("node" + count), 9, nodes);
+  }
+}
@@ -0,0 +1,75 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.cluster.model.message;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import io.vlingo.cluster.model.node.Id;
+import io.vlingo.cluster.model.node.Name;
+
+public class DuplicateSaysDetectorTest {
+
+  @Test
+  public void testSequencedSaysIds() {
+    final ApplicationSays says1 = ApplicationSays.from(Id.of(1), new Name("node1"), "payload");
+    final ApplicationSays says2 = ApplicationSays.from(Id.of(1), new Name("node1"), "payload");
+
+    assertTrue(says2.saysSequence() > says1.saysSequence());
+    assertEquals(says1.saysSequence(), ApplicationSays.sequenceOf(says1.saysId()));
+    assertTrue(says1.saysId().length() <= 13);
+    assertEquals(-1, ApplicationSays.sequenceOf("6f1c7e6a-2b0e-4d9e-8f0a-1c2d3e4f5a6b"));
+  }
+
+  @Test
+  public void testDuplicatesDetected() {
+    final DuplicateSaysDetector detector = new DuplicateSaysDetector();
+    final Id node1 = Id.of(1);
+    final Id node2 = Id.of(2);
+
+    assertFalse(detector.isDuplicate(node1, 1000));
+    assertTrue(detector.isDuplicate(node1, 1000));
+    assertFalse(detector.isDuplicate(node2, 1000));
+
+    assertFalse(detector.isDuplicate(node1, 1003));
+    assertFalse(detector.isDuplicate(node1, 1001)); // late, within the window
+    assertTrue(detector.isDuplicate(node1, 1001));
+    assertFalse(detector.isDuplicate(node1, 1002));
+    assertTrue(detector.isDuplicate(node1, 1003));
+  }
+
+  @Test
+  public void testWindowSlides() {
+    final DuplicateSaysDetector detector = new DuplicateSaysDetector();
+    final Id node1 = Id.of(1);
+
+    final int window = DuplicateSaysDetector.WindowSize;
+
+    assertFalse(detector.isDuplicate(node1, 10));
+    assertFalse(detector.isDuplicate(node1, 11));
+    assertFalse(detector.isDuplicate(node1, 10 + window));
+    assertTrue(detector.isDuplicate(node1, 10)); // below the window
+    assertTrue(detector.isDuplicate(node1, 11)); // still within it
+    assertFalse(detector.isDuplicate(node1, 12)); // bit cleared as the window slid
+
+    assertFalse(detector.isDuplicate(node1, 10 + 3 * window));
+    assertFalse(detector.isDuplicate(node1, 11 + 2 * window));
+    assertTrue(detector.isDuplicate(node1, 11 + 2 * window));
+  }
+
+  @Test
+  public void testUnsequencedNeverDuplicate() {
+    final DuplicateSaysDetector detector = new DuplicateSaysDetector();
+
+    assertFalse(detector.isDuplicate(Id.of(1), -1));
+    assertFalse(detector.isDuplicate(Id.of(1), -1));
+  }
+}
@@ -7,12 +7,22 @@
 
 package io.vlingo.cluster.model.message;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
 import org.junit.Test;
 
+import io.vlingo.cluster.model.node.Address;
+import io.vlingo.cluster.model.node.AddressType;
 import io.vlingo.cluster.model.node.Id;
 import io.vlingo.cluster.model.node.Name;
+import io.vlingo.cluster.model.node.Node;
 import io.vlingo.common.message.RawMessage;
 
 public class OperationalMessageCacheTest {
@@ -73,4 +83,36 @@ public class OperationalMessageCacheTest {
     }
     assertTrue(caught);
   }
+
+  @Test
+  public void testCachedDirectory() {
+    final OperationalMessageCache cache = new OperationalMessageCache(Id.of(3), new Name("node3"));
+
+    assertNull(cache.cachedDirectory(1, 1000L, 1));
+
+    final Set<Node> nodes = new TreeSet<>();
+    nodes.add(new Node(Id.of(1), new Name("node1"), Address.from("localhost:37371", AddressType.OP), Address.from("localhost:37372", AddressType.APP)));
+    nodes.add(new Node(Id.of(3), new Name("node3"), Address.from("localhost:37375", AddressType.OP), Address.from("localhost:37376", AddressType.APP)));
+    final Directory dir = new Directory(Id.of(3), new Name("node3"), 1000L, 4, nodes);
+
+    final List<RawMessage> cached = cache.cacheDirectory(2, 1000L, 4, MessageConverters.directoryChunksOf(dir, 4096, 1), 4096);
+
+    assertEquals(1, cached.size());
+    assertEquals(dir, OperationalMessage.messageFrom(cached.get(0).asTextMessage()));
+    assertSame(cached, cache.cachedDirectory(2, 1000L, 4));
+    assertNull(cache.cachedDirectory(3, 1000L, 4));
+    assertNull(cache.cachedDirectory(2, 1000L, 5));
+    assertNull(cache.cachedDirectory(2, 2000L, 4));
+  }
+
+  @Test
+  public void testCachedSplit() {
+    final OperationalMessageCache cache = new OperationalMessageCache(Id.of(1), new Name("node1"));
+
+    final RawMessage split = cache.cachedSplit(Id.of(3));
+
+    assertEquals(new Split(Id.of(3)), OperationalMessage.messageFrom(split.asTextMessage()));
+    assertSame(split, cache.cachedSplit(Id.of(3)));
+    assertEquals(new Split(Id.of(2)), OperationalMessage.messageFrom(cache.cachedSplit(Id.of(2)).asTextMessage()));
+  }
 }
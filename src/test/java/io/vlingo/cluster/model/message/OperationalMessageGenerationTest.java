@@ -42,6 +42,8 @@ public class OperationalMessageGenerationTest {
     assertArrayEquals(expectedBuffer.array(), messageBuffer.array());
     
     assertEquals(app, ApplicationSays.from(raw));
+    assertEquals(app.saysId, ApplicationSays.from(raw).saysId);
+    assertEquals(app.saysSequence(), ApplicationSays.from(raw).saysSequence());
   }
 
   @Test
@@ -0,0 +1,196 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.cluster.model.message;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.Test;
+
+import io.vlingo.cluster.model.node.Id;
+import io.vlingo.cluster.model.node.Name;
+import io.vlingo.cluster.model.node.Node;
+import io.vlingo.common.message.Converters;
+import io.vlingo.common.message.RawMessage;
+
+public class OperationalMessageViewTest {
+  private final OperationalMessageView view = new OperationalMessageView();
+
+  @Test
+  public void testTextView() {
+    view.over(RawMessage.from(MessageFixtures.bytesFrom(OperationalMessage.PULSE + "\nid=3 v=1")));
+
+    assertEquals(OperationalMessage.PULSE, view.type());
+    assertEquals(Id.of(3), view.id());
+    assertEquals(Id.of(1), view.sender());
+    assertEquals(1, view.codecVersion());
+    assertFalse(view.isApp());
+
+    final OperationalMessage pulse = view.message();
+    assertTrue(pulse.isPulse());
+    assertEquals(Id.of(3), pulse.id());
+
+    view.over(RawMessage.from(MessageFixtures.bytesFrom(OperationalMessage.PULSE + "\nid=3")));
+
+    assertSame(pulse, view.message());
+    assertEquals(0, view.codecVersion());
+  }
+
+  @Test
+  public void testLeaderAndLeaveAreDistinct() {
+    view.over(RawMessage.from(MessageFixtures.bytesFrom(MessageFixtures.leaderAsText())));
+    assertTrue(view.message().isLeader());
+
+    view.over(RawMessage.from(MessageFixtures.bytesFrom(MessageFixtures.leaveAsText())));
+    assertTrue(view.message().isLeave());
+  }
+
+  @Test
+  public void testBinaryView() {
+    final ByteBuffer buffer = ByteBuffer.allocate(100);
+    BinaryMessageConverters.messageToBytes(new Ping(Id.of(2)), buffer);
+
+    view.over(Converters.toRawMessage((short) 2, buffer));
+
+    assertEquals(OperationalMessage.PING, view.type());
+    assertEquals(Id.of(2), view.id());
+    assertEquals(Id.of(2), view.sender());
+    assertEquals(BinaryMessageConverters.Version, view.codecVersion());
+    assertSame(view.message(), view.message());
+    assertTrue(view.message().isPing());
+  }
+
+  @Test
+  public void testKinds() {
+    final OperationalMessage[] messages = {
+      new Elect(Id.of(2)), new Leader(Id.of(2)), new Leave(Id.of(2)), new Ping(Id.of(2)),
+      new Pulse(Id.of(2)), new Split(Id.of(2)), new Sync(Id.of(2)), new Vote(Id.of(2)) };
+
+    for (final OperationalMessage message : messages) {
+      final ByteBuffer text = ByteBuffer.allocate(100);
+      MessageConverters.messageToBytes(message, text, 0);
+      view.over(Converters.toRawMessage((short) 2, text));
+      assertEquals(message.kind(), view.kind());
+      assertEquals(message.kind(), view.message().kind());
+
+      final ByteBuffer binary = ByteBuffer.allocate(100);
+      BinaryMessageConverters.messageToBytes(message, binary);
+      view.over(Converters.toRawMessage((short) 2, binary));
+      assertEquals(message.kind(), view.kind());
+      assertEquals(message, view.message());
+    }
+
+    for (final OperationalMessage.Kind kind : OperationalMessage.Kind.values()) {
+      assertEquals(kind, OperationalMessage.Kind.of(kind.type));
+    }
+
+    view.over(RawMessage.from(MessageFixtures.bytesFrom("PINGER\nid=3")));
+    assertNull(view.kind());
+    assertNull(OperationalMessage.messageFrom("PINGER\nid=3"));
+  }
+
+  @Test
+  public void testBinaryAppView() {
+    final ApplicationPayload payload = new ApplicationPayload() {
+      @Override public String toPayload() { return "payload"; }
+      @Override public void toBytes(final ByteBuffer buffer) { buffer.putInt(42); }
+    };
+    final ApplicationSays says = ApplicationSays.from(Id.of(2), new Name("node2"), payload);
+    final ByteBuffer buffer = ByteBuffer.allocate(100);
+    BinaryMessageConverters.messageToBytes(says, buffer);
+
+    view.over(Converters.toRawMessage((short) 2, buffer));
+
+    assertTrue(view.isApp());
+
+    final ApplicationSays received = (ApplicationSays) view.message();
+
+    assertEquals(new Name("node2"), received.name());
+    assertEquals(says.saysSequence(), received.saysSequence());
+    assertTrue(received.hasBinaryPayload());
+    assertEquals(says, received);
+    assertEquals(received, says);
+    assertEquals(says.hashCode(), received.hashCode());
+    assertNull(received.payload());
+
+    final ByteBuffer payloadBytes = ByteBuffer.allocate(4);
+    received.payloadToBytes(payloadBytes);
+    assertEquals(42, payloadBytes.getInt(0));
+  }
+
+  @Test
+  public void testFullyDecodedTypes() {
+    view.over(RawMessage.from(MessageFixtures.bytesFrom(MessageFixtures.directoryAsText(1, 2, 3))));
+
+    assertEquals(OperationalMessage.DIR, view.type());
+    assertEquals(3, ((Directory) view.message()).size());
+
+    final ApplicationSays says = ApplicationSays.from(Id.of(1), new Name("node1"), "payload");
+    final ByteBuffer buffer = ByteBuffer.allocate(1000);
+    MessageConverters.messageToBytes(says, buffer);
+
+    view.over(Converters.toRawMessage((short) 1, buffer));
+
+    assertTrue(view.isApp());
+    assertEquals("payload", ((ApplicationSays) view.message()).payload());
+  }
+
+  @Test
+  public void testTextNodesMessagesReadInPlace() {
+    final String joinText = MessageFixtures.joinAsText();
+    view.over(RawMessage.from(MessageFixtures.bytesFrom(joinText)));
+    final Join join = (Join) view.message();
+    assertEquals(OperationalMessage.messageFrom(joinText), join);
+    assertEquals(new Name(MessageFixtures.defaultNodeName), join.node().name());
+
+    final String dirText = MessageFixtures.directoryAsText(1, 2, 3);
+    view.over(RawMessage.from(MessageFixtures.bytesFrom(dirText)));
+    assertEquals(OperationalMessage.messageFrom(dirText), view.message());
+
+    final Set<Node> nodes = ((Directory) view.message()).nodes();
+    final Directory dir = new Directory(Id.of(3), new Name("node3"), 1000L, 9, nodes, 4, 2, 3);
+    final ByteBuffer dirBuffer = ByteBuffer.allocate(1000);
+    MessageConverters.messageToBytes(dir, dirBuffer);
+
+    view.over(Converters.toRawMessage((short) 3, dirBuffer));
+
+    final Directory dirRead = (Directory) view.message();
+    assertEquals(dir, dirRead);
+    assertEquals(new Name("node3"), dirRead.name());
+    assertEquals(1000L, dirRead.incarnation());
+    assertEquals(9, dirRead.epoch());
+    assertEquals(4, dirRead.transfer());
+    assertEquals(2, dirRead.sequence());
+    assertEquals(3, dirRead.total());
+
+    final Set<Node> joined = new TreeSet<>();
+    joined.add(nodes.iterator().next());
+    final DirectoryDelta delta = new DirectoryDelta(Id.of(3), new Name("node3"), 1000L, 10, joined, Collections.singleton(Id.of(2)));
+    final ByteBuffer deltaBuffer = ByteBuffer.allocate(1000);
+    MessageConverters.messageToBytes(delta, deltaBuffer);
+
+    view.over(Converters.toRawMessage((short) 3, deltaBuffer));
+
+    assertEquals(delta, view.message());
+  }
+
+  @Test
+  public void testIdsAreShared() {
+    assertSame(Id.of(7), Id.of(7));
+    assertEquals(Id.of(1000), Id.of(1000));
+    assertTrue(Id.NO_ID.hasNoId());
+  }
+}
@@ -0,0 +1,115 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.cluster.model.node;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.vlingo.actors.Definition;
+import io.vlingo.cluster.model.AbstractClusterTest;
+import io.vlingo.cluster.model.ClusterSnapshot;
+import io.vlingo.cluster.model.message.Directory;
+import io.vlingo.cluster.model.message.DirectoryDelta;
+import io.vlingo.cluster.model.outbound.MockOperationalOutboundStream;
+
+public class LocalLiveNodeActorTest extends AbstractClusterTest {
+  private static final long Incarnation = 1000L;
+
+  private Node leader;
+  private LocalLiveNode localLiveNode;
+  private MockOperationalOutboundStream outbound;
+  private LocalRegistry registry;
+
+  @Test
+  public void testNextEpochMerged() {
+    localLiveNode.handle(deltaOf(Incarnation, 6, Id.of(2)));
+
+    assertEquals(0, outbound.sync);
+    assertFalse(registry.hasMember(Id.of(2)));
+  }
+
+  @Test
+  public void testGapSyncs() {
+    localLiveNode.handle(deltaOf(Incarnation, 7, Id.of(2)));
+
+    assertEquals(1, outbound.sync);
+    assertEquals(leader.id(), outbound.syncLeaderNodeId);
+    assertTrue(registry.hasMember(Id.of(2)));
+  }
+
+  @Test
+  public void testDuplicateIgnored() {
+    localLiveNode.handle(deltaOf(Incarnation, 6, Id.of(2)));
+    localLiveNode.handle(deltaOf(Incarnation, 6, Id.of(2)));
+    localLiveNode.handle(deltaOf(Incarnation, 5, Id.of(1)));
+
+    assertEquals(1, outbound.sync); // only for epoch 5, older than the merged 6
+    assertTrue(registry.hasMember(Id.of(1)));
+  }
+
+  @Test
+  public void testOlderEpochSyncs() {
+    localLiveNode.handle(deltaOf(Incarnation, 3, Id.of(2)));
+
+    assertEquals(1, outbound.sync);
+    assertTrue(registry.hasMember(Id.of(2)));
+  }
+
+  @Test
+  public void testNewIncarnationSyncs() {
+    localLiveNode.handle(deltaOf(Incarnation + 1, 6, Id.of(2)));
+
+    assertEquals(1, outbound.sync);
+    assertTrue(registry.hasMember(Id.of(2)));
+
+    localLiveNode.handle(new Directory(leader.id(), leader.name(), Incarnation + 1, 1, allNodes()));
+    localLiveNode.handle(deltaOf(Incarnation + 1, 2, Id.of(2)));
+
+    assertEquals(1, outbound.sync);
+    assertFalse(registry.hasMember(Id.of(2)));
+  }
+
+  @Before
+  public void setUp() throws Exception {
+    super.setUp();
+
+    final Node local = config.configuredNodeMatching(Id.of(1));
+
+    leader = config.configuredNodeMatching(Id.of(3));
+    outbound = new MockOperationalOutboundStream();
+    registry = new LocalRegistry(local, config);
+
+    final ClusterSnapshot snapshot = new ClusterSnapshot() {
+      @Override public void quorumAchieved() { }
+      @Override public void quorumLost() { }
+    };
+
+    localLiveNode =
+            testWorld.actorFor(
+                    Definition.has(LocalLiveNodeActor.class, Definition.parameters(local, snapshot, registry, outbound, config)),
+                    LocalLiveNode.class).actor();
+
+    localLiveNode.handle(new Directory(leader.id(), leader.name(), Incarnation, 5, allNodes()));
+  }
+
+  private Set<Node> allNodes() {
+    return new TreeSet<>(config.allConfiguredNodes());
+  }
+
+  private DirectoryDelta deltaOf(final long incarnation, final long epoch, final Id leftId) {
+    return new DirectoryDelta(leader.id(), leader.name(), incarnation, epoch, Collections.<Node>emptySet(), Collections.singleton(leftId));
+  }
+}
@@ -9,15 +9,21 @@ package io.vlingo.cluster.model.node;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.Test;
 
 import io.vlingo.cluster.model.AbstractClusterTest;
+import io.vlingo.cluster.model.ClusterView;
 
 public class LocalRegistryTest extends AbstractClusterTest {
 
@@ -42,6 +48,137 @@ public class LocalRegistryTest extends AbstractClusterTest {
     assertEquals(2, registry.liveNodes().size());
   }
   
+  @Test
+  public void testCleanTouchesOnlyTimedOutNodes() {
+    final LocalRegistry registry = join3Nodes();
+    final MockRegistryInterest interest = new MockRegistryInterest();
+    registry.registerRegistryInterest(interest);
+
+    final long joined = registry.version();
+
+    for (int pulse = 0; pulse < 100; ++pulse) {
+      registry.updateLastHealthIndication(Id.of(pulse % 3 + 1));
+    }
+
+    registry.cleanTimedOutNodes();
+
+    assertEquals(3, registry.liveNodes().size());
+    assertEquals(joined, registry.version());
+    assertEquals(3, registry.livenessIndexSize());
+
+    registry.registeredNodeStatusOf(Id.of(2)).setLastHealthIndication(System.currentTimeMillis() - 70001);
+
+    registry.cleanTimedOutNodes();
+
+    assertEquals(2, registry.liveNodes().size());
+    assertFalse(registry.hasMember(Id.of(2)));
+    assertEquals(1, interest.informNodeTimedOut);
+    assertTrue(registry.version() > joined);
+  }
+
+  @Test
+  public void testHealthyNotificationsRateLimited() {
+    final LocalRegistry registry = join3Nodes();
+    final MockRegistryInterest interest = new MockRegistryInterest();
+    registry.registerRegistryInterest(interest);
+
+    registry.updateLastHealthIndication(Id.of(1));
+    registry.updateLastHealthIndication(Id.of(1));
+    registry.updateLastHealthIndication(Id.of(2));
+    registry.updateLastHealthIndication(Id.of(1));
+
+    assertEquals(2, interest.informNodeIsHealthy);
+  }
+
+  @Test
+  public void testLiveNodesSnapshot() {
+    final LocalRegistry registry = join3Nodes();
+
+    final Set<Node> liveNodes = registry.liveNodes();
+
+    registry.updateLastHealthIndication(idOf(1));
+    registry.declareLeaderAs(idOf(3));
+
+    assertSame(liveNodes, registry.liveNodes());
+
+    try {
+      liveNodes.add(nodeOf(4));
+      fail("The live nodes snapshot must be immutable.");
+    } catch (UnsupportedOperationException e) {
+      // expected
+    }
+
+    registry.leave(idOf(2));
+
+    assertNotSame(liveNodes, registry.liveNodes());
+    assertEquals(3, liveNodes.size());
+    assertEquals(2, registry.liveNodes().size());
+  }
+
+  @Test
+  public void testLeaderTracked() {
+    final LocalRegistry registry = join3Nodes();
+
+    assertFalse(registry.hasLeader());
+    assertEquals(Node.NO_NODE, registry.currentLeader());
+
+    registry.declareLeaderAs(idOf(3));
+    assertEquals(idOf(3), registry.currentLeader().id());
+
+    registry.declareLeaderAs(idOf(2));
+    assertEquals(idOf(2), registry.currentLeader().id());
+    assertFalse(registry.isLeader(idOf(3)));
+
+    registry.demoteLeaderOf(idOf(2));
+    assertFalse(registry.hasLeader());
+
+    registry.declareLeaderAs(idOf(1));
+    registry.leave(idOf(1));
+    assertFalse(registry.hasLeader());
+
+    registry.declareLeaderAs(idOf(3));
+    registry.mergeAllDirectoryEntries(Arrays.asList(nodeOf(2), nodeOf(3)));
+    assertEquals(idOf(3), registry.currentLeader().id());
+  }
+
+  @Test
+  public void testViewPublished() {
+    assertSame(ClusterView.Empty, new LocalRegistry(nodeOf(3), config).view());
+
+    final LocalRegistry registry = join3Nodes();
+    final ClusterView joined = registry.view();
+
+    assertEquals(3, joined.liveNodes().size());
+    assertTrue(joined.isLive(idOf(2)));
+    assertFalse(joined.hasLeader());
+    assertFalse(joined.isHealthy());
+
+    registry.declareLeaderAs(idOf(3));
+
+    final ClusterView led = registry.view();
+
+    assertTrue(led.hasChangedSince(joined.version()));
+    assertTrue(led.isLeader(idOf(3)));
+    assertEquals(registry.hasQuorum(), led.hasQuorum());
+    assertEquals(registry.hasQuorum(), led.isHealthy());
+
+    registry.updateLastHealthIndication(idOf(1));
+    registry.confirmAllLiveNodesByLeader();
+    registry.mergeAllDirectoryEntries(registry.liveNodes());
+
+    assertSame(led, registry.view());
+    assertFalse(registry.view().hasChangedSince(led.version()));
+
+    registry.leave(idOf(2));
+
+    final ClusterView left = registry.view();
+
+    assertTrue(left.version() > led.version());
+    assertFalse(left.isLive(idOf(2)));
+    assertEquals(nodeOf(1), left.nodeOf(idOf(1)));
+    assertEquals(3, led.liveNodes().size());
+  }
+
   @Test
   public void testConfirmAllLiveNodesByLeader() {
     final LocalRegistry registry = join3Nodes();
@@ -197,6 +334,71 @@ public class LocalRegistryTest extends AbstractClusterTest {
     assertTrue(inspectable2.joined());
   }
   
+  @Test
+  public void testMergeDirectoryDelta() {
+    final LocalRegistry registry = join3Nodes();
+
+    final MockRegistryInterest interest = new MockRegistryInterest();
+
+    registry.registerRegistryInterest(interest);
+
+    registry.mergeDirectoryDelta(Arrays.asList(nodeOf(2), nodeOf(4)), Arrays.asList(idOf(3)));
+
+    assertEquals(1, interest.informMergedAllDirectoryEntries);
+    assertEquals(3, interest.liveNodes.size());  // 1, 2, 4
+    assertEquals(2, interest.mergeResults.size()); // 4 joined, 3 left
+    assertTrue(registry.isConfirmedByLeader(idOf(2)));
+    assertTrue(registry.isConfirmedByLeader(idOf(4)));
+    assertFalse(registry.hasMember(idOf(3)));
+
+    registry.mergeDirectoryDelta(Arrays.asList(nodeOf(4)), Arrays.asList(idOf(3)));
+
+    assertEquals(1, interest.informMergedAllDirectoryEntries); // nothing changed
+  }
+
+  @Test
+  public void testVersionChangesWithLiveNodes() {
+    final LocalRegistry registry = join3Nodes();
+
+    final long joined = registry.version();
+
+    registry.join(nodeOf(2));
+    registry.declareLeaderAs(idOf(3));
+    registry.updateLastHealthIndication(idOf(1));
+
+    assertEquals(joined, registry.version());
+
+    registry.leave(idOf(2));
+
+    assertTrue(registry.version() > joined);
+
+    final long left = registry.version();
+
+    registry.mergeAllDirectoryEntries(registry.liveNodes());
+
+    assertEquals(left, registry.version());
+  }
+
+  @Test
+  public void testMergeAllDirectoryEntriesWithChangedNode() {
+    final LocalRegistry registry = join3Nodes();
+
+    final long joined = registry.version();
+    final ClusterView joinedView = registry.view();
+    final Set<Node> joinedNodes = registry.liveNodes();
+
+    final Node moved = new Node(idOf(2), new Name("node2"),
+            new Address("localhost", 2222, AddressType.OP), new Address("localhost", 2223, AddressType.APP));
+
+    registry.mergeAllDirectoryEntries(Arrays.asList(nodeOf(1), moved, nodeOf(3)));
+
+    assertTrue(registry.version() > joined);
+    assertNotSame(joinedNodes, registry.liveNodes());
+    assertNotSame(joinedView, registry.view());
+    assertEquals(moved, registry.registeredNodeStatusOf(idOf(2)).node());
+    assertEquals(moved, registry.view().nodeOf(idOf(2)));
+  }
+
   @Test
   public void testPromoteElectedLeader() {
     final LocalRegistry registry = join3Nodes();
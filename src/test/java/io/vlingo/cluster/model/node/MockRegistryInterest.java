@@ -19,6 +19,7 @@ public class MockRegistryInterest implements RegistryInterest {
   public int informNodeJoinedCluster;
   public int informNodeLeftCluster;
   public int informNodeTimedOut;
+  public int informOutboundCircuitState;
   
   public Collection<Node> liveNodes;
   public Collection<MergeResult> mergeResults;
@@ -74,4 +75,9 @@ public class MockRegistryInterest implements RegistryInterest {
   public void informNodeTimedOut(Node node, boolean isHealthyCluster) {
     ++informNodeTimedOut;
   }
+
+  @Override
+  public void informOutboundCircuitState(Node node, AddressType type, CircuitState state) {
+    ++informOutboundCircuitState;
+  }
 }
@@ -0,0 +1,171 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.cluster.model.outbound;
+
+import static org.junit.Assert.assertEquals;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+
+import io.vlingo.cluster.model.AbstractClusterTest;
+import io.vlingo.cluster.model.node.Id;
+import io.vlingo.common.message.ByteBufferPool;
+import io.vlingo.common.message.ByteBufferPool.PooledByteBuffer;
+import io.vlingo.common.message.RawMessage;
+
+public class CoalescingManagedOutboundChannelTest extends AbstractClusterTest {
+  private static final String Message = "COALESCE TEST ";
+
+  private final ByteBufferPool pool = new ByteBufferPool(10, 1024);
+
+  @Test
+  public void testFlushOnCount() {
+    final MockManagedOutboundChannel mock = new MockManagedOutboundChannel(Id.of(2));
+    final CoalescingManagedOutboundChannel channel = new CoalescingManagedOutboundChannel(mock, 3, 0);
+
+    write(channel, 1);
+    write(channel, 2);
+
+    assertEquals(2, channel.pending());
+    assertEquals(0, mock.writes.size());
+
+    write(channel, 3);
+
+    assertEquals(0, channel.pending());
+    assertEquals(3, mock.writes.size());
+    assertEquals(Message + 1, mock.writes.get(0));
+    assertEquals(Message + 3, mock.writes.get(2));
+  }
+
+  @Test
+  public void testFlushOnBytes() {
+    final MockManagedOutboundChannel mock = new MockManagedOutboundChannel(Id.of(2));
+    final CoalescingManagedOutboundChannel channel = new CoalescingManagedOutboundChannel(mock, 100, 1);
+
+    write(channel, 1);
+
+    assertEquals(0, channel.pending());
+    assertEquals(1, mock.writes.size());
+  }
+
+  @Test
+  public void testExplicitFlush() {
+    final MockManagedOutboundChannel mock = new MockManagedOutboundChannel(Id.of(2));
+    final CoalescingManagedOutboundChannel channel = new CoalescingManagedOutboundChannel(mock, 100, 0);
+
+    write(channel, 1);
+    write(channel, 2);
+
+    channel.flush();
+
+    assertEquals(0, channel.pending());
+    assertEquals(2, mock.writes.size());
+    assertEquals(Message + 2, mock.writes.get(1));
+
+    write(channel, 3);
+    channel.flush();
+
+    assertEquals(3, mock.writes.size());
+    assertEquals(Message + 3, mock.writes.get(2));
+  }
+
+  @Test
+  public void testFramesRetainedUntilFlushed() {
+    final MockManagedOutboundChannel mock = new MockManagedOutboundChannel(Id.of(2));
+    final CoalescingManagedOutboundChannel channel = new CoalescingManagedOutboundChannel(mock, 100, 0);
+
+    final OutboundFrame frame1 = frame(1);
+    final OutboundFrame frame2 = frame(2);
+
+    channel.write(frame1);
+    channel.write(frame2);
+
+    // as the outbound releases its own reference on return
+    frame1.release();
+    frame2.release();
+
+    assertEquals(1, frame1.references());
+    assertEquals(1, frame2.references());
+    assertEquals(0, mock.writes.size());
+
+    channel.flush();
+
+    assertEquals(0, frame1.references());
+    assertEquals(0, frame2.references());
+    assertEquals(Message + 1, mock.writes.get(0));
+    assertEquals(Message + 2, mock.writes.get(1));
+  }
+
+  @Test
+  public void testUnwrittenKeptForNextFlush() {
+    final MockManagedOutboundChannel mock = new MockManagedOutboundChannel(Id.of(2));
+    final CoalescingManagedOutboundChannel channel = new CoalescingManagedOutboundChannel(mock, 100, 0);
+
+    final OutboundFrame frame1 = frame(1);
+
+    channel.write(frame1);
+    frame1.release();
+    write(channel, 2);
+
+    mock.circuitOpen = true;
+    channel.flush();
+
+    assertEquals(2, channel.pending());
+    assertEquals(1, frame1.references());
+    assertEquals(0, mock.writes.size());
+
+    mock.circuitOpen = false;
+    channel.flush();
+
+    assertEquals(0, channel.pending());
+    assertEquals(0, frame1.references());
+    assertEquals(Message + 1, mock.writes.get(0));
+    assertEquals(Message + 2, mock.writes.get(1));
+  }
+
+  @Test
+  public void testUnwrittenOverflowDropsOldest() {
+    final MockManagedOutboundChannel mock = new MockManagedOutboundChannel(Id.of(2));
+    final CoalescingManagedOutboundChannel channel = new CoalescingManagedOutboundChannel(mock, 2, 0);
+
+    mock.circuitOpen = true;
+
+    final OutboundFrame frame1 = frame(1);
+    channel.write(frame1);
+    frame1.release();
+    write(channel, 2);
+
+    assertEquals(2, channel.pending());
+
+    write(channel, 3);
+
+    assertEquals(2, channel.pending());
+    assertEquals(1, channel.dropped());
+    assertEquals(0, frame1.references());
+
+    mock.circuitOpen = false;
+    channel.flush();
+
+    assertEquals(Message + 2, mock.writes.get(0));
+    assertEquals(Message + 3, mock.writes.get(1));
+  }
+
+  private OutboundFrame frame(final int index) {
+    final PooledByteBuffer buffer = pool.access();
+    final RawMessage message = buildRawMessageBuffer(ByteBuffer.allocate(1024), Message + index);
+    bytesFrom(message, buffer.buffer());
+    return new OutboundFrame(buffer, 1, false, 0);
+  }
+
+  private void write(final ManagedOutboundChannel channel, final int index) {
+    final ByteBuffer buffer = ByteBuffer.allocate(1024);
+    final RawMessage message = buildRawMessageBuffer(buffer, Message + index);
+    channel.write(bytesFrom(message, buffer));
+  }
+}
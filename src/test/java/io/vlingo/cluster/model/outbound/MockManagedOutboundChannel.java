@@ -9,6 +9,7 @@ package io.vlingo.cluster.model.outbound;
 
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import io.vlingo.cluster.model.node.Id;
@@ -16,7 +17,9 @@ import io.vlingo.common.message.RawMessage;
 
 public class MockManagedOutboundChannel implements ManagedOutboundChannel {
   public final Id id;
-  public final List<String> writes = new ArrayList<>();
+  // writes nothing, as a channel to a peer whose circuit is open
+  public boolean circuitOpen;
+  public final List<String> writes = Collections.synchronizedList(new ArrayList<>());
   
   public MockManagedOutboundChannel(final Id id) {
     this.id = id;
@@ -27,9 +30,26 @@ public class MockManagedOutboundChannel implements ManagedOutboundChannel {
     writes.clear();
   }
 
+  @Override
+  public void flush() {
+  }
+
   @Override
   public void write(final ByteBuffer buffer) {
+    if (circuitOpen) return;
     final RawMessage message = RawMessage.from(buffer);
     writes.add(message.asTextMessage());
   }
+
+  @Override
+  public void write(final ByteBuffer buffer, final int orderKey) {
+    write(buffer);
+  }
+
+  @Override
+  public void write(final ByteBuffer[] buffers, final int offset, final int length) {
+    for (int idx = offset; idx < offset + length; ++idx) {
+      write(buffers[idx]);
+    }
+  }
 }
@@ -7,8 +7,10 @@
 
 package io.vlingo.cluster.model.outbound;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import io.vlingo.cluster.model.Configuration;
@@ -16,6 +18,9 @@ import io.vlingo.cluster.model.node.Id;
 import io.vlingo.cluster.model.node.Node;
 
 public class MockManagedOutboundChannelProvider implements ManagedOutboundChannelProvider {
+  public final List<Id> closedIds = new ArrayList<>();
+  public int closeCount;
+
   private final Map<Id, ManagedOutboundChannel> allChannels = new HashMap<>();
   private final Configuration configuration;
   private Id localNodeId;
@@ -58,11 +63,11 @@ public class MockManagedOutboundChannelProvider implements ManagedOutboundChanne
 
   @Override
   public void close() {
-    
+    ++closeCount;
   }
 
   @Override
   public void close(final Id id) {
-    
+    closedIds.add(id);
   }
 }
@@ -0,0 +1,98 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.cluster.model.outbound;
+
+import java.util.Collection;
+import java.util.Set;
+
+import io.vlingo.cluster.model.message.ApplicationSays;
+import io.vlingo.cluster.model.node.Id;
+import io.vlingo.cluster.model.node.Node;
+
+public class MockOperationalOutboundStream implements OperationalOutboundStream {
+  public int directory;
+  public int directoryDelta;
+  public int sync;
+  public Id syncLeaderNodeId;
+
+  @Override
+  public void close(final Id id) { }
+
+  @Override
+  public void codecVersion(final Id id, final int version) { }
+
+  @Override
+  public void application(final ApplicationSays says, final Collection<Node> unconfirmedNodes) { }
+
+  @Override
+  public void directory(final Set<Node> allLiveNodes) {
+    ++directory;
+  }
+
+  @Override
+  public void directory(final Set<Node> allLiveNodes, final long incarnation, final long epoch, final long registryVersion) {
+    ++directory;
+  }
+
+  @Override
+  public void directory(final Set<Node> allLiveNodes, final long incarnation, final long epoch, final long registryVersion, final Id targetNodeId) {
+    ++directory;
+  }
+
+  @Override
+  public void directoryDelta(final Set<Node> joined, final Set<Id> left, final long incarnation, final long epoch) {
+    ++directoryDelta;
+  }
+
+  @Override
+  public void elect(final Collection<Node> allGreaterNodes) { }
+
+  @Override
+  public void join() { }
+
+  @Override
+  public void leader() { }
+
+  @Override
+  public void leader(final Id id) { }
+
+  @Override
+  public void leave() { }
+
+  @Override
+  public void open(final Id id) { }
+
+  @Override
+  public void ping(final Id targetNodeId) { }
+
+  @Override
+  public void pulse(final Id targetNodeId) { }
+
+  @Override
+  public void pulse() { }
+
+  @Override
+  public void split(final Id targetNodeId, final Id currentLeaderId) { }
+
+  @Override
+  public void sync(final Id leaderNodeId) {
+    ++sync;
+    syncLeaderNodeId = leaderNodeId;
+  }
+
+  @Override
+  public void vote(final Id targetNodeId) { }
+
+  @Override
+  public boolean isStopped() {
+    return false;
+  }
+
+  @Override
+  public void stop() { }
+}
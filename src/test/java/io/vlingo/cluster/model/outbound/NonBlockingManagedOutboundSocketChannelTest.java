@@ -0,0 +1,216 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.cluster.model.outbound;
+
+import static org.junit.Assert.assertEquals;
+
+import java.nio.ByteBuffer;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.vlingo.cluster.model.AbstractClusterTest;
+import io.vlingo.cluster.model.inbound.InboundReader;
+import io.vlingo.cluster.model.inbound.MockInboundReaderConsumer;
+import io.vlingo.cluster.model.inbound.SocketChannelInboundReader;
+import io.vlingo.cluster.model.node.Id;
+import io.vlingo.cluster.model.node.Node;
+import io.vlingo.cluster.model.outbound.NonBlockingManagedOutboundSocketChannel.OverflowPolicy;
+import io.vlingo.common.message.ByteBufferPool;
+import io.vlingo.common.message.ByteBufferPool.PooledByteBuffer;
+import io.vlingo.common.message.RawMessage;
+
+public class NonBlockingManagedOutboundSocketChannelTest extends AbstractClusterTest {
+  private static final String OpMessage = "OP TEST ";
+
+  private Node node;
+  private final ByteBufferPool pool = new ByteBufferPool(10, 1024);
+  private NonBlockingManagedOutboundSocketChannel opChannel;
+  private InboundReader opReader;
+  private OutboundSelector selector;
+  private OutboundSelector stalledSelector;
+
+  @Test
+  public void testOutboundOperationsChannel() throws Exception {
+    final MockInboundReaderConsumer consumer = new MockInboundReaderConsumer();
+
+    opReader.openFor(consumer);
+
+    final ByteBuffer buffer = ByteBuffer.allocate(properties.operationalBufferSize());
+
+    final String message1 = OpMessage + 1;
+    final RawMessage rawMessage1 = buildRawMessageBuffer(buffer, message1);
+    opChannel.write(bytesFrom(rawMessage1, buffer));
+
+    probeUntilConsumed(opReader, consumer, 1);
+
+    assertEquals(1, consumer.consumeCount);
+    assertEquals(message1, consumer.messages.get(0));
+
+    final String message2 = OpMessage + 2;
+    final RawMessage rawMessage2 = buildRawMessageBuffer(buffer, message2);
+    opChannel.write(bytesFrom(rawMessage2, buffer));
+
+    probeUntilConsumed(opReader, consumer, 2);
+
+    assertEquals(2, consumer.consumeCount);
+    assertEquals(message2, consumer.messages.get(1));
+    assertEquals(0, opChannel.queued());
+  }
+
+  @Test
+  public void testOverflowDropNew() throws Exception {
+    final NonBlockingManagedOutboundSocketChannel channel = stalledChannel(OverflowPolicy.DropNew);
+
+    writeMessages(channel, 3);
+
+    assertEquals(2, channel.queued());
+    assertEquals(1, channel.dropped());
+
+    channel.close();
+  }
+
+  @Test
+  public void testOverflowDropOldest() throws Exception {
+    final NonBlockingManagedOutboundSocketChannel channel = stalledChannel(OverflowPolicy.DropOldest);
+
+    writeMessages(channel, 3);
+
+    assertEquals(2, channel.queued());
+    assertEquals(1, channel.dropped());
+
+    channel.close();
+
+    assertEquals(0, channel.queued());
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testOverflowFail() throws Exception {
+    final NonBlockingManagedOutboundSocketChannel channel = stalledChannel(OverflowPolicy.Fail);
+
+    try {
+      writeMessages(channel, 3);
+    } finally {
+      channel.close();
+    }
+  }
+
+  @Test
+  public void testQueuedFramesRetainedUntilReleased() throws Exception {
+    final NonBlockingManagedOutboundSocketChannel channel = stalledChannel(OverflowPolicy.DropOldest);
+
+    final OutboundFrame frame1 = frame(1);
+    final OutboundFrame frame2 = frame(2);
+    final OutboundFrame frame3 = frame(3);
+
+    channel.write(frame1);
+    channel.write(frame2);
+
+    // queued by retaining the frames, which outlive the writer's reference
+    assertEquals(2, frame1.references());
+    frame1.release();
+    frame2.release();
+    assertEquals(1, frame1.references());
+
+    channel.write(frame3);
+    frame3.release();
+
+    // the oldest is dropped and released
+    assertEquals(2, channel.queued());
+    assertEquals(1, channel.dropped());
+    assertEquals(0, frame1.references());
+
+    channel.close();
+
+    assertEquals(0, frame2.references());
+    assertEquals(0, frame3.references());
+  }
+
+  @Test
+  public void testQueuedFramesWrittenInOrder() throws Exception {
+    final MockInboundReaderConsumer consumer = new MockInboundReaderConsumer();
+
+    opReader.openFor(consumer);
+
+    final OutboundFrame[] frames = { frame(1), frame(2) };
+    final ByteBuffer[] buffers = { frames[0].asByteBuffer(), frames[1].asByteBuffer() };
+
+    opChannel.write(frames, buffers, 0, 2);
+
+    // whatever was not written directly is queued, so nothing is left over
+    assertEquals(0, buffers[0].remaining() + buffers[1].remaining());
+
+    frames[0].release();
+    frames[1].release();
+
+    probeUntilConsumed(opReader, consumer, 2);
+
+    assertEquals(OpMessage + 1, consumer.messages.get(0));
+    assertEquals(OpMessage + 2, consumer.messages.get(1));
+
+    for (int idx = 0; idx < 100 && opChannel.queued() > 0; ++idx) {
+      Thread.sleep(10);
+    }
+
+    assertEquals(0, frames[0].references());
+    assertEquals(0, frames[1].references());
+  }
+
+  @Before
+  public void setUp() throws Exception {
+    super.setUp();
+
+    node = config.configuredNodeMatching(Id.of(2));
+    selector = new OutboundSelector("test");
+    opChannel = new NonBlockingManagedOutboundSocketChannel(node, node.operationalAddress(), selector, 10, OverflowPolicy.Fail);
+    opReader = new SocketChannelInboundReader(node.operationalAddress().port(), "test-op", properties.operationalBufferSize());
+
+    // never registers its channels, so nothing queued is ever sent
+    stalledSelector = new OutboundSelector("test-stalled");
+    stalledSelector.close();
+  }
+
+  @After
+  public void tearDown() {
+    opChannel.close();
+    opReader.close();
+    selector.close();
+  }
+
+  private void probeUntilConsumed(final InboundReader reader, final MockInboundReaderConsumer consumer, final int count) throws Exception {
+    for (int idx = 0; idx < 100; ++idx) {
+      reader.probeChannel();
+
+      if (consumer.consumeCount >= count) break;
+
+      Thread.sleep(10);
+    }
+  }
+
+  private OutboundFrame frame(final int index) {
+    final PooledByteBuffer buffer = pool.access();
+    final RawMessage message = buildRawMessageBuffer(ByteBuffer.allocate(properties.operationalBufferSize()), OpMessage + index);
+    bytesFrom(message, buffer.buffer());
+    return new OutboundFrame(buffer, 1, false, 0);
+  }
+
+  private NonBlockingManagedOutboundSocketChannel stalledChannel(final OverflowPolicy policy) {
+    final Node other = config.configuredNodeMatching(Id.of(3));
+    return new NonBlockingManagedOutboundSocketChannel(other, other.applicationAddress(), stalledSelector, 2, policy);
+  }
+
+  private void writeMessages(final NonBlockingManagedOutboundSocketChannel channel, final int count) {
+    final ByteBuffer buffer = ByteBuffer.allocate(properties.operationalBufferSize());
+
+    for (int idx = 1; idx <= count; ++idx) {
+      final RawMessage rawMessage = buildRawMessageBuffer(buffer, OpMessage + idx);
+      channel.write(bytesFrom(rawMessage, buffer));
+    }
+  }
+}
@@ -0,0 +1,150 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.cluster.model.outbound;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+
+import io.vlingo.cluster.model.AbstractClusterTest;
+import io.vlingo.cluster.model.node.Address;
+import io.vlingo.cluster.model.node.AddressType;
+import io.vlingo.cluster.model.node.CircuitState;
+import io.vlingo.cluster.model.node.Id;
+import io.vlingo.cluster.model.node.MockRegistryInterest;
+import io.vlingo.cluster.model.node.Node;
+
+public class OutboundCircuitBreakerTest extends AbstractClusterTest {
+
+  @Test
+  public void testOpenHalfOpenClosed() throws Exception {
+    final MockRegistryInterest interest = new MockRegistryInterest();
+    final Node node = config.configuredNodeMatching(Id.of(2));
+    final OutboundCircuitBreaker breaker = new OutboundCircuitBreaker(node, AddressType.OP, interest, 20, 40);
+
+    assertEquals(CircuitState.Closed, breaker.state());
+    assertTrue(breaker.allowsConnect());
+
+    breaker.failed();
+
+    assertEquals(CircuitState.Open, breaker.state());
+    assertEquals(1, breaker.failures());
+    assertFalse(breaker.allowsConnect());
+    assertEquals(1, interest.informOutboundCircuitState);
+
+    Thread.sleep(50);
+
+    assertTrue(breaker.allowsConnect());
+    assertEquals(CircuitState.HalfOpen, breaker.state());
+    assertFalse(breaker.allowsConnect());
+    assertEquals(2, interest.informOutboundCircuitState);
+
+    breaker.succeeded();
+
+    assertEquals(CircuitState.Closed, breaker.state());
+    assertEquals(0, breaker.failures());
+    assertTrue(breaker.allowsConnect());
+    assertEquals(3, interest.informOutboundCircuitState);
+  }
+
+  @Test
+  public void testSendsFailFastWhileOpen() throws Exception {
+    final MockRegistryInterest interest = new MockRegistryInterest();
+    final Node node = config.configuredNodeMatching(Id.of(3));
+    final OutboundCircuitBreaker breaker = new OutboundCircuitBreaker(node, AddressType.APP, interest, 60000, 60000);
+    final OutboundSelector selector = new OutboundSelector("test-breaker");
+
+    final NonBlockingManagedOutboundSocketChannel channel =
+            new NonBlockingManagedOutboundSocketChannel(
+                    node,
+                    node.applicationAddress(),
+                    selector,
+                    10,
+                    NonBlockingManagedOutboundSocketChannel.OverflowPolicy.Fail,
+                    breaker);
+
+    breaker.failed();
+
+    channel.write(ByteBuffer.wrap("APP TEST".getBytes()));
+
+    assertFalse(channel.isConnected());
+    assertEquals(0, channel.queued());
+    assertEquals(CircuitState.Open, breaker.state());
+
+    channel.close();
+    selector.close();
+  }
+
+  @Test
+  public void testPendingConnectTimesOut() throws Exception {
+    final MockRegistryInterest interest = new MockRegistryInterest();
+    final Node node = config.configuredNodeMatching(Id.of(3));
+    final OutboundCircuitBreaker breaker = new OutboundCircuitBreaker(node, AddressType.APP, interest, 60000, 60000);
+    final OutboundSelector selector = new OutboundSelector("test-connect-timeout");
+
+    // a non-routable address, so the connect neither completes nor is refused
+    final NonBlockingManagedOutboundSocketChannel channel =
+            new NonBlockingManagedOutboundSocketChannel(
+                    node,
+                    new Address("10.255.255.1", 37399, AddressType.APP),
+                    selector,
+                    10,
+                    NonBlockingManagedOutboundSocketChannel.OverflowPolicy.DropNew,
+                    breaker,
+                    50);
+
+    channel.write(ByteBuffer.wrap("APP TEST".getBytes()));
+
+    for (int idx = 0; idx < 100 && breaker.state() != CircuitState.Open; ++idx) {
+      Thread.sleep(10L);
+    }
+
+    assertFalse(channel.isConnected());
+    assertEquals(CircuitState.Open, breaker.state());
+    assertEquals(1, breaker.failures());
+
+    channel.close();
+    selector.close();
+  }
+
+  @Test
+  public void testHalfOpenConnectIsAsynchronous() throws Exception {
+    final MockRegistryInterest interest = new MockRegistryInterest();
+    final Node node = config.configuredNodeMatching(Id.of(3));
+    final OutboundCircuitBreaker breaker = new OutboundCircuitBreaker(node, AddressType.APP, interest, 1, 1);
+
+    // a non-routable address, so the connect neither completes nor is refused
+    final ManagedOutboundSocketChannel channel =
+            new ManagedOutboundSocketChannel(node, new Address("10.255.255.1", 37399, AddressType.APP), breaker, 50);
+
+    breaker.failed();
+    Thread.sleep(10L);
+
+    final long start = System.currentTimeMillis();
+
+    channel.write(ByteBuffer.wrap("APP TEST".getBytes()));
+
+    assertTrue(System.currentTimeMillis() - start < 50);
+    assertTrue(channel.isConnectPending());
+    assertEquals(CircuitState.HalfOpen, breaker.state());
+
+    Thread.sleep(60L);
+
+    channel.write(ByteBuffer.wrap("APP TEST".getBytes()));
+
+    // the trial has timed out, or completed where the network answers for the address
+    assertFalse(channel.isConnectPending());
+    assertTrue(breaker.state() != CircuitState.HalfOpen);
+
+    channel.close();
+  }
+}
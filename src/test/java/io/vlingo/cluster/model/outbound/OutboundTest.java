@@ -9,6 +9,7 @@ package io.vlingo.cluster.model.outbound;
 
 import static java.util.Arrays.asList;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import java.nio.ByteBuffer;
 import java.util.List;
@@ -82,6 +83,78 @@ public class OutboundTest extends AbstractClusterTest {
     }
   }
   
+  @Test
+  public void testBroadcastWithPeerWriters() throws Exception {
+    final Outbound writersOutbound =
+            new Outbound(channelProvider, new ByteBufferPool(10, 10_000), false, testWorld.world().stage());
+
+    final ByteBuffer buffer = ByteBuffer.allocate(properties.operationalBufferSize());
+    
+    final RawMessage rawMessage1 = buildRawMessageBuffer(buffer, Message1);
+    final RawMessage rawMessage2 = buildRawMessageBuffer(buffer, Message2);
+    final RawMessage rawMessage3 = buildRawMessageBuffer(buffer, Message3);
+    
+    writersOutbound.broadcast(rawMessage1);
+    writersOutbound.broadcast(rawMessage2);
+    writersOutbound.broadcast(rawMessage3);
+    
+    for (final ManagedOutboundChannel channel : channelProvider.allOtherNodeChannels().values()) {
+      final MockManagedOutboundChannel mock = (MockManagedOutboundChannel) channel;
+      
+      for (int idx = 0; idx < 10 && mock.writes.size() < 3; ++idx) {
+        pause();
+      }
+      
+      assertEquals(Message1, mock.writes.get(0));
+      assertEquals(Message2, mock.writes.get(1));
+      assertEquals(Message3, mock.writes.get(2));
+    }
+  }
+  
+  @Test
+  public void testCloseWithPeerWriters() throws Exception {
+    final Outbound writersOutbound =
+            new Outbound(channelProvider, new ByteBufferPool(10, 10_000), false, testWorld.world().stage());
+
+    final ByteBuffer buffer = ByteBuffer.allocate(properties.operationalBufferSize());
+
+    final Id id3 = Id.of(3);
+
+    final MockManagedOutboundChannel mock = (MockManagedOutboundChannel) channelProvider.channelFor(id3);
+
+    writersOutbound.sendTo(buildRawMessageBuffer(buffer, Message1), id3);
+
+    for (int idx = 0; idx < 10 && mock.writes.isEmpty(); ++idx) {
+      pause();
+    }
+
+    assertEquals(Message1, mock.writes.get(0));
+
+    writersOutbound.close(id3);
+
+    assertEquals(asList(id3), channelProvider.closedIds);
+
+    // the stopped writer closes its channel, which clears the mock's writes
+    for (int idx = 0; idx < 10 && !mock.writes.isEmpty(); ++idx) {
+      pause();
+    }
+
+    assertTrue(mock.writes.isEmpty());
+
+    // a new writer carries on over the channel the provider answers
+    writersOutbound.sendTo(buildRawMessageBuffer(buffer, Message2), id3);
+
+    for (int idx = 0; idx < 10 && mock.writes.isEmpty(); ++idx) {
+      pause();
+    }
+
+    assertEquals(Message2, mock.writes.get(0));
+
+    writersOutbound.close();
+
+    assertEquals(1, channelProvider.closeCount);
+  }
+
   @Test
   public void testBroadcastToSelectNodes() throws Exception {
     final ByteBuffer buffer = ByteBuffer.allocate(properties.operationalBufferSize());
@@ -0,0 +1,90 @@
+// Copyright © 2012-2018 Vaughn Vernon. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.cluster.model.outbound;
+
+import static org.junit.Assert.assertEquals;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.vlingo.cluster.model.AbstractClusterTest;
+import io.vlingo.cluster.model.node.Id;
+import io.vlingo.common.message.RawMessage;
+
+public class StripedManagedOutboundChannelTest extends AbstractClusterTest {
+  private static final String Message = "STRIPE TEST ";
+
+  private MockManagedOutboundChannel stripe0;
+  private MockManagedOutboundChannel stripe1;
+  private MockManagedOutboundChannel stripe2;
+  private StripedManagedOutboundChannel channel;
+
+  @Test
+  public void testUnkeyedKeepsOrder() {
+    for (int idx = 0; idx < 6; ++idx) {
+      channel.write(bytesFor(idx));
+    }
+
+    assertEquals(6, stripe0.writes.size());
+    assertEquals(0, stripe1.writes.size());
+    assertEquals(0, stripe2.writes.size());
+
+    for (int idx = 0; idx < 6; ++idx) {
+      assertEquals(Message + idx, stripe0.writes.get(idx));
+    }
+  }
+
+  @Test
+  public void testVaryingKeysRoundRobin() {
+    for (int idx = 0; idx < 6; ++idx) {
+      channel.write(bytesFor(idx), idx);
+    }
+
+    assertEquals(2, stripe0.writes.size());
+    assertEquals(2, stripe1.writes.size());
+    assertEquals(2, stripe2.writes.size());
+    assertEquals(Message + 0, stripe0.writes.get(0));
+    assertEquals(Message + 1, stripe1.writes.get(0));
+    assertEquals(Message + 3, stripe0.writes.get(1));
+  }
+
+  @Test
+  public void testOrderKeyKeepsOrder() {
+    for (int idx = 0; idx < 4; ++idx) {
+      channel.write(bytesFor(idx), 7);
+    }
+
+    channel.write(bytesFor(4), -7);
+
+    assertEquals(4, stripe1.writes.size());
+    assertEquals(0, stripe0.writes.size());
+    assertEquals(1, stripe2.writes.size());
+
+    for (int idx = 0; idx < 4; ++idx) {
+      assertEquals(Message + idx, stripe1.writes.get(idx));
+    }
+  }
+
+  @Before
+  public void setUp() throws Exception {
+    super.setUp();
+
+    stripe0 = new MockManagedOutboundChannel(Id.of(2));
+    stripe1 = new MockManagedOutboundChannel(Id.of(2));
+    stripe2 = new MockManagedOutboundChannel(Id.of(2));
+    channel = new StripedManagedOutboundChannel(new ManagedOutboundChannel[] { stripe0, stripe1, stripe2 });
+  }
+
+  private ByteBuffer bytesFor(final int index) {
+    final ByteBuffer buffer = ByteBuffer.allocate(1024);
+    final RawMessage message = buildRawMessageBuffer(buffer, Message + index);
+    return bytesFrom(message, buffer);
+  }
+}